@@ -0,0 +1,52 @@
+package minesweeper.benchmarks;
+
+/**
+ * Board dimensions and mine count parsed from a JMH parameter such as {@code "16x32:99"}.
+ * <p>
+ * The presets match the difficulties offered by {@code SettingsDialog}; the
+ * larger entries are custom boards used to measure scaling and mine density.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+final class BoardSpec {
+
+    /** Easy, Medium, Hard, and 1000x1000 boards at 15% and 60% mine density. */
+    static final String EASY = "9x9:10";
+    static final String MEDIUM = "16x16:40";
+    static final String HARD = "16x32:99";
+    static final String HUGE_SPARSE = "1000x1000:150000";
+    static final String HUGE_DENSE = "1000x1000:600000";
+
+    /** Fixed seed so every run benchmarks the same layouts. */
+    static final long SEED = 20251101L;
+
+    final int rows;
+    final int cols;
+    final int mines;
+
+    private BoardSpec(int rows, int cols, int mines) {
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+    }
+
+    /**
+     * Parses a {@code "ROWSxCOLS:MINES"} specification.
+     *
+     * @param spec the board specification
+     * @return the parsed {@code BoardSpec}
+     */
+    static BoardSpec parse(String spec) {
+        int x = spec.indexOf('x');
+        int colon = spec.indexOf(':');
+        return new BoardSpec(
+                Integer.parseInt(spec.substring(0, x)),
+                Integer.parseInt(spec.substring(x + 1, colon)),
+                Integer.parseInt(spec.substring(colon + 1)));
+    }
+}
@@ -0,0 +1,53 @@
+package minesweeper.benchmarks;
+
+import minesweeper.BoardEngine;
+import minesweeper.MineField;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a whole game: mine placement followed by a perfect player that
+ * reveals every safe cell in row-major order until the board is cleared.
+ * Each invocation uses the next seed, so runs are reproducible.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    @Param({BoardSpec.EASY, BoardSpec.MEDIUM, BoardSpec.HARD, BoardSpec.HUGE_SPARSE, BoardSpec.HUGE_DENSE})
+    public String board;
+
+    private BoardSpec spec;
+
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        spec = BoardSpec.parse(board);
+        seed = BoardSpec.SEED;
+    }
+
+    @Benchmark
+    public boolean playGame() {
+        MineField field = new MineField(spec.rows, spec.cols, spec.mines, seed++);
+        BoardEngine engine = field.getEngine();
+        boolean won = engine.getMineCount() == engine.getCellCount();
+        for (int i = 0; i < engine.getCellCount() && !won; i++) {
+            if (engine.isMine(i) || engine.isRevealed(i)) continue;
+            won = field.checkMine(engine.rowOf(i), engine.colOf(i));
+        }
+        return won;
+    }
+}
@@ -0,0 +1,56 @@
+package minesweeper.benchmarks;
+
+import minesweeper.MineTile;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MineTile#getNeighbourTiles(int, int, MineTile[][])} over every
+ * tile of the board, the neighbour walk used by the original Swing game logic.
+ * <p>
+ * Only the preset sizes are measured since every tile is a Swing component.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class NeighbourBenchmark {
+
+    @Param({BoardSpec.EASY, BoardSpec.MEDIUM, BoardSpec.HARD})
+    public String board;
+
+    private BoardSpec spec;
+
+    private MineTile[][] tiles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        spec = BoardSpec.parse(board);
+        tiles = new MineTile[spec.rows][spec.cols];
+        for (int r = 0; r < spec.rows; r++) {
+            for (int c = 0; c < spec.cols; c++) {
+                tiles[r][c] = new MineTile(r, c);
+            }
+        }
+    }
+
+    @Benchmark
+    public void getNeighbourTiles(Blackhole bh) {
+        for (MineTile[] row : tiles) {
+            for (MineTile tile : row) {
+                bh.consume(tile.getNeighbourTiles(spec.rows, spec.cols, tiles));
+            }
+        }
+    }
+}
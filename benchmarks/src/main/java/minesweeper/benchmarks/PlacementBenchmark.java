@@ -0,0 +1,44 @@
+package minesweeper.benchmarks;
+
+import minesweeper.BoardEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mine placement ({@code setMines}) including the adjacency table,
+ * which is what every new game pays before the first click.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementBenchmark {
+
+    @Param({BoardSpec.EASY, BoardSpec.MEDIUM, BoardSpec.HARD, BoardSpec.HUGE_SPARSE, BoardSpec.HUGE_DENSE})
+    public String board;
+
+    private BoardSpec spec;
+
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        spec = BoardSpec.parse(board);
+        seed = BoardSpec.SEED;
+    }
+
+    @Benchmark
+    public BoardEngine newBoard() {
+        return new BoardEngine(spec.rows, spec.cols, spec.mines, seed++);
+    }
+}
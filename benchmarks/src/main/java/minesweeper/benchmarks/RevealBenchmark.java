@@ -0,0 +1,70 @@
+package minesweeper.benchmarks;
+
+import minesweeper.BoardEngine;
+import minesweeper.MineField;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single {@code checkMine} on a fresh board: the click lands on the
+ * first cell with no adjacent mines, so on sparse boards this is a large
+ * flood-fill opening.
+ * <p>
+ * Each invocation needs an unrevealed board, so the board is rebuilt in an
+ * invocation-level setup that JMH excludes from the measured time.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RevealBenchmark {
+
+    @Param({BoardSpec.EASY, BoardSpec.MEDIUM, BoardSpec.HARD, BoardSpec.HUGE_SPARSE, BoardSpec.HUGE_DENSE})
+    public String board;
+
+    private BoardSpec spec;
+
+    private MineField field;
+
+    private int clickRow;
+
+    private int clickCol;
+
+    @Setup(Level.Trial)
+    public void parse() {
+        spec = BoardSpec.parse(board);
+    }
+
+    @Setup(Level.Invocation)
+    public void newField() {
+        field = new MineField(spec.rows, spec.cols, spec.mines, BoardSpec.SEED);
+        BoardEngine engine = field.getEngine();
+
+        int click = -1;
+        for (int i = 0; i < engine.getCellCount(); i++) {
+            if (engine.isMine(i)) continue;
+            if (click < 0) click = i;
+            if (engine.getAdjacentMines(i) == 0) {
+                click = i;
+                break;
+            }
+        }
+        clickRow = engine.rowOf(click);
+        clickCol = engine.colOf(click);
+    }
+
+    @Benchmark
+    public boolean checkMine() {
+        return field.checkMine(clickRow, clickCol);
+    }
+}
@@ -0,0 +1,209 @@
+package minesweeper.benchmarks;
+
+import minesweeper.GameServer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test for {@link GameServer}: many bots play games concurrently over HTTP and
+ * the latency of every move is reported as percentiles.
+ * <p>
+ * Every bot creates a game, reveals random cells it has not seen opened until the
+ * game ends, deletes the game and starts the next one. Bots are chains of
+ * asynchronous requests on one {@link HttpClient}, so tens of thousands of them
+ * need no thread each. Without a URL the test starts a server in the same JVM on
+ * a free port.
+ * <p>
+ * Usage: {@code ServerLoadTest bots gamesPerBot [rows cols mines] [url]}
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public final class ServerLoadTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final String baseUrl;
+    private final int rows;
+    private final int cols;
+    private final int mines;
+
+    /** Requests that failed or answered with an error status. */
+    private final AtomicLong errors = new AtomicLong();
+
+    private ServerLoadTest(String baseUrl, int rows, int cols, int mines) {
+        this.baseUrl = baseUrl;
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+    }
+
+    /**
+     * State of one bot. Only one request of a bot is in flight at a time, so its
+     * fields are never accessed concurrently.
+     */
+    private final class Bot {
+
+        final SplittableRandom random;
+        final boolean[] opened = new boolean[rows * cols];
+        long[] latencies = new long[1024];
+        int moves;
+        int gamesLeft;
+        String game;
+
+        Bot(long seed, int games) {
+            this.random = new SplittableRandom(seed);
+            this.gamesLeft = games;
+        }
+
+        /** Plays all games of this bot. */
+        CompletableFuture<Void> run() {
+            if (gamesLeft-- == 0) return CompletableFuture.completedFuture(null);
+            Arrays.fill(opened, false);
+            return post("/games?rows=" + rows + "&cols=" + cols + "&mines=" + mines + "&seed=" + random.nextLong())
+                    .thenCompose(body -> {
+                        game = "/games/" + field(body, "\"id\":");
+                        return play();
+                    })
+                    .thenCompose(done -> send(HttpRequest.newBuilder(URI.create(baseUrl + game)).DELETE().build()))
+                    .thenCompose(body -> run());
+        }
+
+        /** Reveals random cells until the game ends. */
+        CompletableFuture<Void> play() {
+            int index = random.nextInt(opened.length);
+            while (opened[index]) index = random.nextInt(opened.length);
+            long start = System.nanoTime();
+            return post(game + "/reveal?row=" + index / cols + "&col=" + index % cols).thenCompose(body -> {
+                record(System.nanoTime() - start);
+                if (body.contains("\"MINE\"") || body.contains("\"WON\"") || body.isEmpty()) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                markOpened(body);
+                return play();
+            });
+        }
+
+        /** Marks the revealed cells of a move response. */
+        void markOpened(String body) {
+            int at = body.indexOf("\"cells\":[") + 8;
+            while ((at = body.indexOf('[', at + 1)) >= 0) {
+                int comma = body.indexOf(',', at);
+                int close = body.indexOf(']', comma);
+                int cell = Integer.parseInt(body, at + 1, comma, 10);
+                int state = Integer.parseInt(body, comma + 1, close, 10);
+                if (state <= 8) opened[cell] = true;
+                at = close;
+            }
+        }
+
+        void record(long nanos) {
+            if (moves == latencies.length) latencies = Arrays.copyOf(latencies, moves * 2);
+            latencies[moves++] = nanos;
+        }
+    }
+
+    private CompletableFuture<String> post(String path) {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).POST(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    /**
+     * Sends a request and returns its body, or an empty string if it failed.
+     */
+    private CompletableFuture<String> send(HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    if (error != null || response.statusCode() >= 400) {
+                        errors.incrementAndGet();
+                        return "";
+                    }
+                    return response.body();
+                });
+    }
+
+    /** Returns the number following a key in a JSON object, or {@code -1}. */
+    private static long field(String body, String key) {
+        int at = body.indexOf(key);
+        if (at < 0) return -1;
+        int start = at + key.length();
+        int end = start;
+        while (end < body.length() && Character.isDigit(body.charAt(end))) end++;
+        return Long.parseLong(body, start, end, 10);
+    }
+
+    /** Returns the given percentile of sorted values. */
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(sorted.length * percentile / 100) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+    }
+
+    /**
+     * Runs the load test from the command line.
+     *
+     * @param args command-line arguments
+     * @throws Exception if the in-process server cannot be started
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ServerLoadTest bots gamesPerBot [rows cols mines] [url]");
+            System.exit(1);
+        }
+        // Let the client resend moves on pooled connections the server has just closed.
+        System.setProperty("jdk.httpclient.enableAllMethodRetry", "true");
+        int bots = Integer.parseInt(args[0]);
+        int games = Integer.parseInt(args[1]);
+        int rows = args.length > 4 ? Integer.parseInt(args[2]) : 16;
+        int cols = args.length > 4 ? Integer.parseInt(args[3]) : 30;
+        int mines = args.length > 4 ? Integer.parseInt(args[4]) : 99;
+        String url = args.length == 3 ? args[2] : args.length > 5 ? args[5] : null;
+
+        GameServer server = null;
+        if (url == null) {
+            server = new GameServer(0, 60_000);
+            server.start();
+            url = "http://127.0.0.1:" + server.getPort();
+        }
+
+        ServerLoadTest test = new ServerLoadTest(url, rows, cols, mines);
+        Bot[] all = new Bot[bots];
+        CompletableFuture<?>[] running = new CompletableFuture<?>[bots];
+        long start = System.nanoTime();
+        for (int b = 0; b < bots; b++) {
+            all[b] = test.new Bot(b, games);
+            running[b] = all[b].run();
+        }
+        try {
+            CompletableFuture.allOf(running).join();
+        } finally {
+            if (server != null) server.stop();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int total = 0;
+        for (Bot bot : all) total += bot.moves;
+        long[] latencies = new long[total];
+        int n = 0;
+        for (Bot bot : all) {
+            System.arraycopy(bot.latencies, 0, latencies, n, bot.moves);
+            n += bot.moves;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("%d bots, %d games of %dx%d with %d mines: %d moves in %.2f s (%.0f moves/s), %d errors%n",
+                bots, (long) bots * games, rows, cols, mines, total, seconds, total / seconds, test.errors.get());
+        System.out.printf("move latency: p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms%n",
+                percentile(latencies, 50) / 1e6, percentile(latencies, 99) / 1e6,
+                percentile(latencies, 99.9) / 1e6, percentile(latencies, 100) / 1e6);
+    }
+}
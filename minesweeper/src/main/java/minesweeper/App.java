@@ -0,0 +1,10 @@
+package minesweeper;
+
+import javax.swing.SwingUtilities;
+
+public class App {
+
+    public static void main(String[] args) {
+        SwingUtilities.invokeLater(Minesweeper::new);
+    }
+}
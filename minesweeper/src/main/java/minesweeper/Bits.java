@@ -0,0 +1,65 @@
+package minesweeper;
+
+/**
+ * Static helpers for bitsets stored as {@code long[]} words, shared by the
+ * headless engine classes.
+ * <p>
+ * Plain arrays are used instead of {@link java.util.BitSet} so that the owning
+ * class controls allocation and can reuse the same words between games.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+final class Bits {
+
+    private Bits() {
+    }
+
+    /**
+     * Returns the number of {@code long} words needed to hold {@code size} bits.
+     *
+     * @param size number of bits
+     * @return number of words
+     */
+    static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Returns the index of the first set bit at or after {@code from}.
+     *
+     * @param bits the bitset
+     * @param from first index to examine
+     * @param size number of valid bits
+     * @return index of the next set bit, or {@code -1} if there is none
+     */
+    static int nextSetBit(long[] bits, int from, int size) {
+        if (from >= size) return -1;
+        int w = from >>> 6;
+        long word = bits[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                return index < size ? index : -1;
+            }
+            if (++w >= bits.length) return -1;
+            word = bits[w];
+        }
+    }
+}
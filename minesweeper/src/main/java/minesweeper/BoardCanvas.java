@@ -0,0 +1,270 @@
+package minesweeper;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * The {@code BoardCanvas} class is a lightweight, virtualized renderer for the
+ * Minesweeper board.
+ * <p>
+ * Instead of one {@link MineTile} button per cell, the whole board is a single
+ * component. It keeps its own copy of what every cell shows, one byte per cell in
+ * the {@link BoardDelta} state codes, and is updated only through
+ * {@link #apply(BoardDelta)}. The engine itself can therefore be changed on the
+ * game thread while the canvas paints. Only the cells intersecting the current
+ * clip are painted, so when the canvas is placed in a {@link JScrollPane} the
+ * cost of a paint depends on the viewport, not on the board size.
+ *
+ * <p>
+ * Mouse coordinates are mapped to cells with {@link #cellAt(int, int)}, and every
+ * applied delta repaints only the rectangle enclosing its cells. Each cell is
+ * painted with one blit from the shared {@link GlyphAtlas}. Clearing the canvas
+ * for a new game only starts a new generation; each row is hidden again when it
+ * is next painted or changed, so a new game costs nothing per cell. An optional heat map
+ * tints every unopened cell by its probability of being a mine.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class BoardCanvas extends JComponent implements Scrollable {
+
+    /** Number of rows on the board. */
+    private final int numRows;
+
+    /** Number of columns on the board. */
+    private final int numCols;
+
+    /** What every cell shows, as a {@link BoardDelta} state code. Rows are valid only if stamped with {@link #generation}. */
+    private final byte[] cells;
+
+    /** Generation in which each row of {@link #cells} was last written. */
+    private final int[] rowStamps;
+
+    /** Current generation; incrementing it hides every cell at once. */
+    private int generation = 0;
+
+    /** Pixel size of every cell. */
+    private final int tileSize;
+
+    /** Clip rectangle reused by every paint. */
+    private final Rectangle clip = new Rectangle();
+
+    /** Hidden cell highlighted by the hint button, or {@code -1}. */
+    private int hintCell = -1;
+
+    /** Mine probability of every cell from {@link ProbabilityEngine}, or {@code null} if the heat map is off. */
+    private float[] heat;
+
+    /**
+     * Constructs a canvas for a board of the given size with every cell hidden.
+     *
+     * @param rows     number of rows on the board
+     * @param cols     number of columns on the board
+     * @param tileSize pixel size of every cell
+     */
+    public BoardCanvas(int rows, int cols, int tileSize) {
+        this.numRows = rows;
+        this.numCols = cols;
+        this.cells = new byte[rows * cols];
+        this.rowStamps = new int[rows];
+        this.tileSize = tileSize;
+        setOpaque(true);
+        Arrays.fill(cells, BoardDelta.HIDDEN);
+    }
+
+    /**
+     * Hides every cell, clears the hint and repaints the whole canvas. Rows are
+     * hidden lazily, so this takes constant time regardless of the board size.
+     */
+    public void clear() {
+        if (++generation == 0) {
+            Arrays.fill(cells, BoardDelta.HIDDEN);
+            Arrays.fill(rowStamps, 0);
+        }
+        hintCell = -1;
+        heat = null;
+        repaint();
+    }
+
+    /**
+     * Copies what every cell shows from an engine, for example one loaded from a
+     * snapshot. The engine must not be changed concurrently.
+     *
+     * @param engine the board to copy, of the same size as this canvas
+     */
+    public void load(BoardEngine engine) {
+        for (int index = 0; index < cells.length; index++) {
+            if (engine.isRevealed(index) && !engine.isMine(index)) {
+                cells[index] = (byte) engine.getAdjacentMines(index);
+            } else if (engine.isGameOver() && engine.isMine(index)) {
+                cells[index] = BoardDelta.MINE;
+            } else {
+                cells[index] = engine.isFlagged(index) ? BoardDelta.FLAGGED : BoardDelta.HIDDEN;
+            }
+        }
+        Arrays.fill(rowStamps, generation);
+        hintCell = -1;
+        repaint();
+    }
+
+    /**
+     * Applies the changes of one or more moves and repaints the rectangle enclosing them.
+     *
+     * @param delta the changed cells and their new states
+     */
+    public void apply(BoardDelta delta) {
+        if (delta.isEmpty()) return;
+        for (int n = 0; n < delta.size(); n++) {
+            int index = delta.getIndex(n);
+            syncRow(index / numCols);
+            cells[index] = delta.getState(n);
+        }
+        repaintRegion(delta.getMinRow(), delta.getMinCol(), delta.getMaxRow(), delta.getMaxCol());
+    }
+
+    /**
+     * Highlights a hidden cell suggested by the solver, clearing any previous hint.
+     *
+     * @param index linear cell index, or {@code -1} to clear the hint
+     */
+    public void setHintCell(int index) {
+        if (hintCell >= 0) repaintCell(hintCell);
+        hintCell = index;
+        if (hintCell >= 0) repaintCell(hintCell);
+    }
+
+    /**
+     * Shows or hides the mine probability heat map and repaints the whole canvas.
+     *
+     * @param probabilities mine probability of every cell, {@code -1} for revealed
+     *                      cells, or {@code null} to hide the heat map
+     */
+    public void setHeatMap(float[] probabilities) {
+        heat = probabilities;
+        repaint();
+    }
+
+    /**
+     * Hides a row again if it was last written in an earlier generation.
+     *
+     * @param row row index
+     */
+    private void syncRow(int row) {
+        if (rowStamps[row] == generation) return;
+        rowStamps[row] = generation;
+        Arrays.fill(cells, row * numCols, (row + 1) * numCols, BoardDelta.HIDDEN);
+    }
+
+    /**
+     * Maps a point in canvas coordinates to the linear index of the cell under it.
+     *
+     * @param x horizontal pixel position
+     * @param y vertical pixel position
+     * @return linear cell index, or {@code -1} if the point is outside the board
+     */
+    public int cellAt(int x, int y) {
+        if (x < 0 || y < 0) return -1;
+        int col = x / tileSize;
+        int row = y / tileSize;
+        if (row >= numRows || col >= numCols) return -1;
+        return row * numCols + col;
+    }
+
+    /**
+     * Requests a repaint of a single cell.
+     *
+     * @param index linear cell index
+     */
+    public void repaintCell(int index) {
+        repaint(index % numCols * tileSize, index / numCols * tileSize, tileSize, tileSize);
+    }
+
+    /**
+     * Requests a single repaint of the rectangle covering the given range of cells.
+     *
+     * @param minRow first row (inclusive)
+     * @param minCol first column (inclusive)
+     * @param maxRow last row (inclusive)
+     * @param maxCol last column (inclusive)
+     */
+    public void repaintRegion(int minRow, int minCol, int maxRow, int maxCol) {
+        repaint(minCol * tileSize, minRow * tileSize,
+                (maxCol - minCol + 1) * tileSize, (maxRow - minRow + 1) * tileSize);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(numCols * tileSize, numRows * tileSize);
+    }
+
+    /**
+     * Paints only the cells intersecting the current clip rectangle.
+     *
+     * @param g the {@link Graphics} context used for drawing
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        GameEvents.BoardPaint event = new GameEvents.BoardPaint();
+        event.begin();
+        long start = System.nanoTime();
+        GlyphAtlas atlas = GlyphAtlas.get((Graphics2D) g, tileSize, tileSize);
+        if (g.getClipBounds(clip) == null) clip.setBounds(0, 0, getWidth(), getHeight());
+
+        int firstRow = Math.max(0, clip.y / tileSize);
+        int firstCol = Math.max(0, clip.x / tileSize);
+        int lastRow = Math.min(numRows - 1, (clip.y + clip.height - 1) / tileSize);
+        int lastCol = Math.min(numCols - 1, (clip.x + clip.width - 1) / tileSize);
+
+        for (int r = firstRow; r <= lastRow; r++) {
+            syncRow(r);
+            int index = r * numCols + firstCol;
+            for (int c = firstCol; c <= lastCol; c++, index++) {
+                int glyph = index == hintCell && cells[index] == BoardDelta.HIDDEN ? GlyphAtlas.HINT : cells[index];
+                atlas.paint(g, glyph, c * tileSize, r * tileSize);
+                if (heat != null && (glyph == BoardDelta.HIDDEN || glyph == BoardDelta.FLAGGED) && heat[index] >= 0) {
+                    g.setColor(TileStyle.heatColor(heat[index]));
+                    g.fillRect(c * tileSize, r * tileSize, tileSize, tileSize);
+                }
+            }
+        }
+
+        MetricsRegistry.CANVAS_PAINT.record(System.nanoTime() - start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.view = "canvas";
+            event.cells = Math.max(0, lastRow - firstRow + 1) * Math.max(0, lastCol - firstCol + 1);
+            event.commit();
+        }
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return tileSize;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int extent = orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        return Math.max(tileSize, extent - tileSize);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+}
@@ -0,0 +1,206 @@
+package minesweeper;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The {@code BoardDelta} class describes the cells changed by one move on a
+ * {@link BoardEngine}: their linear indices and their new states.
+ * <p>
+ * A state from 0 to 8 means the cell was revealed and shows that many adjacent
+ * mines; the other states are {@link #MINE}, {@link #FLAGGED} and {@link #HIDDEN}.
+ * When a move ends the game, every mine is included with state {@link #MINE},
+ * since all views show the mines at that point. The delta also tracks the
+ * bounding box of the changed cells, so a view can apply it in one pass and
+ * repaint a single region.
+ *
+ * <p>
+ * Deltas are independent of Swing and can be encoded with {@link #writeTo(ByteBuffer)}
+ * for other frontends or for storage next to a journal. One instance is reused
+ * for every move, so a delta is only valid until the next move on its engine.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public final class BoardDelta {
+
+    /** The cell is a mine, shown because the game has ended. */
+    public static final byte MINE = 9;
+
+    /** The cell has been flagged. */
+    public static final byte FLAGGED = 10;
+
+    /** The flag has been removed and the cell is hidden again. */
+    public static final byte HIDDEN = 11;
+
+    /** Number of columns on the board, used for the bounding box. */
+    private final int numCols;
+
+    private int[] indices = new int[16];
+    private byte[] states = new byte[16];
+    private int size;
+
+    private BoardEngine.Outcome outcome = BoardEngine.Outcome.IGNORED;
+
+    private int minRow;
+    private int minCol;
+    private int maxRow;
+    private int maxCol;
+
+    /**
+     * Constructs an empty delta for a board with the given number of columns.
+     *
+     * @param numCols number of columns on the board
+     */
+    public BoardDelta(int numCols) {
+        this.numCols = numCols;
+        clear(BoardEngine.Outcome.IGNORED);
+    }
+
+    /**
+     * Removes all cells and sets the outcome of the move being described.
+     *
+     * @param outcome outcome of the move
+     */
+    void clear(BoardEngine.Outcome outcome) {
+        this.outcome = outcome;
+        size = 0;
+        minRow = Integer.MAX_VALUE;
+        minCol = Integer.MAX_VALUE;
+        maxRow = -1;
+        maxCol = -1;
+    }
+
+    /**
+     * Sets the outcome reported by this delta.
+     *
+     * @param outcome outcome of the move
+     */
+    void setOutcome(BoardEngine.Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    /**
+     * Returns an independent copy of this delta, for handing it to another thread.
+     *
+     * @return a new delta with the same cells, outcome and bounding box
+     */
+    BoardDelta copy() {
+        BoardDelta copy = new BoardDelta(numCols);
+        copy.indices = Arrays.copyOf(indices, Math.max(size, 1));
+        copy.states = Arrays.copyOf(states, Math.max(size, 1));
+        copy.size = size;
+        copy.outcome = outcome;
+        copy.minRow = minRow;
+        copy.minCol = minCol;
+        copy.maxRow = maxRow;
+        copy.maxCol = maxCol;
+        return copy;
+    }
+
+    /**
+     * Appends a changed cell and extends the bounding box.
+     *
+     * @param index linear cell index
+     * @param state new state of the cell
+     */
+    void add(int index, byte state) {
+        if (size == indices.length) {
+            indices = Arrays.copyOf(indices, size * 2);
+            states = Arrays.copyOf(states, size * 2);
+        }
+        indices[size] = index;
+        states[size] = state;
+        size++;
+
+        int row = index / numCols;
+        int col = index - row * numCols;
+        if (row < minRow) minRow = row;
+        if (row > maxRow) maxRow = row;
+        if (col < minCol) minCol = col;
+        if (col > maxCol) maxCol = col;
+    }
+
+    /**
+     * Writes the delta as a varint cell count followed by a varint index and a
+     * state byte per cell.
+     *
+     * @param buffer buffer with room for at most {@code 5 + 6 * size()} bytes
+     */
+    public void writeTo(ByteBuffer buffer) {
+        GameJournal.putVarint(buffer, size);
+        for (int n = 0; n < size; n++) {
+            GameJournal.putVarint(buffer, indices[n]);
+            buffer.put(states[n]);
+        }
+    }
+
+    /**
+     * Replaces the contents of this delta with one written by {@link #writeTo(ByteBuffer)}.
+     * The outcome is not part of the encoding and is left unchanged.
+     *
+     * @param buffer buffer positioned at an encoded delta
+     */
+    public void readFrom(ByteBuffer buffer) {
+        clear(outcome);
+        int count = (int) GameJournal.getVarint(buffer);
+        for (int n = 0; n < count; n++) {
+            int index = (int) GameJournal.getVarint(buffer);
+            add(index, buffer.get());
+        }
+    }
+
+    /** Returns the number of columns on the board. */
+    public int getNumCols() {
+        return numCols;
+    }
+
+    /** Returns the outcome of the move. */
+    public BoardEngine.Outcome getOutcome() {
+        return outcome;
+    }
+
+    /** Returns the number of changed cells. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns {@code true} if the move changed nothing. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Returns the linear index of the {@code n}-th changed cell. */
+    public int getIndex(int n) {
+        return indices[n];
+    }
+
+    /** Returns the new state of the {@code n}-th changed cell. */
+    public byte getState(int n) {
+        return states[n];
+    }
+
+    /** Returns the first row of the bounding box, or {@link Integer#MAX_VALUE} if empty. */
+    public int getMinRow() {
+        return minRow;
+    }
+
+    /** Returns the first column of the bounding box, or {@link Integer#MAX_VALUE} if empty. */
+    public int getMinCol() {
+        return minCol;
+    }
+
+    /** Returns the last row of the bounding box, or {@code -1} if empty. */
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    /** Returns the last column of the bounding box, or {@code -1} if empty. */
+    public int getMaxCol() {
+        return maxCol;
+    }
+}
@@ -0,0 +1,1093 @@
+package minesweeper;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The {@code BoardEngine} class is the headless core of the Minesweeper game.
+ * <p>
+ * It keeps the complete state of a board in packed primitive arrays: a bitset of
+ * mines, a bitset of revealed cells, a bitset of flagged cells and two {@code byte[]}
+ * tables with the number of mines and the number of flags adjacent to every cell. No AWT or Swing types are
+ * used, so boards with millions of cells can be created and played without a display.
+ *
+ * <p>
+ * Cells can be addressed either by {@code (row, col)} or by their linear index
+ * {@code row * numCols + col}. Both {@link MineField} and the Swing view
+ * {@link Minesweeper} are thin adapters over this class.
+ *
+ * <p>
+ * With {@link #setFirstClickSafe(boolean)} the first reveal of every game is safe:
+ * the mines around the revealed cell are moved elsewhere just before it is opened,
+ * patching the adjacency counts of the affected cells only.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class BoardEngine {
+
+    /**
+     * Result of a single reveal or chord request.
+     */
+    public enum Outcome {
+        /** The request had no effect (cell already revealed, flagged, or game over). */
+        IGNORED,
+        /** One or more safe cells were revealed and the game continues. */
+        SAFE,
+        /** A mine was revealed and the game is lost. */
+        MINE,
+        /** The last safe cell was revealed and the game is won. */
+        WON
+    }
+
+    /** Largest number of random cells drawn for a moved mine before the mine bitset is scanned. */
+    static final int MAX_RELOCATION_DRAWS = 64;
+
+    /** Number of rows on the board. */
+    private final int numRows;
+
+    /** Number of columns on the board. */
+    private final int numCols;
+
+    /** Total number of cells ({@code numRows * numCols}). */
+    private final int cellCount;
+
+    /** Total number of mines placed on the board. */
+    private final int mineCount;
+
+    /** Random generator used for mine placement. */
+    private final Random random;
+
+    /** Bitset of cells that contain a mine. */
+    private final long[] mines;
+
+    /** Bitset of cells that have been revealed. Words are valid only if stamped with {@link #generation}. */
+    private final long[] revealed;
+
+    /** Bitset of cells that are flagged. Words are valid only if stamped with {@link #generation}. */
+    private final long[] flagged;
+
+    /**
+     * Generation in which each word of {@link #revealed} and {@link #flagged}, and
+     * the {@link #flagsAround} counts of its 64 cells, were last written. Older
+     * words read as empty and are cleared on their first write.
+     */
+    private final int[] stamps;
+
+    /** Current generation; incrementing it clears all revealed and flagged cells at once. */
+    private int generation = 0;
+
+    /** Number of mines adjacent to every cell, computed once when mines are placed. */
+    private final byte[] adjacent;
+
+    /**
+     * Number of flags adjacent to every cell, updated whenever a flag is toggled,
+     * so a chord compares it with {@link #adjacent} in constant time. Counts are
+     * valid only if the word of their cell is stamped with {@link #generation}.
+     */
+    private final byte[] flagsAround;
+
+    /**
+     * Linear indices of all mines, in placement order. Mines moved by
+     * {@link #clearAround(int)} are still listed at their old cells.
+     */
+    private final int[] mineIndices;
+
+    /** Whether the first reveal of a game moves the mines around the revealed cell elsewhere. */
+    private boolean firstClickSafe = false;
+
+    /** Whether this board records its placements and moves in the {@link MetricsRegistry}. */
+    private boolean metricsEnabled = false;
+
+    /**
+     * Duration of a mine placement made while metrics were disabled, recorded once they
+     * are enabled, or {@code -1}. Keeps the placement of the constructor measurable.
+     */
+    private long unrecordedPlacementNanos = -1;
+
+    /** Old cells of the mines moved in this game, at most one 3x3 neighbourhood. */
+    private final int[] movedFrom = new int[9];
+
+    /** New cells of the mines moved in this game, parallel to {@link #movedFrom}. */
+    private final int[] movedTo = new int[9];
+
+    /** Number of mines moved in this game. */
+    private int movedCount = 0;
+
+    /**
+     * Openings of the current mine layout, labelled on the first reveal of a zero
+     * cell after the mines are placed and reused until they change.
+     */
+    private final Openings openings;
+
+    /**
+     * Work queue of the flood fill, allocated on first use and reused for every reveal.
+     * After a reveal, the first {@link #lastOpenedCount} entries are the cells it opened.
+     */
+    private int[] openQueue;
+
+    /** Number of cells opened by the most recent reveal. */
+    private int lastOpenedCount = 0;
+
+    /** Number of breadth-first layers opened by the most recent reveal, 1 for a precomputed opening. */
+    private int lastFloodDepth = 0;
+
+    /** Outcome of the most recent move. */
+    private Outcome lastOutcome = Outcome.IGNORED;
+
+    /** Cell whose flag was toggled by the most recent move, or {@code -1} if it was a reveal. */
+    private int lastFlagIndex = -1;
+
+    /** Reusable description of the most recent move, allocated on first use. */
+    private BoardDelta delta;
+
+    /** Number of cells revealed so far. */
+    private int revealedCount = 0;
+
+    /** Number of cells currently flagged. */
+    private int flagCount = 0;
+
+    /** Indicates whether the game has ended. */
+    private boolean gameOver = false;
+
+    /** Indicates whether the game has ended with all safe cells revealed. */
+    private boolean won = false;
+
+    /**
+     * Constructs a new board with the specified dimensions and mine count,
+     * using an unseeded random generator for mine placement.
+     *
+     * @param rows  number of rows on the board
+     * @param cols  number of columns on the board
+     * @param mines total number of mines to be placed
+     */
+    public BoardEngine(int rows, int cols, int mines) {
+        this(rows, cols, mines, new Random());
+    }
+
+    /**
+     * Constructs a new board whose mine layout is fully determined by {@code seed}.
+     *
+     * @param rows  number of rows on the board
+     * @param cols  number of columns on the board
+     * @param mines total number of mines to be placed
+     * @param seed  seed for the mine placement generator
+     */
+    public BoardEngine(int rows, int cols, int mines, long seed) {
+        this(rows, cols, mines, new Random(seed));
+    }
+
+    /**
+     * Constructs a new board with the specified dimensions and mine count,
+     * using the given random generator for mine placement.
+     *
+     * @param rows   number of rows on the board
+     * @param cols   number of columns on the board
+     * @param mines  total number of mines to be placed
+     * @param random random generator used for mine placement
+     * @throws IllegalArgumentException if the dimensions or mine count are invalid
+     */
+    public BoardEngine(int rows, int cols, int mines, Random random) {
+        this(rows, cols, mines, random, true);
+    }
+
+    /**
+     * Allocates the board and, if {@code placeMines} is set, places the mines.
+     * Boards restored from a snapshot skip placement.
+     */
+    private BoardEngine(int rows, int cols, int mines, Random random, boolean placeMines) {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid board size: " + rows + "x" + cols);
+        }
+        if (mines < 0 || mines > rows * cols) {
+            throw new IllegalArgumentException("Invalid mine count: " + mines);
+        }
+        this.numRows = rows;
+        this.numCols = cols;
+        this.cellCount = rows * cols;
+        this.mineCount = mines;
+        this.random = random;
+
+        int words = Bits.words(cellCount);
+        this.mines = new long[words];
+        this.revealed = new long[words];
+        this.flagged = new long[words];
+        this.stamps = new int[words];
+        this.adjacent = new byte[cellCount];
+        this.flagsAround = new byte[cellCount];
+        this.mineIndices = new int[mines];
+        this.openings = new Openings(rows, cols);
+
+        if (placeMines) setMines();
+    }
+
+    /**
+     * Rebuilds a board from its bitsets, in the order written by {@link #writeBits(LongBuffer)}.
+     * <p>
+     * The mine list and adjacency table are derived from the mine bitset in
+     * {@code O(mines)}, the neighbour-flag counts from the flag bitset in
+     * {@code O(flags)}, and the counters from the bit counts, so no moves are replayed.
+     *
+     * @param rows     number of rows on the board
+     * @param cols     number of columns on the board
+     * @param mines    total number of mines on the board
+     * @param bits     the mine, revealed and flagged bitsets, one after another
+     * @param gameOver whether the game has ended
+     * @param won      whether the game has been won
+     * @return the restored board
+     * @throws IllegalArgumentException if the mine bitset does not hold {@code mines} mines
+     */
+    static BoardEngine restore(int rows, int cols, int mines, LongBuffer bits, boolean gameOver, boolean won) {
+        BoardEngine engine = new BoardEngine(rows, cols, mines, new Random(), false);
+        bits.get(engine.mines).get(engine.revealed).get(engine.flagged);
+
+        int placed = 0;
+        for (int i = Bits.nextSetBit(engine.mines, 0, engine.cellCount); i >= 0;
+                i = Bits.nextSetBit(engine.mines, i + 1, engine.cellCount)) {
+            if (placed == mines) throw new IllegalArgumentException("More than " + mines + " mines in snapshot");
+            engine.mineIndices[placed++] = i;
+            engine.addToNeighbours(engine.adjacent, i, 1);
+        }
+        if (placed != mines) throw new IllegalArgumentException("Expected " + mines + " mines, found " + placed);
+
+        for (int w = 0; w < engine.mines.length; w++) {
+            engine.revealedCount += Long.bitCount(engine.revealed[w] & ~engine.mines[w]);
+            engine.flagCount += Long.bitCount(engine.flagged[w]);
+        }
+        for (int i = Bits.nextSetBit(engine.flagged, 0, engine.cellCount); i >= 0;
+                i = Bits.nextSetBit(engine.flagged, i + 1, engine.cellCount)) {
+            engine.addToNeighbours(engine.flagsAround, i, 1);
+        }
+        engine.gameOver = gameOver;
+        engine.won = won;
+        return engine;
+    }
+
+    /**
+     * Writes the mine, revealed and flagged bitsets, one after another.
+     *
+     * @param out buffer receiving {@code 3 * ceil(cellCount / 64)} longs
+     */
+    void writeBits(LongBuffer out) {
+        out.put(mines);
+        for (int w = 0; w < revealed.length; w++) out.put(stamps[w] == generation ? revealed[w] : 0L);
+        for (int w = 0; w < flagged.length; w++) out.put(stamps[w] == generation ? flagged[w] : 0L);
+    }
+
+    /**
+     * Clears all revealed and flagged cells and re-randomizes mine placement.
+     * <p>
+     * The cost is {@code O(mines)}, independent of the board size: the old mines are
+     * removed from the mine bitset and the adjacency table one by one (on boards
+     * with more than one mine per 64 cells both are simply cleared), and all
+     * revealed and flagged cells are cleared at once by starting a new generation.
+     * Words of the previous generation are cleared lazily, when first written.
+     */
+    public void reset() {
+        if (mineCount > cellCount >>> 6) {
+            // On dense boards clearing both arrays is cheaper than visiting the neighbours of every mine.
+            Arrays.fill(mines, 0L);
+            Arrays.fill(adjacent, (byte) 0);
+        } else {
+            for (int n = 0; n < mineCount; n++) {
+                int index = getMineIndex(n);
+                Bits.clear(mines, index);
+                addToNeighbours(adjacent, index, -1);
+            }
+        }
+        movedCount = 0;
+        if (++generation == 0) {
+            // After 2^32 resets old stamps could match again, so clear everything once.
+            Arrays.fill(revealed, 0L);
+            Arrays.fill(flagged, 0L);
+            Arrays.fill(flagsAround, (byte) 0);
+            Arrays.fill(stamps, 0);
+        }
+        revealedCount = 0;
+        flagCount = 0;
+        lastOpenedCount = 0;
+        lastOutcome = Outcome.IGNORED;
+        lastFlagIndex = -1;
+        gameOver = false;
+        won = false;
+        setMines();
+    }
+
+    /**
+     * Reseeds the random generator and resets the board, so the new layout is
+     * fully determined by {@code seed}. All buffers are reused.
+     *
+     * @param seed seed for mine placement
+     */
+    public void reset(long seed) {
+        random.setSeed(seed);
+        reset();
+    }
+
+    /**
+     * Randomly places {@link #mineCount} mines and builds the adjacency table.
+     * <p>
+     * Mines are drawn with Floyd's sampling algorithm: for each {@code j} in
+     * {@code [cellCount - mineCount, cellCount)} a random {@code t <= j} is taken,
+     * and if {@code t} is already a mine, {@code j} is used instead. Every step places
+     * exactly one new mine, so placement is {@code O(mines)} with no rejected draws,
+     * even on boards that are almost completely mined. For a given seed of
+     * {@link #random} the layout is fully reproducible. The {@link #openings} of the
+     * previous layout become stale.
+     * <p>
+     * The table, which must be all zeros, is filled by adding one to the 8 neighbours
+     * of every mine, so it costs {@code O(mines)} instead of a scan over all cells. After this call every
+     * reveal, chord and win check reads counts and mine membership in constant time.
+     */
+    private void setMines() {
+        GameEvents.MinePlacement event = new GameEvents.MinePlacement();
+        event.begin();
+        long start = System.nanoTime();
+        openings.invalidate();
+
+        int placed = 0;
+        for (int j = cellCount - mineCount; j < cellCount; j++) {
+            int index = random.nextInt(j + 1);
+            if (Bits.get(mines, index)) index = j;
+            Bits.set(mines, index);
+            mineIndices[placed++] = index;
+            addToNeighbours(adjacent, index, 1);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (metricsEnabled) MetricsRegistry.MINE_PLACEMENT.record(elapsed);
+        else unrecordedPlacementNanos = elapsed;
+        event.end();
+        if (event.shouldCommit()) {
+            event.rows = numRows;
+            event.cols = numCols;
+            event.mines = mineCount;
+            event.commit();
+        }
+    }
+
+    /**
+     * Adds {@code amount} to the count of every neighbour of the given cell.
+     *
+     * @param counts the table to update, {@link #adjacent} or {@link #flagsAround}
+     * @param index  linear index of a mine or flag
+     * @param amount {@code 1} when a mine or flag is added, {@code -1} when a flag is removed
+     */
+    private void addToNeighbours(byte[] counts, int index, int amount) {
+        int row = index / numCols;
+        int col = index - row * numCols;
+        for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                int n = r * numCols + c;
+                if (n == index) continue;
+                if (counts == flagsAround) touch(n >>> 6);
+                counts[n] += amount;
+            }
+        }
+    }
+
+    /**
+     * Clears a word of {@link #revealed} and {@link #flagged}, and the flag counts of
+     * its cells, if it was last written in an earlier generation. Must be called
+     * before any of them is changed.
+     *
+     * @param w word index
+     */
+    private void touch(int w) {
+        if (stamps[w] == generation) return;
+        stamps[w] = generation;
+        revealed[w] = 0L;
+        flagged[w] = 0L;
+        Arrays.fill(flagsAround, w << 6, Math.min(cellCount, (w << 6) + 64), (byte) 0);
+    }
+
+    /** Returns whether a cell is revealed in the current generation. */
+    private boolean revealedBit(int index) {
+        int w = index >>> 6;
+        return stamps[w] == generation && (revealed[w] & (1L << index)) != 0;
+    }
+
+    /** Returns whether a cell is flagged in the current generation. */
+    private boolean flaggedBit(int index) {
+        int w = index >>> 6;
+        return stamps[w] == generation && (flagged[w] & (1L << index)) != 0;
+    }
+
+    /** Returns whether a cell is revealed or flagged in the current generation. */
+    private boolean revealedOrFlagged(int index) {
+        int w = index >>> 6;
+        return stamps[w] == generation && ((revealed[w] | flagged[w]) & (1L << index)) != 0;
+    }
+
+    /** Marks a cell as revealed in the current generation. */
+    private void setRevealed(int index) {
+        touch(index >>> 6);
+        Bits.set(revealed, index);
+    }
+
+    /**
+     * Reveals the cell at the given position.
+     *
+     * @param row row index
+     * @param col column index
+     * @return the {@link Outcome} of the reveal
+     */
+    public Outcome reveal(int row, int col) {
+        return reveal(index(row, col));
+    }
+
+    /**
+     * Reveals the cell at the given linear index. If the cell has no adjacent
+     * mines, its neighbours are revealed as well.
+     * <p>
+     * The cells opened by this call can be read with {@link #getLastOpenedCount()}
+     * and {@link #getLastOpened(int)}, or as a {@link BoardDelta} with {@link #getLastDelta()}.
+     *
+     * @param index linear cell index
+     * @return the {@link Outcome} of the reveal
+     */
+    public Outcome reveal(int index) {
+        GameEvents.Reveal event = new GameEvents.Reveal();
+        event.begin();
+        long start = System.nanoTime();
+        lastFlagIndex = -1;
+        lastOutcome = revealCell(index);
+        recordMove(event, start, index, false);
+        return lastOutcome;
+    }
+
+    /**
+     * Records a reveal or chord in the {@link MetricsRegistry}, if enabled, and, while
+     * a flight recording is running, as {@link GameEvents}. Ignored moves are not recorded.
+     */
+    private void recordMove(GameEvents.Reveal event, long start, int index, boolean chord) {
+        if (lastOutcome == Outcome.IGNORED) return;
+        if (metricsEnabled) {
+            MetricsRegistry.REVEAL.record(System.nanoTime() - start);
+            MetricsRegistry.REVEALS.increment();
+            MetricsRegistry.CELLS_OPENED.add(lastOpenedCount);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.index = index;
+            event.chord = chord;
+            event.cellsOpened = lastOpenedCount;
+            event.floodDepth = lastFloodDepth;
+            event.outcome = lastOutcome.name();
+            event.commit();
+        }
+        if (!gameOver) return;
+
+        if (metricsEnabled) (won ? MetricsRegistry.WINS : MetricsRegistry.LOSSES).increment();
+        GameEvents.GameEnd end = new GameEvents.GameEnd();
+        if (end.shouldCommit()) {
+            end.won = won;
+            end.cells = cellCount;
+            end.mines = mineCount;
+            end.revealed = revealedCount;
+            end.commit();
+        }
+    }
+
+    /**
+     * Performs a reveal and records the opened cells in {@link #openQueue}.
+     */
+    private Outcome revealCell(int index) {
+        lastOpenedCount = 0;
+        lastFloodDepth = 0;
+        if (gameOver || revealedOrFlagged(index)) return Outcome.IGNORED;
+        if (firstClickSafe && revealedCount == 0) clearAround(index);
+
+        if (Bits.get(mines, index)) {
+            setRevealed(index);
+            ensureQueue()[0] = index;
+            lastOpenedCount = 1;
+            gameOver = true;
+            return Outcome.MINE;
+        }
+
+        lastOpenedCount = open(index, 0);
+        return checkWon();
+    }
+
+    /**
+     * Moves the mines of the 3x3 neighbourhood of a cell to random safe cells outside
+     * it, so that the first reveal opens at least an opening around the cell. If the
+     * board has fewer safe cells than the neighbourhood, only the cell itself is cleared.
+     * <p>
+     * The board is not regenerated: every moved mine patches the adjacency counts
+     * around its old and its new cell, and its entry in {@link #mineIndices} is
+     * redirected through {@link #movedFrom}, so a move costs {@code O(1)} plus the
+     * search for a new cell. The search draws random cells until one is safe and
+     * outside the neighbourhood, {@code cellCount / safeCells} draws on average, and
+     * after {@link #MAX_RELOCATION_DRAWS} misses on an almost full board scans the
+     * mine bitset a word at a time from a random word instead. The {@link #openings}
+     * of the old layout become stale.
+     *
+     * @param index linear index of the cell about to be revealed
+     */
+    private void clearAround(int index) {
+        int row = index / numCols;
+        int col = index - row * numCols;
+        int top = Math.max(0, row - 1);
+        int bottom = Math.min(numRows - 1, row + 1);
+        int left = Math.max(0, col - 1);
+        int right = Math.min(numCols - 1, col + 1);
+        if (cellCount - mineCount < (bottom - top + 1) * (right - left + 1)) {
+            // Not enough room for the whole neighbourhood: keep only the cell itself safe.
+            if (mineCount == cellCount) return;
+            top = bottom = row;
+            left = right = col;
+        }
+
+        for (int r = top; r <= bottom; r++) {
+            for (int c = left; c <= right; c++) {
+                int from = r * numCols + c;
+                if (!Bits.get(mines, from)) continue;
+                int to = freeCellOutside(top, bottom, left, right);
+                Bits.clear(mines, from);
+                addToNeighbours(adjacent, from, -1);
+                Bits.set(mines, to);
+                addToNeighbours(adjacent, to, 1);
+                movedFrom[movedCount] = from;
+                movedTo[movedCount++] = to;
+            }
+        }
+        if (movedCount > 0) {
+            openings.invalidate();
+            if (metricsEnabled) MetricsRegistry.MINES_RELOCATED.add(movedCount);
+        }
+    }
+
+    /**
+     * Returns a random cell without a mine outside the given block of rows and
+     * columns. Such a cell must exist.
+     */
+    private int freeCellOutside(int top, int bottom, int left, int right) {
+        for (int draw = 0; draw < MAX_RELOCATION_DRAWS; draw++) {
+            int cell = random.nextInt(cellCount);
+            if (!Bits.get(mines, cell) && !inBlock(cell, top, bottom, left, right)) return cell;
+        }
+        int words = mines.length;
+        int first = random.nextInt(words);
+        for (int k = 0; k < words; k++) {
+            int w = first + k < words ? first + k : first + k - words;
+            long free = ~mines[w];
+            if (w == words - 1 && (cellCount & 63) != 0) free &= (1L << cellCount) - 1;
+            for (; free != 0; free &= free - 1) {
+                int cell = (w << 6) + Long.numberOfTrailingZeros(free);
+                if (!inBlock(cell, top, bottom, left, right)) return cell;
+            }
+        }
+        throw new IllegalStateException("No safe cell left for a moved mine");
+    }
+
+    /** Returns whether a cell lies in the given block of rows and columns. */
+    private boolean inBlock(int index, int top, int bottom, int left, int right) {
+        int row = index / numCols;
+        int col = index - row * numCols;
+        return row >= top && row <= bottom && col >= left && col <= right;
+    }
+
+    /**
+     * Ends the game as won if every safe cell has been revealed.
+     *
+     * @return {@link Outcome#WON} if the game was won, otherwise {@link Outcome#SAFE}
+     */
+    private Outcome checkWon() {
+        if (revealedCount == cellCount - mineCount) {
+            gameOver = true;
+            won = true;
+            return Outcome.WON;
+        }
+        return Outcome.SAFE;
+    }
+
+    /**
+     * Opens a safe cell and, if it has no adjacent mines, the rest of its opening.
+     * <p>
+     * An opening that no reveal has entered yet and that has no flagged zero cells
+     * is opened from its precomputed member list in {@code O(opening)}, with no
+     * neighbour search. Otherwise flags or earlier reveals may cut it short, so it
+     * is opened by {@link #floodFill(int, int)}, which respects them.
+     *
+     * @param start linear index of a safe, unrevealed cell
+     * @param tail  number of entries of {@link #openQueue} already used by this move
+     * @return the new number of used entries
+     */
+    private int open(int start, int tail) {
+        if (adjacent[start] != 0) return floodFill(start, tail);
+        ensureOpenings();
+        int opening = openings.of(start);
+        boolean intact = openings.isIntact(opening);
+        openings.markOpened(opening);
+        return intact ? openOpening(start, opening, tail) : floodFill(start, tail);
+    }
+
+    /**
+     * Labels the openings of the current layout unless they are up to date, and
+     * registers the flagged and revealed zero cells of a game already in progress.
+     */
+    private void ensureOpenings() {
+        if (openings.isValid()) return;
+        long start = System.nanoTime();
+        openings.build(mines, adjacent);
+        for (int w = 0; w < stamps.length; w++) {
+            if (stamps[w] != generation) continue;
+            for (long bits = flagged[w]; bits != 0; bits &= bits - 1) {
+                int opening = openings.of((w << 6) + Long.numberOfTrailingZeros(bits));
+                if (opening >= 0) openings.addFlag(opening, 1);
+            }
+            for (long bits = revealed[w]; bits != 0; bits &= bits - 1) {
+                int opening = openings.of((w << 6) + Long.numberOfTrailingZeros(bits));
+                if (opening >= 0) openings.markOpened(opening);
+            }
+        }
+        if (metricsEnabled) MetricsRegistry.OPENING_LABELS.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Opens a zero cell and the rest of its untouched opening by walking the
+     * member list once. Members that are already revealed or flagged, such as
+     * numbered cells shared with another opening, are skipped.
+     *
+     * @param start   linear index of a zero cell, opened first
+     * @param opening the opening of {@code start}
+     * @param tail    number of entries of {@link #openQueue} already used by this move
+     * @return the new number of used entries
+     */
+    private int openOpening(int start, int opening, int tail) {
+        int[] queue = ensureQueue();
+        int first = tail;
+        setRevealed(start);
+        queue[tail++] = start;
+        for (int m = openings.start(opening), end = openings.end(opening); m < end; m++) {
+            int n = openings.cell(m);
+            if (revealedOrFlagged(n)) continue;
+            setRevealed(n);
+            queue[tail++] = n;
+        }
+        revealedCount += tail - first;
+        lastFloodDepth = Math.max(lastFloodDepth, 1);
+        return tail;
+    }
+
+    /**
+     * Opens a safe cell and, breadth-first, every cell reachable from it through
+     * cells with no adjacent mines.
+     * <p>
+     * Each cell is marked revealed when it is enqueued, so it enters the queue at
+     * most once and the queue never grows beyond the number of cells. No recursion
+     * and no per-cell allocation is involved, so openings of millions of cells are safe.
+     *
+     * @param start linear index of a safe, unrevealed cell
+     * @param tail  number of entries of {@link #openQueue} already used by this move
+     * @return the new number of used entries; the cells opened by this call follow
+     *         the first {@code tail} entries
+     */
+    private int floodFill(int start, int tail) {
+        int[] queue = ensureQueue();
+        int head = tail;
+        int first = tail;
+        int layerEnd = tail + 1;
+        int depth = 0;
+
+        setRevealed(start);
+        queue[tail++] = start;
+
+        while (head < tail) {
+            if (head == layerEnd) {
+                depth++;
+                layerEnd = tail;
+            }
+            int index = queue[head++];
+            if (adjacent[index] != 0) continue;
+
+            int row = index / numCols;
+            int col = index - row * numCols;
+            for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+                for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                    int n = r * numCols + c;
+                    if (revealedOrFlagged(n)) continue;
+                    setRevealed(n);
+                    queue[tail++] = n;
+                }
+            }
+        }
+
+        revealedCount += tail - first;
+        lastFloodDepth = Math.max(lastFloodDepth, depth + 1);
+        return tail;
+    }
+
+    /**
+     * Chords on the cell at the given position.
+     *
+     * @param row row index
+     * @param col column index
+     * @return the {@link Outcome} of the chord
+     * @see #chord(int)
+     */
+    public Outcome chord(int row, int col) {
+        return chord(index(row, col));
+    }
+
+    /**
+     * Chords on the cell at the given linear index: if it is a revealed number and
+     * exactly that many of its neighbours are flagged, all unflagged hidden
+     * neighbours are revealed, each opening further if it has no adjacent mines.
+     * <p>
+     * The flag count is kept in {@link #flagsAround}, so deciding whether a chord
+     * applies costs {@code O(1)} and the chord itself {@code O(opened cells)}. If a
+     * flag is misplaced, the chord reveals an unflagged mine and the game is lost.
+     * The opened cells are reported like those of {@link #reveal(int)}.
+     *
+     * @param index linear cell index
+     * @return the {@link Outcome} of the chord; {@link Outcome#IGNORED} if the cell
+     *         is hidden, has no adjacent mines, or its flag count does not match
+     */
+    public Outcome chord(int index) {
+        GameEvents.Reveal event = new GameEvents.Reveal();
+        event.begin();
+        long start = System.nanoTime();
+        lastOutcome = chordCell(index);
+        recordMove(event, start, index, true);
+        return lastOutcome;
+    }
+
+    /**
+     * Performs a chord and records the opened cells in {@link #openQueue}.
+     */
+    private Outcome chordCell(int index) {
+        lastFlagIndex = -1;
+        lastOpenedCount = 0;
+        lastFloodDepth = 0;
+        if (gameOver || !revealedBit(index) || adjacent[index] == 0
+                || getAdjacentFlags(index) != adjacent[index]) {
+            return Outcome.IGNORED;
+        }
+
+        int row = index / numCols;
+        int col = index - row * numCols;
+        int rowEnd = Math.min(numRows - 1, row + 1);
+        int colEnd = Math.min(numCols - 1, col + 1);
+
+        for (int r = Math.max(0, row - 1); r <= rowEnd; r++) {
+            for (int c = Math.max(0, col - 1); c <= colEnd; c++) {
+                int n = r * numCols + c;
+                if (Bits.get(mines, n) && !flaggedBit(n)) return revealCell(n);
+            }
+        }
+
+        int tail = 0;
+        for (int r = Math.max(0, row - 1); r <= rowEnd; r++) {
+            for (int c = Math.max(0, col - 1); c <= colEnd; c++) {
+                int n = r * numCols + c;
+                if (!revealedOrFlagged(n)) tail = open(n, tail);
+            }
+        }
+        lastOpenedCount = tail;
+        return tail == 0 ? Outcome.IGNORED : checkWon();
+    }
+
+    /**
+     * Returns the flood-fill work queue, allocating it on first use.
+     *
+     * @return an {@code int[]} large enough to hold every cell of the board
+     */
+    private int[] ensureQueue() {
+        if (openQueue == null) openQueue = new int[cellCount];
+        return openQueue;
+    }
+
+    /**
+     * Returns the number of cells opened by the most recent call to {@link #reveal(int)}
+     * or {@link #chord(int)}.
+     *
+     * @return number of opened cells, or {@code 0} if the reveal was ignored
+     */
+    public int getLastOpenedCount() {
+        return lastOpenedCount;
+    }
+
+    /**
+     * Returns the linear index of the {@code n}-th cell opened by the most recent reveal.
+     * Cells are reported in the order they were opened, starting with the clicked cell.
+     *
+     * @param n position in the opened set, from {@code 0} to {@link #getLastOpenedCount()} - 1
+     * @return linear cell index
+     */
+    public int getLastOpened(int n) {
+        return openQueue[n];
+    }
+
+    /**
+     * Describes the cells changed by the most recent reveal, chord or flag toggle.
+     * <p>
+     * The delta is built from the opened cells on request, so moves that nobody
+     * inspects cost nothing extra. If the move ended the game, every mine is
+     * included with state {@link BoardDelta#MINE}. The returned instance is reused
+     * and only valid until the next move.
+     *
+     * @return the changes made by the most recent move
+     */
+    public BoardDelta getLastDelta() {
+        if (delta == null) delta = new BoardDelta(numCols);
+        delta.clear(lastOutcome);
+
+        if (lastFlagIndex >= 0) {
+            delta.add(lastFlagIndex, flaggedBit(lastFlagIndex) ? BoardDelta.FLAGGED : BoardDelta.HIDDEN);
+            return delta;
+        }
+        if (lastOutcome != Outcome.MINE) {
+            for (int n = 0; n < lastOpenedCount; n++) {
+                int index = openQueue[n];
+                delta.add(index, adjacent[index]);
+            }
+        }
+        if (lastOutcome == Outcome.MINE || lastOutcome == Outcome.WON) {
+            for (int n = 0; n < mineCount; n++) {
+                delta.add(getMineIndex(n), BoardDelta.MINE);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Toggles the flag on the cell at the given position.
+     *
+     * @param row row index
+     * @param col column index
+     * @return {@code true} if the flag state changed, otherwise {@code false}
+     */
+    public boolean toggleFlag(int row, int col) {
+        return toggleFlag(index(row, col));
+    }
+
+    /**
+     * Toggles the flag on the cell at the given linear index.
+     * Revealed cells cannot be flagged.
+     *
+     * @param index linear cell index
+     * @return {@code true} if the flag state changed, otherwise {@code false}
+     */
+    public boolean toggleFlag(int index) {
+        lastOpenedCount = 0;
+        lastFlagIndex = -1;
+        lastOutcome = Outcome.IGNORED;
+        if (gameOver || revealedBit(index)) return false;
+
+        lastFlagIndex = index;
+        lastOutcome = Outcome.SAFE;
+        touch(index >>> 6);
+        int amount = Bits.get(flagged, index) ? -1 : 1;
+        if (amount < 0) Bits.clear(flagged, index);
+        else Bits.set(flagged, index);
+        flagCount += amount;
+        addToNeighbours(flagsAround, index, amount);
+        if (openings.isValid() && openings.of(index) >= 0) openings.addFlag(openings.of(index), amount);
+        return true;
+    }
+
+    /**
+     * Converts a {@code (row, col)} position into a linear cell index.
+     *
+     * @param row row index
+     * @param col column index
+     * @return linear cell index
+     */
+    public int index(int row, int col) {
+        return row * numCols + col;
+    }
+
+    /**
+     * Returns the row of the given linear cell index.
+     *
+     * @param index linear cell index
+     * @return row index
+     */
+    public int rowOf(int index) {
+        return index / numCols;
+    }
+
+    /**
+     * Returns the column of the given linear cell index.
+     *
+     * @param index linear cell index
+     * @return column index
+     */
+    public int colOf(int index) {
+        return index % numCols;
+    }
+
+    /** Returns whether the cell at {@code (row, col)} contains a mine. */
+    public boolean isMine(int row, int col) {
+        return isMine(index(row, col));
+    }
+
+    /** Returns whether the cell at the given linear index contains a mine. */
+    public boolean isMine(int index) {
+        return Bits.get(mines, index);
+    }
+
+    /** Returns whether the cell at {@code (row, col)} has been revealed. */
+    public boolean isRevealed(int row, int col) {
+        return isRevealed(index(row, col));
+    }
+
+    /** Returns whether the cell at the given linear index has been revealed. */
+    public boolean isRevealed(int index) {
+        return revealedBit(index);
+    }
+
+    /** Returns whether the cell at {@code (row, col)} is flagged. */
+    public boolean isFlagged(int row, int col) {
+        return isFlagged(index(row, col));
+    }
+
+    /** Returns whether the cell at the given linear index is flagged. */
+    public boolean isFlagged(int index) {
+        return flaggedBit(index);
+    }
+
+    /** Returns the number of mines adjacent to the cell at {@code (row, col)}. */
+    public int getAdjacentMines(int row, int col) {
+        return adjacent[index(row, col)];
+    }
+
+    /** Returns the number of mines adjacent to the cell at the given linear index. */
+    public int getAdjacentMines(int index) {
+        return adjacent[index];
+    }
+
+    /** Returns the number of flags adjacent to the cell at the given linear index. */
+    public int getAdjacentFlags(int index) {
+        return stamps[index >>> 6] == generation ? flagsAround[index] : 0;
+    }
+
+    /**
+     * Returns the number of openings on the board: regions of safe cells with no
+     * adjacent mines, each revealed by a single click. The openings are labelled on
+     * the first call after the mines are placed.
+     *
+     * @return number of openings
+     */
+    public int getOpeningCount() {
+        return getOpenings().count();
+    }
+
+    /**
+     * Returns the openings of the current mine layout, labelling them first if needed.
+     *
+     * @return the up-to-date openings, shared with the engine
+     */
+    Openings getOpenings() {
+        ensureOpenings();
+        return openings;
+    }
+
+    /**
+     * Returns the linear index of the {@code n}-th mine, allowing callers to visit
+     * all mines in {@code O(mines)} without scanning the board.
+     *
+     * @param n mine number, from {@code 0} to {@link #getMineCount()} - 1
+     * @return linear cell index of the mine
+     */
+    public int getMineIndex(int n) {
+        int index = mineIndices[n];
+        for (int k = 0; k < movedCount; k++) {
+            if (movedFrom[k] == index) return movedTo[k];
+        }
+        return index;
+    }
+
+    /**
+     * Sets whether the first reveal of a game is safe. The mode applies from the
+     * next reveal of a game in which no cell has been revealed yet.
+     *
+     * @param safe whether the first reveal moves the mines around its cell elsewhere
+     */
+    public void setFirstClickSafe(boolean safe) {
+        firstClickSafe = safe;
+    }
+
+    /** Returns whether the first reveal of a game is safe. */
+    public boolean isFirstClickSafe() {
+        return firstClickSafe;
+    }
+
+    /**
+     * Sets whether this board records its mine placements, opening labels and moves
+     * in the {@link MetricsRegistry}. Recording is off by default, so boards used by
+     * simulations, searches and replays do not mix with the games people play; the
+     * frontends enable it for the boards they show. Flight Recorder events are
+     * emitted either way.
+     *
+     * @param enabled whether to record metrics
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        metricsEnabled = enabled;
+        if (enabled && unrecordedPlacementNanos >= 0) {
+            MetricsRegistry.MINE_PLACEMENT.record(unrecordedPlacementNanos);
+            unrecordedPlacementNanos = -1;
+        }
+    }
+
+    /** Returns whether this board records metrics in the {@link MetricsRegistry}. */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /** Returns the number of rows on the board. */
+    public int getRows() {
+        return numRows;
+    }
+
+    /** Returns the number of columns on the board. */
+    public int getCols() {
+        return numCols;
+    }
+
+    /** Returns the total number of cells on the board. */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /** Returns the total number of mines on the board. */
+    public int getMineCount() {
+        return mineCount;
+    }
+
+    /** Returns the number of cells revealed so far. */
+    public int getRevealedCount() {
+        return revealedCount;
+    }
+
+    /** Returns the number of cells currently flagged. */
+    public int getFlagCount() {
+        return flagCount;
+    }
+
+    /** Returns {@code true} if the game has ended (won or lost). */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /** Returns {@code true} if the game has ended with all safe cells revealed. */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Marks the game as finished without revealing any further cells.
+     */
+    public void endGame() {
+        gameOver = true;
+    }
+}
@@ -0,0 +1,281 @@
+package minesweeper;
+
+import java.util.Arrays;
+
+/**
+ * The {@code BoardMetrics} class computes difficulty metrics of a mine layout.
+ * <p>
+ * The 3BV ("Bechtel's Board Benchmark Value") of a board is the minimum number of
+ * left clicks needed to clear it without flags: one click per opening (a connected
+ * region of cells with no adjacent mines, together with its numbered border) plus
+ * one click per numbered cell that does not border any opening.
+ *
+ * <p>
+ * Both values are read from the openings that the {@link BoardEngine} labels for
+ * its reveals, so computing them costs one labelling pass per layout, which the
+ * first reveal of the game then reuses, and no search of its own.
+ *
+ * <p>
+ * {@link #rate(BoardEngine)} additionally counts the islands of the board, groups
+ * of touching numbered cells that border no opening, and estimates the number of
+ * clicks needed when flags and chords are used (ZiNi). The estimate follows the
+ * ZiNi sweep: every numbered cell whose chord opens at least as many 3BV units as
+ * it costs clicks (its reveal, the missing flags and the chord) is chorded, until
+ * no such cell is left; the remaining units take one click each. An instance owns
+ * the scratch buffers of the sweep and reuses them between boards of the same size,
+ * so it can rate millions of boards in a tight loop.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class BoardMetrics {
+
+    /** 3BV of the last computed board. */
+    private int threeBV;
+
+    /** Number of openings on the last computed board. */
+    private int openings;
+
+    /** Number of islands on the last rated board. */
+    private int islands;
+
+    /** Estimated number of clicks with flags and chords on the last rated board. */
+    private int zini;
+
+    /** Numbered cells that border no opening and therefore need a click of their own. */
+    private long[] isolated;
+
+    /** Cells revealed by the ZiNi sweep. */
+    private long[] revealed;
+
+    /** Mines flagged by the ZiNi sweep. */
+    private long[] flagged;
+
+    /** Openings opened by the ZiNi sweep. */
+    private long[] opened = new long[0];
+
+    /** Cells whose chord has to be considered in the next pass of the ZiNi sweep. */
+    private long[] pending;
+
+    /** Work stack for finding islands. */
+    private int[] stack;
+
+    /**
+     * Computes the 3BV and the number of openings of the mine layout of the given board.
+     * The revealed and flagged state of the board is ignored.
+     *
+     * @param engine the board to measure
+     */
+    public void compute(BoardEngine engine) {
+        Openings labels = engine.getOpenings();
+        openings = labels.count();
+        // Every safe cell outside the openings needs a click of its own.
+        threeBV = openings + engine.getCellCount() - engine.getMineCount() - labels.covered();
+    }
+
+    /**
+     * Computes all metrics of the mine layout of the given board: those of
+     * {@link #compute(BoardEngine)}, the number of islands and the ZiNi estimate.
+     * The revealed and flagged state of the board is ignored.
+     *
+     * @param engine the board to rate
+     */
+    public void rate(BoardEngine engine) {
+        compute(engine);
+        Openings labels = engine.getOpenings();
+        int cells = engine.getCellCount();
+        if (stack == null || stack.length != cells) {
+            int words = Bits.words(cells);
+            isolated = new long[words];
+            revealed = new long[words];
+            flagged = new long[words];
+            pending = new long[words];
+            stack = new int[cells];
+        } else {
+            Arrays.fill(isolated, 0L);
+            Arrays.fill(revealed, 0L);
+            Arrays.fill(flagged, 0L);
+        }
+        int words = Bits.words(openings);
+        if (opened.length < words) opened = new long[words];
+        else Arrays.fill(opened, 0, words, 0L);
+
+        for (int i = 0; i < cells; i++) {
+            if (engine.getAdjacentMines(i) != 0 && !engine.isMine(i)) Bits.set(isolated, i);
+        }
+        if (labels.hasMembers()) {
+            int members = openings == 0 ? 0 : labels.end(openings - 1);
+            for (int m = 0; m < members; m++) Bits.clear(isolated, labels.cell(m));
+        } else {
+            for (int i = Bits.nextSetBit(isolated, 0, cells); i >= 0; i = Bits.nextSetBit(isolated, i + 1, cells)) {
+                if (bordersOpening(engine, labels, i)) Bits.clear(isolated, i);
+            }
+        }
+        islands = countIslands(engine);
+        // Without member lists the openings cannot be opened by the sweep; 3BV is an upper bound.
+        zini = labels.hasMembers() ? sweep(engine, labels) : threeBV;
+    }
+
+    /** Returns whether a numbered cell has a zero cell among its neighbours. */
+    private static boolean bordersOpening(BoardEngine engine, Openings labels, int index) {
+        int rows = engine.getRows();
+        int cols = engine.getCols();
+        int row = index / cols;
+        int col = index - row * cols;
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                if (labels.of(r * cols + c) >= 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the groups of touching isolated numbered cells.
+     */
+    private int countIslands(BoardEngine engine) {
+        int rows = engine.getRows();
+        int cols = engine.getCols();
+        int cells = engine.getCellCount();
+        // The revealed buffer marks visited cells here and is cleared again before the sweep.
+        int count = 0;
+        for (int i = Bits.nextSetBit(isolated, 0, cells); i >= 0; i = Bits.nextSetBit(isolated, i + 1, cells)) {
+            if (Bits.get(revealed, i)) continue;
+            count++;
+            int top = 0;
+            Bits.set(revealed, i);
+            stack[top++] = i;
+            while (top > 0) {
+                int index = stack[--top];
+                int row = index / cols;
+                int col = index - row * cols;
+                for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                    for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                        int n = r * cols + c;
+                        if (!Bits.get(isolated, n) || Bits.get(revealed, n)) continue;
+                        Bits.set(revealed, n);
+                        stack[top++] = n;
+                    }
+                }
+            }
+        }
+        Arrays.fill(revealed, 0L);
+        return count;
+    }
+
+    /**
+     * Runs the ZiNi sweep and returns the estimated number of clicks.
+     */
+    private int sweep(BoardEngine engine, Openings labels) {
+        int rows = engine.getRows();
+        int cols = engine.getCols();
+        int cells = engine.getCellCount();
+        int[] around = new int[8];
+        int clicks = 0;
+        int units = threeBV;
+
+        // The first pass considers every numbered cell. A rejected chord can only pay off
+        // later if a mine next to it is flagged, so later passes revisit only the
+        // neighbours of newly flagged mines.
+        for (int i = 0; i < cells; i++) {
+            if (engine.getAdjacentMines(i) != 0 && !engine.isMine(i)) Bits.set(pending, i);
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = Bits.nextSetBit(pending, 0, cells); i >= 0; i = Bits.nextSetBit(pending, i + 1, cells)) {
+                Bits.clear(pending, i);
+                boolean hidden = !Bits.get(revealed, i);
+                int cost = (hidden ? 1 : 0) + 1;
+                int gain = hidden && Bits.get(isolated, i) ? 1 : 0;
+                int found = 0;
+
+                int row = i / cols;
+                int col = i - row * cols;
+                for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                    for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                        int n = r * cols + c;
+                        if (engine.isMine(n)) {
+                            if (!Bits.get(flagged, n)) cost++;
+                        } else if (n != i && !Bits.get(revealed, n)) {
+                            int opening = labels.of(n);
+                            if (opening < 0) {
+                                if (Bits.get(isolated, n)) gain++;
+                            } else if (!Bits.get(opened, opening)) {
+                                int k = 0;
+                                while (k < found && around[k] != opening) k++;
+                                if (k == found) around[found++] = opening;
+                            }
+                        }
+                    }
+                }
+                gain += found;
+                if (gain == 0 || gain < cost) continue;
+
+                clicks += cost;
+                units -= gain;
+                changed = true;
+                Bits.set(revealed, i);
+                for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                    for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                        int n = r * cols + c;
+                        if (!engine.isMine(n)) Bits.set(revealed, n);
+                        else if (!Bits.get(flagged, n)) flag(engine, n);
+                    }
+                }
+                for (int k = 0; k < found; k++) {
+                    Bits.set(opened, around[k]);
+                    for (int m = labels.start(around[k]), end = labels.end(around[k]); m < end; m++) {
+                        Bits.set(revealed, labels.cell(m));
+                    }
+                }
+            }
+        }
+        return clicks + units;
+    }
+
+    /**
+     * Flags a mine for the ZiNi sweep and queues its numbered neighbours, whose chords
+     * became cheaper.
+     */
+    private void flag(BoardEngine engine, int index) {
+        int rows = engine.getRows();
+        int cols = engine.getCols();
+        Bits.set(flagged, index);
+        int row = index / cols;
+        int col = index - row * cols;
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                int n = r * cols + c;
+                if (!engine.isMine(n)) Bits.set(pending, n);
+            }
+        }
+    }
+
+    /** Returns the 3BV of the last computed board. */
+    public int getThreeBV() {
+        return threeBV;
+    }
+
+    /** Returns the number of openings on the last computed board. */
+    public int getOpenings() {
+        return openings;
+    }
+
+    /** Returns the number of islands on the last rated board. */
+    public int getIslands() {
+        return islands;
+    }
+
+    /**
+     * Returns the estimated number of clicks needed to clear the last rated board
+     * with flags and chords. It never exceeds the 3BV.
+     */
+    public int getZiNi() {
+        return zini;
+    }
+}
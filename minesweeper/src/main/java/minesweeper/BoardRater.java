@@ -0,0 +1,179 @@
+package minesweeper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code BoardRater} class generates large numbers of seeded boards in
+ * parallel, rates them with {@link BoardMetrics#rate(BoardEngine)} and streams the
+ * ratings into a {@link RatingIndex} file.
+ * <p>
+ * Like {@link SimulationRunner}, a fixed pool of workers pulls batches of board
+ * numbers from a shared counter, and board {@code n} always uses the seed derived
+ * from the base seed and {@code n}. Every worker owns one {@link BoardEngine} and
+ * one {@link BoardMetrics}, fills one buffer with the records of a batch and
+ * appends it to the file, so memory use does not depend on the number of boards.
+ * Batches are appended in the order they finish; the records carry their seeds.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class BoardRater {
+
+    /** Number of boards a worker claims from the shared counter at once. */
+    private static final int BATCH_SIZE = 4096;
+
+    private final int numRows;
+    private final int numCols;
+    private final int mineCount;
+    private final int threads;
+
+    /**
+     * Constructs a rater for boards of the given size.
+     *
+     * @param rows    number of rows on the board
+     * @param cols    number of columns on the board
+     * @param mines   total number of mines on the board
+     * @param threads number of worker threads
+     */
+    public BoardRater(int rows, int cols, int mines, int threads) {
+        if (threads <= 0) throw new IllegalArgumentException("Invalid thread count: " + threads);
+        this.numRows = rows;
+        this.numCols = cols;
+        this.mineCount = mines;
+        this.threads = threads;
+    }
+
+    /**
+     * Rates {@code boards} boards and writes them to a new index file.
+     *
+     * @param boards   number of boards to rate
+     * @param baseSeed seed from which every board's seed is derived
+     * @param path     index file to create or replace
+     * @throws IOException if the file cannot be written
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void run(long boards, long baseSeed, Path path) throws IOException, InterruptedException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(RatingIndex.HEADER_SIZE)
+                    .putInt(RatingIndex.MAGIC)
+                    .put(RatingIndex.VERSION)
+                    .putInt(numRows)
+                    .putInt(numCols)
+                    .putInt(mineCount)
+                    .flip();
+            write(channel, header);
+
+            AtomicLong next = new AtomicLong();
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> results = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    results.add(pool.submit(() -> runWorker(next, boards, baseSeed, channel)));
+                }
+                for (Future<?> result : results) result.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+                throw new IllegalStateException("Rating worker failed", e.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Rates batches of boards until the shared counter passes {@code boards}.
+     */
+    private void runWorker(AtomicLong next, long boards, long baseSeed, FileChannel channel) {
+        BoardEngine engine = new BoardEngine(numRows, numCols, mineCount, baseSeed);
+        BoardMetrics metrics = new BoardMetrics();
+        ByteBuffer batch = ByteBuffer.allocate(BATCH_SIZE * RatingIndex.RECORD_SIZE);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            long first = next.getAndAdd(BATCH_SIZE);
+            if (first >= boards) break;
+            long last = Math.min(boards, first + BATCH_SIZE);
+
+            batch.clear();
+            for (long board = first; board < last; board++) {
+                long seed = SimulationRunner.mix(baseSeed, board);
+                engine.reset(seed);
+                metrics.rate(engine);
+                batch.putLong(seed)
+                        .putChar(saturate(metrics.getThreeBV()))
+                        .putChar(saturate(metrics.getZiNi()))
+                        .putChar(saturate(metrics.getOpenings()))
+                        .putChar(saturate(metrics.getIslands()));
+            }
+            try {
+                write(channel, batch.flip());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Appends a whole buffer to the file. Appends of different workers never interleave.
+     */
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        synchronized (channel) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+
+    /** Clamps a metric to the range of a record field. */
+    private static char saturate(int value) {
+        return (char) Math.min(value, Character.MAX_VALUE);
+    }
+
+    /**
+     * Rates boards from the command line and prints the 3BV distribution of the index.
+     * <p>
+     * Usage: {@code BoardRater rows cols mines boards file [threads] [seed]}
+     *
+     * @param args command-line arguments
+     * @throws IOException if the index cannot be written
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 5) {
+            System.err.println("Usage: BoardRater rows cols mines boards file [threads] [seed]");
+            System.exit(1);
+        }
+        int rows = Integer.parseInt(args[0]);
+        int cols = Integer.parseInt(args[1]);
+        int mines = Integer.parseInt(args[2]);
+        long boards = Long.parseLong(args[3]);
+        Path path = Path.of(args[4]);
+        int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 6 ? Long.parseLong(args[6]) : 0L;
+
+        long start = System.nanoTime();
+        new BoardRater(rows, cols, mines, threads).run(boards, seed, path);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        RatingIndex index = new RatingIndex(path);
+        System.out.printf("%d boards of %dx%d with %d mines rated in %.2f s (%.0f boards/s on %d threads)%n",
+                index.getSize(), rows, cols, mines, seconds, index.getSize() / seconds, threads);
+        System.out.printf("3BV: min %d, p33 %d, p50 %d, p67 %d, max %d%n", index.getPercentileThreeBV(0),
+                index.getPercentileThreeBV(100 / 3.0), index.getPercentileThreeBV(50),
+                index.getPercentileThreeBV(200 / 3.0), index.getPercentileThreeBV(100));
+    }
+}
@@ -0,0 +1,130 @@
+package minesweeper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code GameEvents} class groups the Java Flight Recorder events emitted by
+ * the engine and the views.
+ * <p>
+ * The events are committed only while a recording is running, for example one
+ * started with {@code -XX:StartFlightRecording} or from JDK Mission Control, so
+ * production sessions can be profiled without attaching a profiler. They are
+ * listed under the "Minesweeper" category. The same hot paths also feed the
+ * always-on {@link MetricsRegistry}, for the boards that record metrics
+ * ({@link BoardEngine#setMetricsEnabled(boolean)}).
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+final class GameEvents {
+
+    private GameEvents() {
+    }
+
+    /** Placement of all mines and construction of the adjacency table. */
+    @Name("minesweeper.MinePlacement")
+    @Label("Mine Placement")
+    @Category("Minesweeper")
+    @StackTrace(false)
+    static final class MinePlacement extends Event {
+
+        @Label("Rows")
+        int rows;
+
+        @Label("Columns")
+        int cols;
+
+        @Label("Mines")
+        int mines;
+    }
+
+    /** A reveal or chord that changed the board. */
+    @Name("minesweeper.Reveal")
+    @Label("Reveal")
+    @Category("Minesweeper")
+    @StackTrace(false)
+    static final class Reveal extends Event {
+
+        @Label("Cell")
+        int index;
+
+        @Label("Chord")
+        boolean chord;
+
+        @Label("Cells Opened")
+        int cellsOpened;
+
+        @Label("Flood Fill Depth")
+        @Description("Number of breadth-first layers opened by the flood fill, 1 for a precomputed opening")
+        int floodDepth;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    /** The end of a game. */
+    @Name("minesweeper.GameEnd")
+    @Label("Game End")
+    @Category("Minesweeper")
+    @StackTrace(false)
+    static final class GameEnd extends Event {
+
+        @Label("Won")
+        boolean won;
+
+        @Label("Cells")
+        int cells;
+
+        @Label("Mines")
+        int mines;
+
+        @Label("Cells Revealed")
+        int revealed;
+    }
+
+    /** One paint of a board view or tile. */
+    @Name("minesweeper.BoardPaint")
+    @Label("Board Paint")
+    @Category("Minesweeper")
+    @StackTrace(false)
+    static final class BoardPaint extends Event {
+
+        @Label("View")
+        String view;
+
+        @Label("Cells Painted")
+        int cells;
+    }
+
+    /** Applying a difficulty, view or no-guess setting, including the rebuilt view. */
+    @Name("minesweeper.ApplySettings")
+    @Label("Apply Settings")
+    @Category("Minesweeper")
+    @StackTrace(false)
+    static final class ApplySettings extends Event {
+
+        @Label("Difficulty")
+        String difficulty;
+
+        @Label("View")
+        String view;
+
+        @Label("No Guess")
+        boolean noGuess;
+
+        @Label("Rating Band")
+        String band;
+
+        @Label("Safe First Click")
+        boolean firstClickSafe;
+    }
+}
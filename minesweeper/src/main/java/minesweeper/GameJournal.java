@@ -0,0 +1,97 @@
+package minesweeper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Format constants and varint helpers shared by {@link JournalWriter} and
+ * {@link JournalReader}.
+ * <p>
+ * A journal starts with a fixed header:
+ * <pre>
+ *   int  magic "MSJ1"
+ *   byte version
+ *   int  rows, int cols, int mines
+ *   long seed
+ *   long start time (epoch milliseconds)
+ *   byte flags (since version 2)
+ * </pre>
+ * followed by one record per move. A record is two unsigned LEB128 varints: the
+ * linear cell index shifted left by two bits with the event type in the low bits,
+ * then the milliseconds elapsed since the previous move. Event types start at 1,
+ * so the first byte of a record is never zero and a zero byte marks the end of
+ * the journal. This also keeps a journal readable after a crash, when the file
+ * still has its zero padding. Journals of version 1 have no flags byte and are
+ * still read, with no flags set.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+final class GameJournal {
+
+    /** File signature, the ASCII characters {@code MSJ1}. */
+    static final int MAGIC = 0x4D534A31;
+
+    /** Current format version. */
+    static final byte VERSION = 2;
+
+    /** Size of the header in bytes. */
+    static final int HEADER_SIZE = 4 + 1 + 4 + 4 + 4 + 8 + 8 + 1;
+
+    /** Size of the header of version 1, which has no flags byte. */
+    static final int HEADER_SIZE_V1 = HEADER_SIZE - 1;
+
+    /** Header flag: the first reveal of the game was safe ({@link BoardEngine#setFirstClickSafe(boolean)}). */
+    static final int FIRST_CLICK_SAFE = 1;
+
+    /** A cell was revealed. */
+    static final int REVEAL = 1;
+
+    /** A flag was toggled. */
+    static final int FLAG = 2;
+
+    /** The neighbours of a revealed number were opened. */
+    static final int CHORD = 3;
+
+    /** Largest size of one record in bytes. */
+    static final int MAX_RECORD_SIZE = 2 * 10;
+
+    private GameJournal() {
+    }
+
+    /**
+     * Writes a non-negative value as an unsigned LEB128 varint.
+     *
+     * @param buffer the buffer to write to
+     * @param value  the value to write
+     */
+    static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint.
+     *
+     * @param buffer the buffer to read from
+     * @return the decoded value
+     */
+    static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 63) throw new IllegalStateException("Malformed varint in journal");
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
@@ -0,0 +1,122 @@
+package minesweeper;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.IOException;
+
+/**
+ * GameMenuDialog
+ * A simple modal dialog that provides options to start a new game, open settings, save or load a game,
+ * replay a recorded game, or exit the application.
+ * Intended to be used as part of the Minesweeper game, which creates it once and
+ * shows it again for every visit to the menu; the settings dialog is reused as well.
+ *
+ * Version: 1.5.0
+ * Author: Zoran Juras
+ * Date: 2025-10-28
+ */
+public class GameMenuDialog extends JDialog {
+
+    /** Settings dialog, created when the settings are first opened. */
+    private SettingsDialog settingsDialog;
+
+    public GameMenuDialog(Minesweeper parent) {
+        super();
+        setLayout(new GridLayout(6, 1, 10, 10));
+        setSize(300, 380);
+        setLocationRelativeTo(parent);
+
+        JButton newGameButton = new JButton("New Game");
+        JButton settingsButton = new JButton("Settings");
+        JButton saveButton = new JButton("Save...");
+        JButton loadButton = new JButton("Load...");
+        JButton replayButton = new JButton("Replay...");
+        JButton exitButton = new JButton("Exit");
+
+        Font buttonFont = new Font("Arial", Font.BOLD, 16);
+        newGameButton.setFont(buttonFont);
+        settingsButton.setFont(buttonFont);
+        saveButton.setFont(buttonFont);
+        loadButton.setFont(buttonFont);
+        replayButton.setFont(buttonFont);
+        exitButton.setFont(buttonFont);
+
+        add(newGameButton);
+        add(settingsButton);
+        add(saveButton);
+        add(loadButton);
+        add(replayButton);
+        add(exitButton);
+
+        newGameButton.addActionListener(e -> {
+            setVisible(false);
+            parent.newGame();
+
+        });
+
+        settingsButton.addActionListener(e -> {
+            if (settingsDialog == null) settingsDialog = new SettingsDialog(parent.frame);
+
+            if (settingsDialog.showDialog()) {
+                setVisible(false);
+                parent.applySettings(settingsDialog.getSettings());
+
+            }
+        });
+
+        saveButton.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser();
+            if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+
+            try {
+                parent.saveGame(chooser.getSelectedFile().toPath());
+                setVisible(false);
+            } catch (IOException | IllegalStateException ex) {
+                JOptionPane.showMessageDialog(this, "Cannot save game: " + ex.getMessage(),
+                        "Save", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+
+        loadButton.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser();
+            if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+
+            try {
+                parent.loadGame(chooser.getSelectedFile().toPath());
+                setVisible(false);
+            } catch (IOException | IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(this, "Cannot load game: " + ex.getMessage(),
+                        "Load", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+
+        replayButton.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser(System.getProperty(Minesweeper.JOURNAL_DIR_PROPERTY));
+            if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+
+            try {
+                JournalReader reader = new JournalReader(chooser.getSelectedFile().toPath());
+                setVisible(false);
+                parent.replay(reader);
+            } catch (IOException | IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(this, "Cannot open journal: " + ex.getMessage(),
+                        "Replay", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+
+        exitButton.addActionListener(e -> {
+            int confirm = JOptionPane.showConfirmDialog(
+                    parent,
+                    "Are you sure you want to exit?",
+                    "Exit Game",
+                    JOptionPane.YES_NO_OPTION
+            );
+            if (confirm == JOptionPane.YES_OPTION) {
+                System.exit(0);
+            }
+        });
+    }
+}
+
@@ -0,0 +1,113 @@
+package minesweeper;
+
+import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * The {@code GameReplayer} class replays games recorded by {@link JournalWriter}.
+ * <p>
+ * A headless replay rebuilds the board from the seed in the journal and applies
+ * every move to a {@link BoardEngine} at full speed, ignoring the recorded delays.
+ * The resulting engine can be inspected to reproduce reported bugs or to check
+ * the outcome of recorded play. The {@link BoardDelta} of every move can be passed
+ * to a listener, which lets any frontend follow a recorded game. A replay in the
+ * Swing view is started with {@link Minesweeper#replay(JournalReader)} and follows
+ * the recorded timing.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class GameReplayer {
+
+    private GameReplayer() {
+    }
+
+    /**
+     * Replays a journal file headlessly at full speed.
+     *
+     * @param path journal file to replay
+     * @return the engine in the state reached after the last recorded move
+     * @throws IOException if the file cannot be read
+     */
+    public static BoardEngine replay(Path path) throws IOException {
+        return replay(path, null);
+    }
+
+    /**
+     * Replays a journal file headlessly at full speed, passing the changes made by
+     * every effective move to a listener.
+     *
+     * @param path     journal file to replay
+     * @param listener receives the {@link BoardDelta} of each move that changed the
+     *                 board, or {@code null}; the delta is only valid during the call
+     * @return the engine in the state reached after the last recorded move
+     * @throws IOException if the file cannot be read
+     */
+    public static BoardEngine replay(Path path, Consumer<BoardDelta> listener) throws IOException {
+        JournalReader reader = new JournalReader(path);
+        BoardEngine engine = reader.createEngine();
+        while (reader.next()) {
+            if (apply(engine, reader) && listener != null) listener.accept(engine.getLastDelta());
+        }
+        return engine;
+    }
+
+    /**
+     * Applies the current move of a reader to an engine.
+     *
+     * @param engine the board to change
+     * @param reader a reader positioned on a move
+     * @return {@code true} if the move changed the board
+     */
+    static boolean apply(BoardEngine engine, JournalReader reader) {
+        if (reader.isReveal()) {
+            return engine.reveal(reader.getIndex()) != BoardEngine.Outcome.IGNORED;
+        }
+        if (reader.isFlag()) {
+            return engine.toggleFlag(reader.getIndex());
+        }
+        if (reader.isChord()) {
+            return engine.chord(reader.getIndex()) != BoardEngine.Outcome.IGNORED;
+        }
+        throw new IllegalStateException("Unsupported journal event at cell " + reader.getIndex());
+    }
+
+    /**
+     * Replays a journal from the command line.
+     * <p>
+     * Usage: {@code GameReplayer journal [--gui]}. Without {@code --gui} the game is
+     * replayed headlessly and its final state printed; with it, the game is shown
+     * in the Swing view in real time.
+     *
+     * @param args command-line arguments
+     * @throws IOException if the journal cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: GameReplayer journal [--gui]");
+            System.exit(1);
+        }
+        Path path = Path.of(args[0]);
+
+        if (args.length > 1 && args[1].equals("--gui")) {
+            JournalReader reader = new JournalReader(path);
+            SwingUtilities.invokeLater(() -> new Minesweeper().replay(reader));
+            return;
+        }
+
+        long start = System.nanoTime();
+        BoardEngine engine = replay(path);
+        double millis = (System.nanoTime() - start) / 1e6;
+
+        String result = engine.isWon() ? "won" : engine.isGameOver() ? "lost" : "in progress";
+        System.out.printf("%dx%d, %d mines: %s, %d cells revealed, %d flags (%.1f ms)%n",
+                engine.getRows(), engine.getCols(), engine.getMineCount(), result,
+                engine.getRevealedCount(), engine.getFlagCount(), millis);
+    }
+}
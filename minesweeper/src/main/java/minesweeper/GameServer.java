@@ -0,0 +1,445 @@
+package minesweeper;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code GameServer} class hosts many concurrent headless games behind a small
+ * HTTP/JSON API, built on the JDK's built-in HTTP server.
+ * <p>
+ * Every game is a session backed by its own {@link MineField}. Sessions live in a
+ * concurrent map and each one is guarded by its own lock, so requests for different
+ * games never wait for each other and there is no global lock. Sessions that have
+ * not been used for the idle timeout are evicted by a background sweeper.
+ *
+ * <p>
+ * Each request is handled on its own virtual thread when the JVM supports them
+ * (Java 21 and later), so tens of thousands of clients can wait on their games
+ * without one platform thread each. On older JVMs a cached thread pool is used.
+ *
+ * <p>
+ * Cells are addressed by {@code row} and {@code col} query parameters:
+ * <pre>
+ * POST   /games?rows=16&amp;cols=30&amp;mines=99[&amp;seed=1]  create a game
+ * GET    /games/{id}                              board, status and counters
+ * POST   /games/{id}/reveal?row=..&amp;col=..         reveal a cell
+ * POST   /games/{id}/chord?row=..&amp;col=..          chord on a number
+ * POST   /games/{id}/flag?row=..&amp;col=..           toggle a flag
+ * DELETE /games/{id}                              end a session
+ * GET    /metrics                                 the {@link MetricsRegistry}
+ * </pre>
+ * Moves answer with their outcome and the changed cells as {@code [index, state]}
+ * pairs in the {@link BoardDelta} state codes.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class GameServer {
+
+    /** Largest board a session may create, in cells. */
+    static final int MAX_CELLS = 1_000_000;
+
+    /** Length of the queue of incoming connections. */
+    private static final int BACKLOG = 4096;
+
+    /** Time taken to handle one move request, excluding network I/O. */
+    static final MetricsRegistry.Histogram MOVE = MetricsRegistry.histogram("server.move");
+
+    /** Number of sessions created. */
+    static final MetricsRegistry.Counter SESSIONS_CREATED = MetricsRegistry.counter("server.sessionsCreated");
+
+    /** Number of sessions evicted after being idle. */
+    static final MetricsRegistry.Counter SESSIONS_EVICTED = MetricsRegistry.counter("server.sessionsEvicted");
+
+    static {
+        // Responses are written in two parts, which Nagle's algorithm holds back for
+        // a delayed ACK of about 40 ms on every request unless TCP_NODELAY is set.
+        defaultProperty("sun.net.httpserver.nodelay", "true");
+        // By default only 200 idle keep-alive connections are kept; with more clients
+        // the server closes connections the clients are about to reuse.
+        defaultProperty("sun.net.httpserver.maxIdleConnections", "100000");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService requests;
+    private final ScheduledExecutorService sweeper;
+
+    /** Idle time after which a session is evicted, in nanoseconds. */
+    private final long idleTimeoutNanos;
+
+    /** Open sessions by id. */
+    private final Map<Long, Session> sessions = new ConcurrentHashMap<>();
+
+    /** Id of the next session. */
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * Binds a server to the given port on the loopback address. The server does not
+     * accept requests until {@link #start()} is called.
+     *
+     * @param port              port to listen on, or {@code 0} for any free port
+     * @param idleTimeoutMillis idle time after which a session is evicted
+     * @throws IOException if the port cannot be bound
+     */
+    public GameServer(int port, long idleTimeoutMillis) throws IOException {
+        if (idleTimeoutMillis <= 0) throw new IllegalArgumentException("Invalid idle timeout: " + idleTimeoutMillis);
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), BACKLOG);
+        this.requests = newRequestExecutor();
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        server.setExecutor(requests);
+        server.createContext("/games", this::handleGames);
+        server.createContext("/metrics", exchange -> send(exchange, 200, "text/plain", MetricsRegistry.format()));
+    }
+
+    /**
+     * Sets a system property unless it was given on the command line. The JDK's HTTP
+     * server reads its settings once, when the first server is created.
+     */
+    private static void defaultProperty(String name, String value) {
+        if (System.getProperty(name) == null) System.setProperty(name, value);
+    }
+
+    /**
+     * Returns an executor that runs every task on a new virtual thread, or a cached
+     * pool of platform threads if the JVM has no virtual threads.
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return Executors.newCachedThreadPool();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create request executor", e);
+        }
+    }
+
+    /**
+     * Starts accepting requests and evicting idle sessions.
+     */
+    public void start() {
+        long period = Math.max(TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos) / 2, 100);
+        sweeper.scheduleAtFixedRate(this::evictIdleSessions, period, period, TimeUnit.MILLISECONDS);
+        server.start();
+    }
+
+    /**
+     * Stops the server, waiting at most one second for requests in progress, and
+     * drops all sessions.
+     */
+    public void stop() {
+        server.stop(1);
+        sweeper.shutdownNow();
+        requests.shutdownNow();
+        sessions.clear();
+    }
+
+    /** Returns the port the server listens on. */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /** Returns the number of open sessions. */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Removes every session that has not been used for the idle timeout.
+     */
+    void evictIdleSessions() {
+        long now = System.nanoTime();
+        sessions.values().removeIf(session -> {
+            boolean idle = now - session.lastAccess > idleTimeoutNanos;
+            if (idle) SESSIONS_EVICTED.increment();
+            return idle;
+        });
+    }
+
+    /**
+     * Routes a request under {@code /games} and reports errors as JSON.
+     */
+    private void handleGames(HttpExchange exchange) throws IOException {
+        try {
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            String method = exchange.getRequestMethod();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            try {
+                if (path.length == 2) {
+                    if (!method.equals("POST")) throw new HttpError(405, "Use POST to create a game");
+                    send(exchange, 201, create(query));
+                    return;
+                }
+
+                Session session = sessions.get(parseId(path[2]));
+                if (session == null) throw new HttpError(404, "No such game: " + path[2]);
+                session.lastAccess = System.nanoTime();
+
+                if (path.length == 3) {
+                    switch (method) {
+                        case "GET" -> send(exchange, 200, session.describe());
+                        case "DELETE" -> {
+                            sessions.remove(session.id);
+                            exchange.sendResponseHeaders(204, -1);
+                        }
+                        default -> throw new HttpError(405, "Use GET or DELETE on a game");
+                    }
+                } else if (path.length == 4) {
+                    if (!method.equals("POST")) throw new HttpError(405, "Use POST to make a move");
+                    send(exchange, 200, session.move(path[3], query));
+                } else {
+                    throw new HttpError(404, "No such resource");
+                }
+            } catch (HttpError e) {
+                send(exchange, e.status, error(e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, error(e.getMessage()));
+            } catch (RuntimeException e) {
+                send(exchange, 500, error(e.toString()));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Creates a session from the {@code rows}, {@code cols}, {@code mines} and
+     * optional {@code seed} parameters.
+     */
+    private String create(Map<String, String> query) {
+        int rows = intParam(query, "rows");
+        int cols = intParam(query, "cols");
+        int mines = intParam(query, "mines");
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > MAX_CELLS) {
+            throw new IllegalArgumentException("Board must have 1 to " + MAX_CELLS + " cells");
+        }
+        if (mines < 0 || mines >= rows * cols) throw new IllegalArgumentException("Invalid mine count: " + mines);
+
+        String seed = query.get("seed");
+        MineField field = seed == null
+                ? new MineField(rows, cols, mines)
+                : new MineField(rows, cols, mines, Long.parseLong(seed));
+        field.getEngine().setMetricsEnabled(true);
+        Session session = new Session(nextId.getAndIncrement(), field);
+        sessions.put(session.id, session);
+        SESSIONS_CREATED.increment();
+        return "{\"id\":" + session.id + ",\"rows\":" + rows + ",\"cols\":" + cols + ",\"mines\":" + mines + "}";
+    }
+
+    /**
+     * One game and the lock that confines it to one request at a time.
+     */
+    private static final class Session {
+
+        final long id;
+        final MineField field;
+        final ReentrantLock lock = new ReentrantLock();
+
+        /** {@link System#nanoTime()} of the last request. */
+        volatile long lastAccess = System.nanoTime();
+
+        Session(long id, MineField field) {
+            this.id = id;
+            this.field = field;
+        }
+
+        /**
+         * Applies a move and describes the changed cells.
+         */
+        String move(String action, Map<String, String> query) throws HttpError {
+            int row = intParam(query, "row");
+            int col = intParam(query, "col");
+            lock.lock();
+            try {
+                long start = System.nanoTime();
+                BoardEngine engine = field.getEngine();
+                if (row < 0 || row >= engine.getRows() || col < 0 || col >= engine.getCols()) {
+                    throw new IllegalArgumentException("Cell outside the board: " + row + "," + col);
+                }
+
+                BoardEngine.Outcome outcome = switch (action) {
+                    case "reveal" -> engine.reveal(row, col);
+                    case "chord" -> engine.chord(row, col);
+                    case "flag" -> engine.toggleFlag(row, col) ? BoardEngine.Outcome.SAFE : BoardEngine.Outcome.IGNORED;
+                    default -> throw new HttpError(404, "No such move: " + action);
+                };
+
+                BoardDelta delta = engine.getLastDelta();
+                StringBuilder sb = new StringBuilder(32 + 12 * delta.size());
+                sb.append("{\"outcome\":\"").append(outcome).append("\",\"cells\":[");
+                for (int n = 0; n < delta.size(); n++) {
+                    if (n > 0) sb.append(',');
+                    sb.append('[').append(delta.getIndex(n)).append(',').append(delta.getState(n)).append(']');
+                }
+                sb.append("]}");
+                MOVE.record(System.nanoTime() - start);
+                return sb.toString();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Describes the board, one string per row: {@code #} hidden, {@code F}
+         * flagged, {@code *} a mine shown after the game, digits for revealed cells.
+         */
+        String describe() {
+            lock.lock();
+            try {
+                BoardEngine engine = field.getEngine();
+                String status = engine.isWon() ? "won" : engine.isGameOver() ? "lost" : "playing";
+                StringBuilder sb = new StringBuilder(128 + engine.getCellCount() + 3 * engine.getRows());
+                sb.append("{\"id\":").append(id)
+                        .append(",\"rows\":").append(engine.getRows())
+                        .append(",\"cols\":").append(engine.getCols())
+                        .append(",\"mines\":").append(engine.getMineCount())
+                        .append(",\"status\":\"").append(status)
+                        .append("\",\"revealed\":").append(engine.getRevealedCount())
+                        .append(",\"flags\":").append(engine.getFlagCount())
+                        .append(",\"board\":[");
+                for (int r = 0; r < engine.getRows(); r++) {
+                    sb.append(r == 0 ? "\"" : ",\"");
+                    for (int c = 0; c < engine.getCols(); c++) {
+                        int index = engine.index(r, c);
+                        if (engine.isRevealed(index) && !engine.isMine(index)) {
+                            sb.append((char) ('0' + engine.getAdjacentMines(index)));
+                        } else if (engine.isGameOver() && engine.isMine(index)) {
+                            sb.append('*');
+                        } else {
+                            sb.append(engine.isFlagged(index) ? 'F' : '#');
+                        }
+                    }
+                    sb.append('"');
+                }
+                return sb.append("]}").toString();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * An error answered with the given HTTP status.
+     */
+    private static final class HttpError extends Exception {
+
+        final int status;
+
+        HttpError(int status, String message) {
+            super(message, null, false, false);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Parses a session id from a path segment.
+     */
+    private static long parseId(String text) throws HttpError {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            throw new HttpError(404, "No such game: " + text);
+        }
+    }
+
+    /**
+     * Returns a required integer query parameter.
+     */
+    private static int intParam(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null) throw new IllegalArgumentException("Missing parameter: " + name);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Splits a raw query string into decoded parameters.
+     */
+    private static Map<String, String> parseQuery(String raw) {
+        Map<String, String> query = new HashMap<>();
+        if (raw == null || raw.isEmpty()) return query;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq < 0) continue;
+            query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    /**
+     * Formats an error message as JSON.
+     */
+    private static String error(String message) {
+        String text = message == null ? "" : message.replace("\\", "\\\\").replace("\"", "\\\"");
+        return "{\"error\":\"" + text + "\"}";
+    }
+
+    /**
+     * Sends a JSON response.
+     */
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        send(exchange, status, "application/json", json);
+    }
+
+    /**
+     * Sends a response with the given content type.
+     */
+    private static void send(HttpExchange exchange, int status, String type, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", type);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Runs a server from the command line until the JVM exits.
+     * <p>
+     * Usage: {@code GameServer [port] [idleSeconds]}
+     *
+     * @param args command-line arguments
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        long idleSeconds = args.length > 1 ? Long.parseLong(args[1]) : 300;
+
+        GameServer server = new GameServer(port, TimeUnit.SECONDS.toMillis(idleSeconds));
+        server.start();
+        System.out.printf("Minesweeper server on http://127.0.0.1:%d/games (idle timeout %d s)%n",
+                server.getPort(), idleSeconds);
+    }
+}
@@ -0,0 +1,141 @@
+package minesweeper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The {@code GameSnapshot} class saves and loads the complete state of a
+ * {@link BoardEngine} in a compact binary file.
+ * <p>
+ * The file holds a fixed header followed by the mine, revealed and flagged
+ * bitsets as raw {@code long} words:
+ * <pre>
+ *   int  magic "MSS1"
+ *   byte version
+ *   int  rows, int cols, int mines
+ *   long seed
+ *   byte state (bit 0: game over, bit 1: won)
+ *   int  revealed count, int flag count
+ *   long[3 * ceil(rows * cols / 64)] bitsets
+ * </pre>
+ * Both directions are bulk copies between the engine's arrays and an NIO buffer,
+ * so a 1000x1000 board is saved or loaded in a few milliseconds and takes about
+ * 375 KB. The counters are checked against the bitsets on load to detect
+ * damaged files.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class GameSnapshot {
+
+    /** File signature, the ASCII characters {@code MSS1}. */
+    static final int MAGIC = 0x4D535331;
+
+    /** Current format version. */
+    static final byte VERSION = 1;
+
+    /** Size of the header in bytes. */
+    static final int HEADER_SIZE = 4 + 1 + 4 + 4 + 4 + 8 + 1 + 4 + 4;
+
+    private static final int GAME_OVER = 1;
+    private static final int WON = 2;
+
+    /** The restored board. */
+    private final BoardEngine engine;
+
+    /** Seed of the saved game. */
+    private final long seed;
+
+    private GameSnapshot(BoardEngine engine, long seed) {
+        this.engine = engine;
+        this.seed = seed;
+    }
+
+    /**
+     * Writes the state of a board to a file, replacing any existing file.
+     *
+     * @param engine the board to save
+     * @param seed   seed of the game, kept for reference
+     * @param path   file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(BoardEngine engine, long seed, Path path) throws IOException {
+        int words = Bits.words(engine.getCellCount());
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 3 * words * Long.BYTES);
+
+        buffer.putInt(MAGIC)
+                .put(VERSION)
+                .putInt(engine.getRows())
+                .putInt(engine.getCols())
+                .putInt(engine.getMineCount())
+                .putLong(seed)
+                .put((byte) ((engine.isGameOver() ? GAME_OVER : 0) | (engine.isWon() ? WON : 0)))
+                .putInt(engine.getRevealedCount())
+                .putInt(engine.getFlagCount());
+        engine.writeBits(buffer.asLongBuffer());
+        buffer.position(buffer.capacity()).flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads a board saved with {@link #save(BoardEngine, long, Path)}.
+     *
+     * @param path file to read
+     * @return the restored board and its seed
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid snapshot
+     */
+    public static GameSnapshot load(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a Minesweeper snapshot: " + path);
+        }
+        byte version = buffer.get();
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+
+        int rows = buffer.getInt();
+        int cols = buffer.getInt();
+        int mines = buffer.getInt();
+        long seed = buffer.getLong();
+        int state = buffer.get();
+        int revealedCount = buffer.getInt();
+        int flagCount = buffer.getInt();
+
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE
+                || buffer.remaining() != 3L * Bits.words(rows * cols) * Long.BYTES) {
+            throw new IllegalArgumentException("Damaged snapshot: unexpected size");
+        }
+
+        BoardEngine engine = BoardEngine.restore(rows, cols, mines, buffer.asLongBuffer(),
+                (state & GAME_OVER) != 0, (state & WON) != 0);
+        if (engine.getRevealedCount() != revealedCount || engine.getFlagCount() != flagCount) {
+            throw new IllegalArgumentException("Damaged snapshot: counters do not match the bitsets");
+        }
+        return new GameSnapshot(engine, seed);
+    }
+
+    /** Returns the restored board. */
+    public BoardEngine getEngine() {
+        return engine;
+    }
+
+    /** Returns the seed of the saved game. */
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,252 @@
+package minesweeper;
+
+import javax.swing.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The {@code GameThread} class runs every move of a game on a single background
+ * thread and publishes the results to the Event Dispatch Thread.
+ * <p>
+ * The {@link BoardEngine} is owned by this thread: once handed over with
+ * {@link #start(BoardEngine)}, it is only changed by tasks queued here, so there
+ * is exactly one writer per game. Moves submitted while another move is still
+ * being computed simply wait in the queue, and the EDT never blocks on a flood
+ * fill or a solver run.
+ *
+ * <p>
+ * The {@link BoardDelta} of every move is copied and queued for the view. A drain
+ * task on the EDT, scheduled through {@link SwingUtilities#invokeLater(Runnable)}
+ * only when none is pending, merges the queued deltas into one batch and hands it
+ * to the view, which repaints once per batch. A batch holds at most
+ * {@link #PUBLISH_SLICE} cells; larger cascades are delivered over several EDT
+ * events, so painting and input continue while they are applied.
+ *
+ * <p>
+ * Starting, resetting or stopping a game begins a new generation. Results of
+ * older generations that are still queued are discarded by the drain task.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class GameThread {
+
+    /** Largest number of cells handed to the view in one EDT event. */
+    static final int PUBLISH_SLICE = 64 * 1024;
+
+    /**
+     * A move result waiting for the EDT, with the number of its cells already applied.
+     */
+    private static final class Update {
+
+        final int generation;
+        final BoardDelta delta;
+        int applied;
+
+        Update(int generation, BoardDelta delta) {
+            this.generation = generation;
+            this.delta = delta;
+        }
+    }
+
+    /** Single thread that owns the engine. */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "game-thread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Receives merged batches on the EDT. */
+    private final Consumer<BoardDelta> view;
+
+    /** Move results waiting for the EDT, in move order. */
+    private final ConcurrentLinkedQueue<Update> published = new ConcurrentLinkedQueue<>();
+
+    /** Whether a drain task has been scheduled and has not started yet. */
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    /** Generation of the game shown by the view. Confined to the EDT. */
+    private int viewGeneration;
+
+    /** Engine of the current game. Confined to the game thread. */
+    private BoardEngine engine;
+
+    /** Generation of {@link #engine}. Confined to the game thread. */
+    private int generation;
+
+    /**
+     * Constructs a game thread that publishes to the given view.
+     *
+     * @param view receives the merged changes of queued moves, always on the EDT
+     */
+    public GameThread(Consumer<BoardDelta> view) {
+        this.view = view;
+    }
+
+    /**
+     * Hands a new engine to the game thread. Must be called on the EDT, and the
+     * caller must not change the engine afterwards.
+     *
+     * @param engine the board of the new game
+     */
+    public void start(BoardEngine engine) {
+        int next = ++viewGeneration;
+        executor.execute(() -> {
+            this.engine = engine;
+            this.generation = next;
+        });
+    }
+
+    /**
+     * Resets the current engine with a new seed on the game thread. Must be
+     * called on the EDT.
+     *
+     * @param seed seed of the new layout
+     */
+    public void reset(long seed) {
+        int next = ++viewGeneration;
+        executor.execute(() -> {
+            engine.reset(seed);
+            generation = next;
+        });
+    }
+
+    /**
+     * Ends the current game without starting another, as when the view switches to
+     * a board that does not use the game thread. Must be called on the EDT.
+     * <p>
+     * Results of the game that are still queued, including the remaining slices of
+     * a cascade, are discarded, and the engine is released. Moves submitted before
+     * the next {@link #start(BoardEngine)} are ignored.
+     */
+    public void stop() {
+        int next = ++viewGeneration;
+        executor.execute(() -> {
+            this.engine = null;
+            this.generation = next;
+        });
+    }
+
+    /**
+     * Sets on the game thread whether the first reveal of a game is safe. Must be
+     * called on the EDT after {@link #start(BoardEngine)}.
+     *
+     * @param safe whether the first reveal moves the mines around its cell elsewhere
+     */
+    public void setFirstClickSafe(boolean safe) {
+        executor.execute(() -> {
+            if (engine != null) engine.setFirstClickSafe(safe);
+        });
+    }
+
+    /**
+     * Queues a reveal of the given cell.
+     *
+     * @param index linear cell index
+     */
+    public void reveal(int index) {
+        executor.execute(() -> {
+            if (engine != null && engine.reveal(index) != BoardEngine.Outcome.IGNORED) publish();
+        });
+    }
+
+    /**
+     * Queues a chord on the given cell.
+     *
+     * @param index linear cell index
+     */
+    public void chord(int index) {
+        executor.execute(() -> {
+            if (engine != null && engine.chord(index) != BoardEngine.Outcome.IGNORED) publish();
+        });
+    }
+
+    /**
+     * Queues a flag toggle on the given cell.
+     *
+     * @param index linear cell index
+     */
+    public void flag(int index) {
+        executor.execute(() -> {
+            if (engine != null && engine.toggleFlag(index)) publish();
+        });
+    }
+
+    /**
+     * Runs a task with the engine on the game thread, after all queued moves.
+     * The task must not change the engine, which is {@code null} after {@link #stop()}.
+     *
+     * @param task the task to run
+     * @param <T>  type of the result
+     * @return a future completing with the result on the game thread
+     */
+    public <T> CompletableFuture<T> call(Function<BoardEngine, T> task) {
+        return CompletableFuture.supplyAsync(() -> task.apply(engine), executor);
+    }
+
+    /**
+     * Returns the generation of the game shown by the view. Must be called on the EDT;
+     * a result computed by {@link #call(Function)} is stale if the generation changed.
+     *
+     * @return current generation
+     */
+    public int getGeneration() {
+        return viewGeneration;
+    }
+
+    /**
+     * Copies the delta of the move just made and schedules a drain if needed.
+     */
+    private void publish() {
+        published.add(new Update(generation, engine.getLastDelta().copy()));
+        if (drainScheduled.compareAndSet(false, true)) SwingUtilities.invokeLater(this::drain);
+    }
+
+    /**
+     * Merges queued move results of the current generation into one batch of at
+     * most {@link #PUBLISH_SLICE} cells and passes it to the view. Runs on the EDT,
+     * and reschedules itself if results remain.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        BoardDelta batch = null;
+
+        Update update;
+        while ((update = published.peek()) != null) {
+            if (update.generation != viewGeneration) {
+                published.poll();
+                continue;
+            }
+            BoardDelta delta = update.delta;
+            if (batch == null) {
+                batch = new BoardDelta(delta.getNumCols());
+                batch.setOutcome(BoardEngine.Outcome.SAFE);
+            }
+
+            int end = Math.min(delta.size(), update.applied + PUBLISH_SLICE - batch.size());
+            for (int n = update.applied; n < end; n++) {
+                batch.add(delta.getIndex(n), delta.getState(n));
+            }
+            update.applied = end;
+            if (end < delta.size()) break;
+
+            batch.setOutcome(delta.getOutcome());
+            published.poll();
+            if (batch.size() >= PUBLISH_SLICE) break;
+        }
+
+        if (batch != null) view.accept(batch);
+        if (!published.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::drain);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package minesweeper;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The {@code GlyphAtlas} class holds one pre-rendered image for every way a cell
+ * can look, at one cell size and display scale.
+ * <p>
+ * Images are indexed by the {@link BoardDelta} state codes: {@code 0} to {@code 8}
+ * for revealed cells, {@link BoardDelta#MINE}, {@link BoardDelta#FLAGGED} and
+ * {@link BoardDelta#HIDDEN}, plus {@link #HINT} for a highlighted hidden cell.
+ * Text is measured and rendered once, when the atlas is built, so painting a cell
+ * is a single {@link Graphics#drawImage} of a compatible image and allocates nothing.
+ *
+ * <p>
+ * The images are rendered at the device scale of the target graphics, so they
+ * stay sharp on HiDPI screens. {@link #get(Graphics2D, int, int)} returns a shared
+ * atlas and builds a new one only when the cell size or the scale changes. It
+ * must be called on the EDT.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+final class GlyphAtlas {
+
+    /** Glyph of a hidden cell highlighted as a hint. */
+    static final byte HINT = 12;
+
+    /** Number of glyphs in the atlas. */
+    private static final int GLYPH_COUNT = HINT + 1;
+
+    /** Atlas of the last requested size and scale. Confined to the EDT. */
+    private static GlyphAtlas shared;
+
+    /** Cell width in user space. */
+    private final int width;
+
+    /** Cell height in user space. */
+    private final int height;
+
+    /** Device pixels per user-space unit. */
+    private final double scale;
+
+    /** Pre-rendered cells, indexed by glyph. */
+    private final Image[] glyphs = new Image[GLYPH_COUNT];
+
+    /**
+     * Renders all glyphs for the given cell size and scale.
+     */
+    private GlyphAtlas(GraphicsConfiguration config, int width, int height, double scale) {
+        this.width = width;
+        this.height = height;
+        this.scale = scale;
+
+        int pixelWidth = (int) Math.ceil(width * scale);
+        int pixelHeight = (int) Math.ceil(height * scale);
+        Font font = TileStyle.glyphFont(Math.min(width, height) / 2);
+
+        for (int glyph = 0; glyph < GLYPH_COUNT; glyph++) {
+            BufferedImage image = config != null
+                    ? config.createCompatibleImage(pixelWidth, pixelHeight)
+                    : new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2 = image.createGraphics();
+            g2.scale(scale, scale);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2.setFont(font);
+            render(g2, (byte) glyph);
+            g2.dispose();
+            glyphs[glyph] = image;
+        }
+    }
+
+    /**
+     * Returns an atlas for cells of the given size at the scale of the given graphics.
+     *
+     * @param g      graphics the cells will be painted on
+     * @param width  cell width in user space
+     * @param height cell height in user space
+     * @return the shared atlas, rebuilt if the size or scale changed
+     */
+    static GlyphAtlas get(Graphics2D g, int width, int height) {
+        double scale = g.getTransform().getScaleX();
+        GlyphAtlas atlas = shared;
+        if (atlas == null || atlas.width != width || atlas.height != height || atlas.scale != scale) {
+            atlas = new GlyphAtlas(g.getDeviceConfiguration(), width, height, scale);
+            shared = atlas;
+        }
+        return atlas;
+    }
+
+    /**
+     * Paints one cell.
+     *
+     * @param g     graphics to paint on
+     * @param glyph a {@link BoardDelta} state code or {@link #HINT}
+     * @param x     left edge of the cell
+     * @param y     top edge of the cell
+     */
+    void paint(Graphics g, int glyph, int x, int y) {
+        g.drawImage(glyphs[glyph], x, y, width, height, null);
+    }
+
+    /**
+     * Draws a glyph at the origin.
+     */
+    private void render(Graphics2D g2, byte glyph) {
+        if (glyph <= 8) {
+            g2.setColor(TileStyle.OPEN_COLOR);
+            g2.fillRect(0, 0, width, height);
+            g2.setColor(TileStyle.GRID_COLOR);
+            g2.drawRect(0, 0, width - 1, height - 1);
+            if (glyph > 0) renderText(g2, Integer.toString(glyph), TileStyle.numberColor(glyph));
+            return;
+        }
+
+        g2.setColor(glyph == HINT ? TileStyle.HINT_COLOR : TileStyle.HIDDEN_COLOR);
+        g2.fillRect(0, 0, width, height);
+        g2.setColor(TileStyle.HIGHLIGHT_COLOR);
+        g2.drawLine(0, 0, width - 1, 0);
+        g2.drawLine(0, 0, 0, height - 1);
+        g2.setColor(TileStyle.SHADOW_COLOR);
+        g2.drawLine(0, height - 1, width - 1, height - 1);
+        g2.drawLine(width - 1, 0, width - 1, height - 1);
+
+        if (glyph == BoardDelta.MINE) renderText(g2, TileStyle.MINE, Color.BLACK);
+        else if (glyph == BoardDelta.FLAGGED) renderText(g2, TileStyle.FLAG, Color.BLACK);
+    }
+
+    /**
+     * Draws text centered in the cell.
+     */
+    private void renderText(Graphics2D g2, String text, Color color) {
+        FontMetrics fm = g2.getFontMetrics();
+        g2.setColor(color);
+        g2.drawString(text, (width - fm.stringWidth(text)) / 2, (height - fm.getHeight()) / 2 + fm.getAscent());
+    }
+}
@@ -0,0 +1,569 @@
+package minesweeper;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code InfiniteBoard} class is a headless Minesweeper board without edges.
+ * <p>
+ * The plane is divided into square chunks of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE}
+ * cells. The mines of a chunk are a pure function of the board seed and the chunk
+ * coordinates, so a chunk is only created when a reveal or flag touches it and can
+ * be thrown away and regenerated at any time. Queries never create chunks. Parts
+ * of the plane nobody has played do not exist in memory.
+ *
+ * <p>
+ * Live chunks are kept in least-recently-used order. After every move, chunks
+ * beyond the live limit are evicted: chunks without player state are simply
+ * dropped, and chunks with revealed or flagged cells are encoded into a compact
+ * store from which they are restored when touched again. Memory therefore grows
+ * with the explored area, never with the size of the plane.
+ *
+ * <p>
+ * Coordinates are {@code int} columns ({@code x}) and rows ({@code y}), and may be
+ * negative. They wrap around at the {@code int} bounds, so the board is in fact a
+ * torus of 2<sup>32</sup> x 2<sup>32</sup> cells. The cells within one step of the
+ * origin never hold a mine, so every game can start with a click at {@code (0, 0)}.
+ * The game cannot be won; it ends when a mine is revealed.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class InfiniteBoard {
+
+    /** Number of cells along each side of a chunk. */
+    public static final int CHUNK_SIZE = 32;
+
+    /** Number of live chunks kept in memory by default. */
+    public static final int DEFAULT_LIVE_CHUNKS = 256;
+
+    /**
+     * Lowest supported mine density. Below it, areas without adjacent mines
+     * percolate and a single click could open an unbounded region.
+     */
+    public static final double MIN_DENSITY = 0.125;
+
+    private static final int SHIFT = 5;
+    private static final int MASK = CHUNK_SIZE - 1;
+    private static final int CHUNK_CELLS = CHUNK_SIZE * CHUNK_SIZE;
+    private static final int CHUNK_WORDS = Bits.words(CHUNK_CELLS);
+
+    /** Number of mine layouts of untouched chunks kept for queries. */
+    private static final int MAX_QUERY_LAYOUTS = 64;
+
+    /**
+     * One chunk of the plane. The mine layout is always present; the revealed
+     * and flagged bitsets are allocated on first use.
+     */
+    private static final class Chunk {
+
+        final long key;
+        final long[] mines = new long[CHUNK_WORDS];
+        long[] revealed;
+        long[] flagged;
+
+        Chunk(long key) {
+            this.key = key;
+        }
+
+        boolean hasState() {
+            return !isEmpty(revealed) || !isEmpty(flagged);
+        }
+
+        private static boolean isEmpty(long[] bits) {
+            if (bits == null) return true;
+            for (long word : bits) {
+                if (word != 0) return false;
+            }
+            return true;
+        }
+    }
+
+    /** Seed from which the mines of every chunk are derived. */
+    private final long seed;
+
+    /** Number of mines in every chunk. */
+    private final int chunkMines;
+
+    /** Maximum number of chunks kept live after a move. */
+    private final int maxLiveChunks;
+
+    /** Live chunks by key, in least-recently-used order. */
+    private final LinkedHashMap<Long, Chunk> live = new LinkedHashMap<>(64, 0.75f, true);
+
+    /** Encoded player state of evicted chunks by key. */
+    private final Map<Long, byte[]> store = new HashMap<>();
+
+    /** Total size of the encoded chunks in {@link #store}, in bytes. */
+    private long storedBytes;
+
+    /**
+     * Mine layouts of chunks that are not live, generated for queries such as
+     * {@link #isMine(int, int)}, in least-recently-used order. Queries never create
+     * chunks, so painting after a loss does not grow the live set.
+     */
+    private final LinkedHashMap<Long, long[]> queryLayouts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+            return size() > MAX_QUERY_LAYOUTS;
+        }
+    };
+
+    /** Most recently used chunk, checked before the map lookup. */
+    private Chunk lastChunk;
+
+    /** Flood-fill work queue of packed coordinates; also holds the cells opened by the last reveal. */
+    private long[] openQueue = new long[1024];
+
+    /** Number of cells opened by the last reveal. */
+    private int lastOpenedCount;
+
+    /** Number of revealed safe cells. */
+    private long revealedCount;
+
+    /** Number of flagged cells. */
+    private long flagCount;
+
+    /** Indicates whether a mine has been revealed. */
+    private boolean gameOver;
+
+    /**
+     * Constructs an unbounded board with the default live-chunk limit.
+     *
+     * @param seed    seed from which all mines are derived
+     * @param density fraction of cells holding a mine
+     */
+    public InfiniteBoard(long seed, double density) {
+        this(seed, density, DEFAULT_LIVE_CHUNKS);
+    }
+
+    /**
+     * Constructs an unbounded board.
+     *
+     * @param seed          seed from which all mines are derived
+     * @param density       fraction of cells holding a mine, from {@link #MIN_DENSITY} to below 1
+     * @param maxLiveChunks number of chunks kept in memory after every move
+     */
+    public InfiniteBoard(long seed, double density, int maxLiveChunks) {
+        if (!(density >= MIN_DENSITY && density < 1)) {
+            throw new IllegalArgumentException("Invalid mine density: " + density);
+        }
+        if (maxLiveChunks <= 0) throw new IllegalArgumentException("Invalid live chunk limit: " + maxLiveChunks);
+        this.seed = seed;
+        this.chunkMines = (int) Math.round(density * CHUNK_CELLS);
+        this.maxLiveChunks = maxLiveChunks;
+    }
+
+    /**
+     * Reveals the cell at the given position. If the cell has no adjacent mines,
+     * its neighbours are revealed as well, across chunk borders.
+     * <p>
+     * The cells opened by this call can be read with {@link #getLastOpenedCount()},
+     * {@link #getLastOpenedX(int)} and {@link #getLastOpenedY(int)}.
+     *
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return {@link BoardEngine.Outcome#IGNORED}, {@link BoardEngine.Outcome#SAFE}
+     *         or {@link BoardEngine.Outcome#MINE}
+     */
+    public BoardEngine.Outcome reveal(int x, int y) {
+        lastOpenedCount = 0;
+        if (gameOver) return BoardEngine.Outcome.IGNORED;
+
+        Chunk chunk = chunk(x, y);
+        int local = local(x, y);
+        if (Bits.get(revealed(chunk), local) || (chunk.flagged != null && Bits.get(chunk.flagged, local))) {
+            return BoardEngine.Outcome.IGNORED;
+        }
+
+        if (Bits.get(chunk.mines, local)) {
+            Bits.set(chunk.revealed, local);
+            openQueue[0] = pack(x, y);
+            lastOpenedCount = 1;
+            gameOver = true;
+            return BoardEngine.Outcome.MINE;
+        }
+
+        lastOpenedCount = floodFill(x, y);
+        evictIdleChunks();
+        return BoardEngine.Outcome.SAFE;
+    }
+
+    /**
+     * Opens a safe cell and, breadth-first, every cell reachable from it through
+     * cells with no adjacent mines. Cells are marked revealed when enqueued, so each
+     * enters the queue once. Chunks are not evicted during the fill.
+     *
+     * @return number of cells opened; they occupy the start of {@link #openQueue}
+     */
+    private int floodFill(int startX, int startY) {
+        long[] queue = openQueue;
+        int head = 0;
+        int tail = 0;
+
+        Chunk start = chunk(startX, startY);
+        Bits.set(revealed(start), local(startX, startY));
+        queue[tail++] = pack(startX, startY);
+
+        while (head < tail) {
+            long cell = queue[head++];
+            int x = (int) cell;
+            int y = (int) (cell >> 32);
+            if (countAdjacent(x, y) != 0) continue;
+
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    int nx = x + dx;
+                    int ny = y + dy;
+                    Chunk chunk = chunk(nx, ny);
+                    int local = local(nx, ny);
+                    long[] open = revealed(chunk);
+                    if (Bits.get(open, local) || (chunk.flagged != null && Bits.get(chunk.flagged, local))) continue;
+                    Bits.set(open, local);
+                    if (tail == queue.length) queue = openQueue = Arrays.copyOf(queue, tail * 2);
+                    queue[tail++] = pack(nx, ny);
+                }
+            }
+        }
+
+        revealedCount += tail;
+        return tail;
+    }
+
+    /**
+     * Toggles the flag on a hidden cell.
+     *
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return {@code true} if the flag state changed
+     */
+    public boolean toggleFlag(int x, int y) {
+        if (gameOver) return false;
+
+        Chunk chunk = chunk(x, y);
+        int local = local(x, y);
+        if (chunk.revealed != null && Bits.get(chunk.revealed, local)) return false;
+
+        if (chunk.flagged == null) chunk.flagged = new long[CHUNK_WORDS];
+        if (Bits.get(chunk.flagged, local)) {
+            Bits.clear(chunk.flagged, local);
+            flagCount--;
+        } else {
+            Bits.set(chunk.flagged, local);
+            flagCount++;
+        }
+        evictIdleChunks();
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the cell has been revealed. Never creates a chunk
+     * the player has not touched.
+     *
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return whether the cell is revealed
+     */
+    public boolean isRevealed(int x, int y) {
+        Chunk chunk = peekChunk(x, y);
+        return chunk != null && chunk.revealed != null && Bits.get(chunk.revealed, local(x, y));
+    }
+
+    /**
+     * Returns {@code true} if the cell is flagged. Never creates a chunk the
+     * player has not touched.
+     *
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return whether the cell is flagged
+     */
+    public boolean isFlagged(int x, int y) {
+        Chunk chunk = peekChunk(x, y);
+        return chunk != null && chunk.flagged != null && Bits.get(chunk.flagged, local(x, y));
+    }
+
+    /**
+     * Returns {@code true} if the cell holds a mine. Never creates a chunk the
+     * player has not touched.
+     *
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return whether the cell is a mine
+     */
+    public boolean isMine(int x, int y) {
+        return Bits.get(mines(x, y), local(x, y));
+    }
+
+    /**
+     * Returns the number of mines around the cell. Never creates a chunk the
+     * player has not touched.
+     *
+     * @param x column of the cell
+     * @param y row of the cell
+     * @return number of adjacent mines, from 0 to 8
+     */
+    public int getAdjacentMines(int x, int y) {
+        return countAdjacent(x, y);
+    }
+
+    /**
+     * Counts the mines around a cell. Cells inside a chunk read only that chunk's
+     * layout; cells on a chunk border look up their neighbours one by one.
+     */
+    private int countAdjacent(int x, int y) {
+        int lx = x & MASK;
+        int ly = y & MASK;
+        int count = 0;
+
+        if (lx > 0 && lx < MASK && ly > 0 && ly < MASK) {
+            long[] mines = mines(x, y);
+            for (int r = ly - 1; r <= ly + 1; r++) {
+                for (int c = lx - 1; c <= lx + 1; c++) {
+                    if (Bits.get(mines, (r << SHIFT) | c)) count++;
+                }
+            }
+            return Bits.get(mines, (ly << SHIFT) | lx) ? count - 1 : count;
+        }
+
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if ((dx != 0 || dy != 0) && isMine(x + dx, y + dy)) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of cells opened by the most recent call to {@link #reveal(int, int)}.
+     *
+     * @return number of opened cells, or {@code 0} if the reveal was ignored
+     */
+    public int getLastOpenedCount() {
+        return lastOpenedCount;
+    }
+
+    /**
+     * Returns the column of the {@code n}-th cell opened by the most recent reveal.
+     *
+     * @param n position in the opened set, from {@code 0} to {@link #getLastOpenedCount()} - 1
+     * @return column of the cell
+     */
+    public int getLastOpenedX(int n) {
+        return (int) openQueue[n];
+    }
+
+    /**
+     * Returns the row of the {@code n}-th cell opened by the most recent reveal.
+     *
+     * @param n position in the opened set, from {@code 0} to {@link #getLastOpenedCount()} - 1
+     * @return row of the cell
+     */
+    public int getLastOpenedY(int n) {
+        return (int) (openQueue[n] >> 32);
+    }
+
+    /**
+     * Returns the live chunk containing the cell, creating or restoring it if needed.
+     */
+    private Chunk chunk(int x, int y) {
+        long key = pack(x >> SHIFT, y >> SHIFT);
+        Chunk chunk = lastChunk;
+        if (chunk != null && chunk.key == key) return chunk;
+
+        chunk = live.get(key);
+        if (chunk == null) {
+            chunk = new Chunk(key);
+            generateMines(chunk.mines, x >> SHIFT, y >> SHIFT);
+            byte[] state = store.remove(key);
+            if (state != null) {
+                storedBytes -= state.length;
+                decode(chunk, state);
+            }
+            live.put(key, chunk);
+        }
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    /**
+     * Returns the mine layout of the chunk containing the cell: that of the live
+     * chunk if there is one, otherwise a layout generated for queries only.
+     */
+    private long[] mines(int x, int y) {
+        long key = pack(x >> SHIFT, y >> SHIFT);
+        if (lastChunk != null && lastChunk.key == key) return lastChunk.mines;
+        Chunk chunk = live.get(key);
+        if (chunk != null) return chunk.mines;
+
+        long[] mines = queryLayouts.get(key);
+        if (mines == null) {
+            mines = new long[CHUNK_WORDS];
+            generateMines(mines, x >> SHIFT, y >> SHIFT);
+            queryLayouts.put(key, mines);
+        }
+        return mines;
+    }
+
+    /**
+     * Returns the chunk containing the cell if it is live or stored, or
+     * {@code null} if the player has never touched it.
+     */
+    private Chunk peekChunk(int x, int y) {
+        long key = pack(x >> SHIFT, y >> SHIFT);
+        if (lastChunk != null && lastChunk.key == key) return lastChunk;
+        if (!live.containsKey(key) && !store.containsKey(key)) return null;
+        return chunk(x, y);
+    }
+
+    /**
+     * Returns the revealed bitset of a chunk, allocating it on first use.
+     */
+    private static long[] revealed(Chunk chunk) {
+        if (chunk.revealed == null) chunk.revealed = new long[CHUNK_WORDS];
+        return chunk.revealed;
+    }
+
+    /**
+     * Places the mines of a chunk into an empty bitset with Floyd's sampling,
+     * drawing from a SplitMix64 stream keyed by the board seed and the chunk
+     * coordinates. Cells within one step of the origin are kept free of mines.
+     */
+    private void generateMines(long[] mines, int cx, int cy) {
+        long chunkSeed = SimulationRunner.mix(SimulationRunner.mix(seed, cx), cy);
+        int draw = 0;
+
+        for (int j = CHUNK_CELLS - chunkMines; j < CHUNK_CELLS; j++) {
+            long random = SimulationRunner.mix(chunkSeed, draw++) >>> 32;
+            int index = (int) ((random * (j + 1)) >>> 32);
+            if (Bits.get(mines, index)) index = j;
+            Bits.set(mines, index);
+        }
+
+        if ((cx == 0 || cx == -1) && (cy == 0 || cy == -1)) {
+            for (int y = -1; y <= 1; y++) {
+                for (int x = -1; x <= 1; x++) {
+                    if (x >> SHIFT == cx && y >> SHIFT == cy) Bits.clear(mines, local(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts least-recently-used chunks until at most {@link #maxLiveChunks} remain.
+     * Chunks without player state are dropped; the others are encoded into the store.
+     */
+    private void evictIdleChunks() {
+        if (live.size() <= maxLiveChunks) return;
+
+        Iterator<Chunk> it = live.values().iterator();
+        while (live.size() > maxLiveChunks && it.hasNext()) {
+            Chunk chunk = it.next();
+            it.remove();
+            if (chunk.hasState()) {
+                byte[] state = encode(chunk);
+                store.put(chunk.key, state);
+                storedBytes += state.length;
+            }
+        }
+        lastChunk = null;
+    }
+
+    /**
+     * Encodes the revealed and flagged cells of a chunk. For each bitset, two
+     * masks mark the words that are all zeros and all ones; only the remaining
+     * words are written out. A chunk that is fully open and unflagged takes 8 bytes.
+     */
+    private static byte[] encode(Chunk chunk) {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * (4 + CHUNK_WORDS * Long.BYTES));
+        encodeBits(buffer, chunk.revealed);
+        encodeBits(buffer, chunk.flagged);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static void encodeBits(ByteBuffer buffer, long[] bits) {
+        int zeros = 0;
+        int ones = 0;
+        for (int w = 0; w < CHUNK_WORDS; w++) {
+            long word = bits == null ? 0 : bits[w];
+            if (word == 0) zeros |= 1 << w;
+            else if (word == -1L) ones |= 1 << w;
+        }
+        buffer.putShort((short) zeros).putShort((short) ones);
+        for (int w = 0; w < CHUNK_WORDS; w++) {
+            if (((zeros | ones) & (1 << w)) == 0) buffer.putLong(bits[w]);
+        }
+    }
+
+    /**
+     * Restores the revealed and flagged cells written by {@link #encode(Chunk)}.
+     */
+    private static void decode(Chunk chunk, byte[] state) {
+        ByteBuffer buffer = ByteBuffer.wrap(state);
+        chunk.revealed = decodeBits(buffer);
+        chunk.flagged = decodeBits(buffer);
+    }
+
+    private static long[] decodeBits(ByteBuffer buffer) {
+        int zeros = buffer.getShort() & 0xFFFF;
+        int ones = buffer.getShort() & 0xFFFF;
+        if (zeros == (1 << CHUNK_WORDS) - 1) return null;
+
+        long[] bits = new long[CHUNK_WORDS];
+        for (int w = 0; w < CHUNK_WORDS; w++) {
+            if ((ones & (1 << w)) != 0) bits[w] = -1L;
+            else if ((zeros & (1 << w)) == 0) bits[w] = buffer.getLong();
+        }
+        return bits;
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) y << 32) | (x & 0xFFFFFFFFL);
+    }
+
+    private static int local(int x, int y) {
+        return ((y & MASK) << SHIFT) | (x & MASK);
+    }
+
+    /** Returns the seed from which all mines are derived. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Returns the number of revealed safe cells. */
+    public long getRevealedCount() {
+        return revealedCount;
+    }
+
+    /** Returns the number of flagged cells. */
+    public long getFlagCount() {
+        return flagCount;
+    }
+
+    /** Returns {@code true} once a mine has been revealed. */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /** Returns the number of chunks currently held in memory. */
+    public int getLiveChunkCount() {
+        return live.size();
+    }
+
+    /** Returns the number of evicted chunks kept in the compact store. */
+    public int getStoredChunkCount() {
+        return store.size();
+    }
+
+    /** Returns the total size of the compact store in bytes. */
+    public long getStoredBytes() {
+        return storedBytes;
+    }
+}
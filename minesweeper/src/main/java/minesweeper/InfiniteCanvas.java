@@ -0,0 +1,196 @@
+package minesweeper;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+
+/**
+ * The {@code InfiniteCanvas} class displays a window onto an {@link InfiniteBoard}.
+ * <p>
+ * The canvas has a fixed size and shows the cells starting at a movable origin.
+ * The view is panned with the arrow keys or the mouse wheel (hold Shift to pan
+ * sideways). Hidden cells of chunks the player has never touched are painted
+ * without creating them, so panning across unexplored space allocates nothing.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class InfiniteCanvas extends JComponent {
+
+    /** Number of cells the view moves per arrow key press or wheel notch. */
+    private static final int PAN_STEP = 4;
+
+    /** Board whose state is displayed. */
+    private InfiniteBoard board;
+
+    /** Pixel size of every cell. */
+    private final int tileSize;
+
+    /** Clip rectangle reused by every paint. */
+    private final Rectangle clip = new Rectangle();
+
+    /** Column of the cell shown in the top-left corner. */
+    private int originX;
+
+    /** Row of the cell shown in the top-left corner. */
+    private int originY;
+
+    /** Whether the starting cell at the origin is highlighted. */
+    private boolean showStart = true;
+
+    /**
+     * Constructs a canvas of the given size, centered on the origin of the board.
+     *
+     * @param board    the board to display
+     * @param tileSize pixel size of every cell
+     * @param width    width of the canvas in pixels
+     * @param height   height of the canvas in pixels
+     */
+    public InfiniteCanvas(InfiniteBoard board, int tileSize, int width, int height) {
+        this.board = board;
+        this.tileSize = tileSize;
+        setPreferredSize(new Dimension(width, height));
+        setOpaque(true);
+        setFocusable(true);
+        center(width, height);
+
+        bindPan(KeyEvent.VK_LEFT, -PAN_STEP, 0);
+        bindPan(KeyEvent.VK_RIGHT, PAN_STEP, 0);
+        bindPan(KeyEvent.VK_UP, 0, -PAN_STEP);
+        bindPan(KeyEvent.VK_DOWN, 0, PAN_STEP);
+        addMouseWheelListener(e -> {
+            int step = e.getWheelRotation() * PAN_STEP;
+            if (e.isShiftDown()) pan(step, 0);
+            else pan(0, step);
+        });
+    }
+
+    /**
+     * Replaces the displayed board and moves the view back to the origin.
+     *
+     * @param board the new board to display
+     */
+    public void setBoard(InfiniteBoard board) {
+        this.board = board;
+        this.showStart = true;
+        Dimension size = getPreferredSize();
+        center(size.width, size.height);
+        repaint();
+    }
+
+    /**
+     * Moves the view by the given number of cells.
+     *
+     * @param dx columns to move right (negative moves left)
+     * @param dy rows to move down (negative moves up)
+     */
+    public void pan(int dx, int dy) {
+        originX += dx;
+        originY += dy;
+        repaint();
+    }
+
+    /**
+     * Returns the column of the cell under a horizontal pixel position.
+     *
+     * @param x horizontal pixel position
+     * @return column on the board
+     */
+    public int cellX(int x) {
+        return originX + Math.floorDiv(x, tileSize);
+    }
+
+    /**
+     * Returns the row of the cell under a vertical pixel position.
+     *
+     * @param y vertical pixel position
+     * @return row on the board
+     */
+    public int cellY(int y) {
+        return originY + Math.floorDiv(y, tileSize);
+    }
+
+    /**
+     * Requests a single repaint of the rectangle covering the given range of cells.
+     *
+     * @param minX first column (inclusive)
+     * @param minY first row (inclusive)
+     * @param maxX last column (inclusive)
+     * @param maxY last row (inclusive)
+     */
+    public void repaintRegion(int minX, int minY, int maxX, int maxY) {
+        showStart = false;
+        repaint((minX - originX) * tileSize, (minY - originY) * tileSize,
+                (maxX - minX + 1) * tileSize, (maxY - minY + 1) * tileSize);
+    }
+
+    /**
+     * Paints only the cells intersecting the current clip rectangle.
+     *
+     * @param g the {@link Graphics} context used for drawing
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        GameEvents.BoardPaint event = new GameEvents.BoardPaint();
+        event.begin();
+        long start = System.nanoTime();
+        GlyphAtlas atlas = GlyphAtlas.get((Graphics2D) g, tileSize, tileSize);
+        if (g.getClipBounds(clip) == null) clip.setBounds(0, 0, getWidth(), getHeight());
+
+        int firstRow = Math.floorDiv(clip.y, tileSize);
+        int firstCol = Math.floorDiv(clip.x, tileSize);
+        int lastRow = Math.floorDiv(clip.y + clip.height - 1, tileSize);
+        int lastCol = Math.floorDiv(clip.x + clip.width - 1, tileSize);
+
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstCol; c <= lastCol; c++) {
+                atlas.paint(g, glyphAt(originX + c, originY + r), c * tileSize, r * tileSize);
+            }
+        }
+
+        MetricsRegistry.CANVAS_PAINT.record(System.nanoTime() - start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.view = "endless";
+            event.cells = (lastRow - firstRow + 1) * (lastCol - firstCol + 1);
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the {@link GlyphAtlas} glyph of the cell at the given board position.
+     */
+    private int glyphAt(int x, int y) {
+        if (board.isRevealed(x, y) && !board.isMine(x, y)) return board.getAdjacentMines(x, y);
+        if (board.isGameOver() && board.isMine(x, y)) return BoardDelta.MINE;
+        if (board.isFlagged(x, y)) return BoardDelta.FLAGGED;
+        return showStart && x == 0 && y == 0 ? GlyphAtlas.HINT : BoardDelta.HIDDEN;
+    }
+
+    /**
+     * Places the origin of the board in the middle of the view.
+     */
+    private void center(int width, int height) {
+        originX = -width / tileSize / 2;
+        originY = -height / tileSize / 2;
+    }
+
+    /**
+     * Binds an arrow key to a pan of the view.
+     */
+    private void bindPan(int keyCode, int dx, int dy) {
+        String name = "pan" + keyCode;
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(keyCode, 0), name);
+        getActionMap().put(name, new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                pan(dx, dy);
+            }
+        });
+    }
+}
@@ -0,0 +1,152 @@
+package minesweeper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The {@code JournalReader} class reads a journal written by {@link JournalWriter}.
+ * <p>
+ * The header is available as soon as the reader is created. Moves are read one
+ * at a time with {@link #next()}, which moves a cursor over the file without
+ * allocating, so very long journals can be replayed at full speed.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class JournalReader {
+
+    private final ByteBuffer buffer;
+
+    private final int rows;
+    private final int cols;
+    private final int mines;
+    private final long seed;
+    private final long startMillis;
+    private final int flags;
+
+    /** Event type of the current move. */
+    private int type;
+
+    /** Linear cell index of the current move. */
+    private int index;
+
+    /** Milliseconds between the previous move and the current one. */
+    private long delayMillis;
+
+    /**
+     * Opens a journal file and reads its header.
+     *
+     * @param path journal file to read
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a journal
+     */
+    public JournalReader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < GameJournal.HEADER_SIZE_V1 || buffer.getInt() != GameJournal.MAGIC) {
+            throw new IllegalArgumentException("Not a Minesweeper journal: " + path);
+        }
+        byte version = buffer.get();
+        if (version != 1 && version != GameJournal.VERSION) {
+            throw new IllegalArgumentException("Unsupported journal version: " + version);
+        }
+        if (version != 1 && buffer.capacity() < GameJournal.HEADER_SIZE) {
+            throw new IllegalArgumentException("Not a Minesweeper journal: " + path);
+        }
+        this.rows = buffer.getInt();
+        this.cols = buffer.getInt();
+        this.mines = buffer.getInt();
+        this.seed = buffer.getLong();
+        this.startMillis = buffer.getLong();
+        this.flags = version == 1 ? 0 : buffer.get();
+    }
+
+    /**
+     * Advances to the next move.
+     *
+     * @return {@code true} if a move was read, {@code false} at the end of the journal
+     */
+    public boolean next() {
+        if (!buffer.hasRemaining() || buffer.get(buffer.position()) == 0) return false;
+
+        long key = GameJournal.getVarint(buffer);
+        type = (int) (key & 3);
+        index = (int) (key >>> 2);
+        delayMillis = GameJournal.getVarint(buffer);
+        return true;
+    }
+
+    /**
+     * Creates a board with the recorded size, mine layout and first-click mode.
+     *
+     * @return a new {@link BoardEngine} in its initial state
+     */
+    public BoardEngine createEngine() {
+        BoardEngine engine = new BoardEngine(rows, cols, mines, seed);
+        engine.setFirstClickSafe(isFirstClickSafe());
+        return engine;
+    }
+
+    /** Returns {@code true} if the current move is a reveal. */
+    public boolean isReveal() {
+        return type == GameJournal.REVEAL;
+    }
+
+    /** Returns {@code true} if the current move is a flag toggle. */
+    public boolean isFlag() {
+        return type == GameJournal.FLAG;
+    }
+
+    /** Returns {@code true} if the current move is a chord. */
+    public boolean isChord() {
+        return type == GameJournal.CHORD;
+    }
+
+    /** Returns the linear cell index of the current move. */
+    public int getIndex() {
+        return index;
+    }
+
+    /** Returns the milliseconds between the previous move and the current one. */
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+
+    /** Returns the number of rows on the recorded board. */
+    public int getRows() {
+        return rows;
+    }
+
+    /** Returns the number of columns on the recorded board. */
+    public int getCols() {
+        return cols;
+    }
+
+    /** Returns the number of mines on the recorded board. */
+    public int getMineCount() {
+        return mines;
+    }
+
+    /** Returns the seed that reproduces the recorded mine layout. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Returns whether the first reveal of the recorded game was safe. */
+    public boolean isFirstClickSafe() {
+        return (flags & GameJournal.FIRST_CLICK_SAFE) != 0;
+    }
+
+    /** Returns the time the game started, in epoch milliseconds. */
+    public long getStartMillis() {
+        return startMillis;
+    }
+}
@@ -0,0 +1,167 @@
+package minesweeper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The {@code JournalWriter} class records the moves of one game in an
+ * append-only binary journal (see {@link GameJournal} for the format).
+ * <p>
+ * The file is written through a memory-mapped region of {@link #REGION_SIZE}
+ * bytes, so recording a move is a few stores into memory and never waits for the
+ * disk. The operating system writes the pages back in the background. When a
+ * region fills up, the next one is mapped; a 16x32 game fits easily in the first.
+ *
+ * <p>
+ * Together with the seed in the header, the journal reproduces the game exactly
+ * with {@link GameReplayer}.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class JournalWriter implements AutoCloseable {
+
+    /** Number of bytes mapped at a time. */
+    static final int REGION_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+
+    /** Currently mapped region of the file. */
+    private MappedByteBuffer region;
+
+    /** File offset at which {@link #region} starts. */
+    private long regionStart;
+
+    /** Time of the previous move, in milliseconds. */
+    private long lastMillis;
+
+    /**
+     * Creates (or replaces) a journal file and writes its header.
+     *
+     * @param path  file to write
+     * @param rows  number of rows on the board
+     * @param cols  number of columns on the board
+     * @param mines total number of mines on the board
+     * @param seed  seed that reproduces the mine layout
+     * @throws IOException if the file cannot be created
+     */
+    public JournalWriter(Path path, int rows, int cols, int mines, long seed) throws IOException {
+        this(path, rows, cols, mines, seed, false);
+    }
+
+    /**
+     * Creates (or replaces) a journal file for a game whose first reveal may have
+     * moved mines, and writes its header.
+     *
+     * @param path           file to write
+     * @param rows           number of rows on the board
+     * @param cols           number of columns on the board
+     * @param mines          total number of mines on the board
+     * @param seed           seed that reproduces the mine layout
+     * @param firstClickSafe whether the first reveal of the game is safe
+     * @throws IOException if the file cannot be created
+     */
+    public JournalWriter(Path path, int rows, int cols, int mines, long seed, boolean firstClickSafe)
+            throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        region = channel.map(FileChannel.MapMode.READ_WRITE, 0, REGION_SIZE);
+
+        region.putInt(GameJournal.MAGIC)
+                .put(GameJournal.VERSION)
+                .putInt(rows)
+                .putInt(cols)
+                .putInt(mines)
+                .putLong(seed)
+                .putLong(System.currentTimeMillis())
+                .put((byte) (firstClickSafe ? GameJournal.FIRST_CLICK_SAFE : 0));
+        lastMillis = System.nanoTime() / 1_000_000;
+    }
+
+    /**
+     * Records a reveal of the given cell.
+     *
+     * @param index linear cell index
+     */
+    public void reveal(int index) {
+        record(GameJournal.REVEAL, index);
+    }
+
+    /**
+     * Records a flag toggle on the given cell.
+     *
+     * @param index linear cell index
+     */
+    public void flag(int index) {
+        record(GameJournal.FLAG, index);
+    }
+
+    /**
+     * Records a chord on the given cell.
+     *
+     * @param index linear cell index
+     */
+    public void chord(int index) {
+        record(GameJournal.CHORD, index);
+    }
+
+    /**
+     * Appends one record with the time elapsed since the previous one.
+     */
+    private void record(int type, int index) {
+        long now = System.nanoTime() / 1_000_000;
+        if (region.remaining() < GameJournal.MAX_RECORD_SIZE) nextRegion();
+
+        GameJournal.putVarint(region, ((long) index << 2) | type);
+        GameJournal.putVarint(region, now - lastMillis);
+        lastMillis = now;
+    }
+
+    /**
+     * Maps the region that follows the current write position.
+     */
+    private void nextRegion() {
+        regionStart += region.position();
+        try {
+            region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, REGION_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the number of bytes written so far, header included.
+     *
+     * @return length of the journal in bytes
+     */
+    public long getLength() {
+        return regionStart + region.position();
+    }
+
+    /**
+     * Trims the zero padding after the last record and closes the file.
+     * If the platform refuses to truncate a mapped file, the padding stays;
+     * readers stop at the first zero byte, so the journal remains valid.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        long length = getLength();
+        region.force();
+        try {
+            channel.truncate(length);
+        } catch (IOException e) {
+            // Still mapped on this platform; the padding is harmless.
+        }
+        channel.close();
+    }
+}
@@ -0,0 +1,231 @@
+package minesweeper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code MetricsRegistry} class is an in-process registry of counters and
+ * latency histograms for the engine and render hot paths.
+ * <p>
+ * Counters are {@link LongAdder}s and histograms use 64 power-of-two buckets of
+ * nanoseconds, so recording is lock-free, allocation-free and cheap enough to stay
+ * on in production, including on the game thread and in parallel simulations. The
+ * metrics used by the game are created once as constants; further ones can be
+ * registered by name.
+ *
+ * <p>
+ * {@link #format()} renders all metrics as text, which the Swing frame shows as an
+ * optional overlay (F3) and {@link #dump(Path)} writes to a file on exit.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public final class MetricsRegistry {
+
+    /** All metrics by name, in name order. */
+    private static final Map<String, Object> METRICS = new ConcurrentSkipListMap<>();
+
+    /** Time taken to place the mines of a board. */
+    static final Histogram MINE_PLACEMENT = histogram("engine.minePlacement");
+
+    /** Time taken to label the openings of a mine layout. */
+    static final Histogram OPENING_LABELS = histogram("engine.openingLabels");
+
+    /** Time taken by reveals and chords that changed the board. */
+    static final Histogram REVEAL = histogram("engine.reveal");
+
+    /** Number of reveals and chords that changed the board. */
+    static final Counter REVEALS = counter("engine.reveals");
+
+    /** Number of cells opened by reveals and chords. */
+    static final Counter CELLS_OPENED = counter("engine.cellsOpened");
+
+    /** Number of mines moved away from the first reveal of a game. */
+    static final Counter MINES_RELOCATED = counter("engine.minesRelocated");
+
+    /** Number of games won. */
+    static final Counter WINS = counter("engine.wins");
+
+    /** Number of games lost. */
+    static final Counter LOSSES = counter("engine.losses");
+
+    /** Time taken by one paint of a board canvas. */
+    static final Histogram CANVAS_PAINT = histogram("view.canvasPaint");
+
+    /** Time taken by one paint of a single tile. */
+    static final Histogram TILE_PAINT = histogram("view.tilePaint");
+
+    /** Time taken to build the first board after the frame was shown. */
+    static final Histogram FIRST_BOARD = histogram("ui.firstBoard");
+
+    /** Time taken to apply a setting and rebuild the board view. */
+    static final Histogram APPLY_SETTINGS = histogram("ui.applySettings");
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Returns the counter with the given name, creating it on first use.
+     *
+     * @param name metric name
+     * @return the shared counter
+     * @throws IllegalArgumentException if the name is registered as a histogram
+     */
+    public static Counter counter(String name) {
+        Object metric = METRICS.computeIfAbsent(name, n -> new Counter());
+        if (!(metric instanceof Counter counter)) throw new IllegalArgumentException("Not a counter: " + name);
+        return counter;
+    }
+
+    /**
+     * Returns the histogram with the given name, creating it on first use.
+     *
+     * @param name metric name
+     * @return the shared histogram
+     * @throws IllegalArgumentException if the name is registered as a counter
+     */
+    public static Histogram histogram(String name) {
+        Object metric = METRICS.computeIfAbsent(name, n -> new Histogram());
+        if (!(metric instanceof Histogram histogram)) throw new IllegalArgumentException("Not a histogram: " + name);
+        return histogram;
+    }
+
+    /**
+     * Renders every metric on its own line, in name order.
+     *
+     * @return the current values of all metrics
+     */
+    public static String format() {
+        StringBuilder sb = new StringBuilder();
+        METRICS.forEach((name, metric) -> sb.append(name).append(": ").append(metric).append('\n'));
+        return sb.toString();
+    }
+
+    /**
+     * Writes {@link #format()} to a file, replacing any existing file.
+     *
+     * @param path file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void dump(Path path) throws IOException {
+        Files.writeString(path, format());
+    }
+
+    /**
+     * A monotonically increasing counter.
+     */
+    public static final class Counter {
+
+        private final LongAdder value = new LongAdder();
+
+        private Counter() {
+        }
+
+        /** Adds one. */
+        public void increment() {
+            value.increment();
+        }
+
+        /** Adds the given amount. */
+        public void add(long amount) {
+            value.add(amount);
+        }
+
+        /** Returns the current value. */
+        public long get() {
+            return value.sum();
+        }
+
+        @Override
+        public String toString() {
+            return Long.toString(get());
+        }
+    }
+
+    /**
+     * A latency histogram with power-of-two buckets of nanoseconds. Bucket {@code b}
+     * counts durations below {@code 2^b} ns, so percentiles are reported as upper bounds
+     * within a factor of two.
+     */
+    public static final class Histogram {
+
+        private final LongAdder[] buckets = new LongAdder[64];
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private Histogram() {
+            for (int b = 0; b < buckets.length; b++) buckets[b] = new LongAdder();
+        }
+
+        /**
+         * Records one duration.
+         *
+         * @param nanos duration in nanoseconds
+         */
+        public void record(long nanos) {
+            if (nanos < 0) nanos = 0;
+            buckets[64 - Long.numberOfLeadingZeros(nanos)].increment();
+            total.add(nanos);
+            if (nanos > max.get()) max.accumulateAndGet(nanos, Math::max);
+        }
+
+        /** Returns the number of recorded durations. */
+        public long getCount() {
+            long n = 0;
+            for (LongAdder bucket : buckets) n += bucket.sum();
+            return n;
+        }
+
+        /** Returns the mean duration in nanoseconds, or {@code 0} if empty. */
+        public double getMeanNanos() {
+            long n = getCount();
+            return n == 0 ? 0 : (double) total.sum() / n;
+        }
+
+        /** Returns the longest recorded duration in nanoseconds. */
+        public long getMaxNanos() {
+            return max.get();
+        }
+
+        /**
+         * Returns an upper bound of the given percentile.
+         *
+         * @param percentile a value from 0 to 100
+         * @return the upper edge of the bucket holding the percentile, in nanoseconds
+         */
+        public long getPercentileNanos(double percentile) {
+            long n = getCount();
+            if (n == 0) return 0;
+            long rank = (long) Math.ceil(n * percentile / 100);
+            long seen = 0;
+            for (int b = 0; b < 64; b++) {
+                seen += buckets[b].sum();
+                if (seen >= rank) return b == 0 ? 0 : Math.min(1L << b, max.get());
+            }
+            return max.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("n=%d mean=%s p50<=%s p99<=%s max=%s", getCount(), duration(getMeanNanos()),
+                    duration(getPercentileNanos(50)), duration(getPercentileNanos(99)), duration(getMaxNanos()));
+        }
+
+        /** Formats nanoseconds with a readable unit. */
+        private static String duration(double nanos) {
+            if (nanos < 1e3) return String.format("%.0fns", nanos);
+            if (nanos < 1e6) return String.format("%.1fus", nanos / 1e3);
+            if (nanos < 1e9) return String.format("%.2fms", nanos / 1e6);
+            return String.format("%.2fs", nanos / 1e9);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package minesweeper;
+
+import java.util.Random;
+
+/**
+ * The {@code MineField} class encapsulates the core game logic of Minesweeper,
+ * including mine placement, tile revealing, win/loss detection, and board state management.
+ * <p>
+ * It is completely independent of the graphical user interface (GUI) and
+ * can be used in both Swing-based and console-based versions of the game.
+ * <p>
+ * The class is a thin adapter over {@link BoardEngine}, which stores the board
+ * in packed primitive arrays. Cells are addressed by their {@code row} and
+ * {@code col} indices.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2025-11-01
+ */
+public class MineField {
+
+    /** Number of rows on the board. */
+    private final int numRows;
+
+    /** Number of columns on the board. */
+    private final int numCols;
+
+    /** Total number of mines placed on the board. */
+    private final int mineCount;
+
+    /** Headless engine holding the board state. */
+    private final BoardEngine engine;
+
+    /**
+     * Constructs a new {@code MineField} with the specified dimensions and mine count.
+     *
+     * @param rows  number of rows on the board
+     * @param cols  number of columns on the board
+     * @param mines total number of mines to be placed
+     */
+    public MineField(int rows, int cols, int mines) {
+        this(rows, cols, mines, new Random());
+    }
+
+    /**
+     * Constructs a new {@code MineField} whose mine layout is reproducible from {@code seed}.
+     *
+     * @param rows  number of rows on the board
+     * @param cols  number of columns on the board
+     * @param mines total number of mines to be placed
+     * @param seed  seed for mine placement
+     */
+    public MineField(int rows, int cols, int mines, long seed) {
+        this(rows, cols, mines, new Random(seed));
+    }
+
+    /**
+     * Constructs a new {@code MineField} using the given random generator for mine placement.
+     *
+     * @param rows   number of rows on the board
+     * @param cols   number of columns on the board
+     * @param mines  total number of mines to be placed
+     * @param random random generator used for mine placement
+     */
+    public MineField(int rows, int cols, int mines, Random random) {
+        this.numRows = rows;
+        this.numCols = cols;
+        this.mineCount = mines;
+        this.engine = new BoardEngine(rows, cols, mines, random);
+    }
+
+    /**
+     * Returns the headless engine backing this minefield.
+     *
+     * @return the {@link BoardEngine} holding the board state
+     */
+    public BoardEngine getEngine() {
+        return engine;
+    }
+
+    /** Returns the number of rows on the board. */
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /** Returns the number of columns on the board. */
+    public int getNumCols() {
+        return numCols;
+    }
+
+    /** Returns the total number of mines on the board. */
+    public int getMineCount() {
+        return mineCount;
+    }
+
+    /**
+     * Checks whether the game is currently over.
+     *
+     * @return {@code true} if the game is over, otherwise {@code false}
+     */
+    public boolean isGameOver() {
+        return engine.isGameOver();
+    }
+
+    /**
+     * Resets the minefield to its initial state, clearing all revealed tiles
+     * and re-randomizing mine placement.
+     */
+    public void resetField() {
+        engine.reset();
+    }
+
+    /**
+     * Resets the minefield with a mine layout determined by {@code seed},
+     * reusing all board buffers.
+     *
+     * @param seed seed for mine placement
+     */
+    public void resetField(long seed) {
+        engine.reset(seed);
+    }
+
+    /**
+     * Ends the game. Called when the game is lost or won; the caller
+     * is responsible for displaying the mines.
+     */
+    public void revealMines() {
+        engine.endGame();
+    }
+
+    /**
+     * Checks if a given tile contains a mine.
+     *
+     * @param row row index of the tile
+     * @param col column index of the tile
+     * @return {@code true} if the tile contains a mine, otherwise {@code false}
+     */
+    public boolean isMine(int row, int col) {
+        return engine.isMine(row, col);
+    }
+
+    /**
+     * Checks whether a given tile has been revealed.
+     *
+     * @param row row index of the tile
+     * @param col column index of the tile
+     * @return {@code true} if the tile is revealed, otherwise {@code false}
+     */
+    public boolean isRevealed(int row, int col) {
+        return engine.isRevealed(row, col);
+    }
+
+    /**
+     * Returns the number of mines adjacent to a given tile.
+     *
+     * @param row row index of the tile
+     * @param col column index of the tile
+     * @return number of adjacent mines (0–8)
+     */
+    public int getAdjacentMines(int row, int col) {
+        return engine.getAdjacentMines(row, col);
+    }
+
+    /**
+     * Toggles a flag on the specified tile.
+     *
+     * @param row row index of the tile
+     * @param col column index of the tile
+     * @return {@code true} if the flag state changed, otherwise {@code false}
+     */
+    public boolean toggleFlag(int row, int col) {
+        return engine.toggleFlag(row, col);
+    }
+
+    /**
+     * Chords on the specified tile: if it is a revealed number with as many
+     * flagged neighbours, all other hidden neighbours are revealed.
+     *
+     * @param row row index of the tile
+     * @param col column index of the tile
+     * @return {@code true} if the player has cleared all safe tiles (won), otherwise {@code false}
+     */
+    public boolean chord(int row, int col) {
+        return engine.chord(row, col) == BoardEngine.Outcome.WON;
+    }
+
+    /**
+     * Reveals the specified tile and its neighbours if no adjacent mines are found.
+     * <p>
+     * This method also checks for a win condition — if all safe tiles are revealed,
+     * the game is marked as completed.
+     *
+     * @param row row index of the tile
+     * @param col column index of the tile
+     * @return {@code true} if the player has cleared all safe tiles (won), otherwise {@code false}
+     */
+    public boolean checkMine(int row, int col) {
+        return engine.reveal(row, col) == BoardEngine.Outcome.WON;
+    }
+}
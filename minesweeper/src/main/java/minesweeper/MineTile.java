@@ -0,0 +1,212 @@
+package minesweeper;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+
+/**
+ * The {@code MineTile} class represents a single tile (cell) in the Minesweeper grid.
+ * <p>
+ * It extends {@link JButton} and is responsible for displaying its visual state —
+ * whether it’s hidden, revealed, or flagged — as well as storing information
+ * about its position and what it shows. The tile also provides a method to determine
+ * its neighboring tiles within the grid.
+ *
+ * <p>
+ * Each {@code MineTile} is aware of its location on the board via its {@code row}
+ * and {@code col} indices. It keeps what it shows as a single glyph code and paints
+ * itself in {@link #paintComponent(Graphics)} with one blit from the shared
+ * {@link GlyphAtlas}, so tiles hold no fonts or insets of their own. Every paint
+ * is instrumented: it creates a {@link GameEvents.BoardPaint} event and records
+ * its duration in {@code MetricsRegistry.TILE_PAINT}.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2025-11-01
+ */
+public class MineTile extends JButton {
+
+    /** Row index of this tile in the game grid. */
+    int row;
+
+    /** Column index of this tile in the game grid. */
+    int col;
+
+    /** What this tile shows, as a {@link BoardDelta} state code or {@link GlyphAtlas#HINT}. */
+    private byte glyph = BoardDelta.HIDDEN;
+
+    /** Mine probability shown by the heat map, or {@code -1} if none. */
+    private float heat = -1;
+
+    /** Generation shared by all tiles of the board. */
+    private final Generation generation;
+
+    /** Generation in which {@link #glyph} and {@link #heat} were last written. */
+    private int stamp;
+
+    /**
+     * Constructs a hidden {@code MineTile} at the specified grid position.
+     *
+     * @param row the row index of this tile
+     * @param col the column index of this tile
+     */
+    public MineTile(int row, int col) {
+        this(row, col, new Generation());
+    }
+
+    /**
+     * Constructs a hidden {@code MineTile} at the specified grid position that is
+     * hidden again whenever the shared generation advances.
+     *
+     * @param row        the row index of this tile
+     * @param col        the column index of this tile
+     * @param generation generation shared by all tiles of the board
+     */
+    public MineTile(int row, int col, Generation generation) {
+        this.row = row;
+        this.col = col;
+        this.generation = generation;
+        this.stamp = generation.value;
+        setFocusable(false);
+        setBorderPainted(false);
+        setContentAreaFilled(false);
+        setRolloverEnabled(false);
+    }
+
+    /**
+     * Marks this tile as revealed without requesting a repaint, so that the
+     * caller can update many tiles and repaint their common area once.
+     *
+     * @param minesFound number of adjacent mines (0–8)
+     */
+    void setRevealed(int minesFound) {
+        sync();
+        glyph = (byte) minesFound;
+    }
+
+    /**
+     * Returns whether this tile has been revealed.
+     */
+    public boolean isRevealed() {
+        sync();
+        return glyph <= 8;
+    }
+
+    /**
+     * Shows a mine (💣) on this tile, without requesting a repaint.
+     */
+    void setMine() {
+        sync();
+        glyph = BoardDelta.MINE;
+    }
+
+    /**
+     * Shows or removes a flag (🚩) on this tile, without requesting a repaint.
+     *
+     * @param flagged whether the tile is flagged
+     */
+    void setFlag(boolean flagged) {
+        sync();
+        glyph = flagged ? BoardDelta.FLAGGED : BoardDelta.HIDDEN;
+    }
+
+    /**
+     * Highlights this tile as a safe cell to try, if it is still hidden.
+     */
+    void setHint() {
+        sync();
+        if (glyph != BoardDelta.HIDDEN) return;
+        glyph = GlyphAtlas.HINT;
+        repaint();
+    }
+
+    /**
+     * Sets the mine probability shown by the heat map, without requesting a repaint.
+     *
+     * @param probability probability that this tile is a mine, or {@code -1} for none
+     */
+    void setHeat(float probability) {
+        sync();
+        heat = probability;
+    }
+
+    /**
+     * Hides this tile again if it was last changed in an earlier generation.
+     */
+    private void sync() {
+        if (stamp == generation.value) return;
+        stamp = generation.value;
+        glyph = BoardDelta.HIDDEN;
+        heat = -1;
+    }
+
+    /**
+     * Retrieves all neighboring tiles surrounding this one within the grid.
+     * <p>
+     * Includes up to 8 neighbors (diagonals included) and automatically excludes
+     * any tiles that fall outside the board’s boundaries.
+     *
+     * @param numRows total number of rows in the board
+     * @param numCols total number of columns in the board
+     * @param board   2D array containing all tiles
+     * @return an {@link ArrayList} of neighboring {@code MineTile} objects
+     */
+    public ArrayList<MineTile> getNeighbourTiles(int numRows, int numCols, MineTile[][] board) {
+        ArrayList<MineTile> neighbours = new ArrayList<>();
+        for (int i = row - 1; i <= row + 1; i++) {
+            for (int j = col - 1; j <= col + 1; j++) {
+                if (i == row && j == col) continue;
+                if (i < 0 || i >= numRows || j < 0 || j >= numCols) continue;
+                neighbours.add(board[i][j]);
+            }
+        }
+        return neighbours;
+    }
+
+    /**
+     * Custom rendering method for the tile’s visual state.
+     * <p>
+     * The whole tile is drawn with one pre-rendered image from the {@link GlyphAtlas},
+     * tinted by the heat map while the tile is unopened.
+     *
+     * @param g the {@link Graphics} context used for drawing
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        GameEvents.BoardPaint event = new GameEvents.BoardPaint();
+        event.begin();
+        long start = System.nanoTime();
+        sync();
+        GlyphAtlas.get((Graphics2D) g, getWidth(), getHeight()).paint(g, glyph, 0, 0);
+        if (heat >= 0 && (glyph == BoardDelta.HIDDEN || glyph == BoardDelta.FLAGGED)) {
+            g.setColor(TileStyle.heatColor(heat));
+            g.fillRect(0, 0, getWidth(), getHeight());
+        }
+
+        MetricsRegistry.TILE_PAINT.record(System.nanoTime() - start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.view = "tile";
+            event.cells = 1;
+            event.commit();
+        }
+    }
+
+    /**
+     * A generation counter shared by all tiles of a board. Advancing it hides every
+     * tile at once; each tile resets itself when it is next painted or changed.
+     * Confined to the EDT.
+     */
+    public static final class Generation {
+
+        private int value;
+
+        /** Hides every tile of the board. */
+        public void advance() {
+            value++;
+        }
+    }
+}
@@ -0,0 +1,1194 @@
+package minesweeper;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The {@code Minesweeper} class provides the graphical user interface (GUI)
+ * and user interaction logic for the classic Minesweeper game implemented in Java Swing.
+ * <p>
+ * It manages window creation, tile rendering, user input (left/right clicks),
+ * and communication with the underlying minefield logic. The game supports
+ * three difficulty levels — Easy, Medium, and Hard — plus a Huge 1000x1000 board
+ * and an Endless board without edges, and includes a main menu with settings and
+ * restart functionality.
+ *
+ * <p>
+ * This class acts as the visual controller. The board is displayed either as
+ * {@link MineTile} components arranged on a {@link JPanel} grid, or as a single
+ * virtualized {@link BoardCanvas} inside a {@link JScrollPane}. All game
+ * state lives in a headless {@link BoardEngine}, which is changed only on the
+ * {@link GameThread}; the view mirrors it from the published {@link BoardDelta}s,
+ * so large openings and hints never block the Event Dispatch Thread.
+ * The Endless board uses an {@link InfiniteBoard} shown in an {@link InfiniteCanvas}.
+ *
+ * <p>
+ * Every bounded game is created from a seed, shown in the window title. When the
+ * {@value #JOURNAL_DIR_PROPERTY} system property names a directory, each game is
+ * recorded there by a {@link JournalWriter}, and recorded games can be replayed
+ * in real time with {@link #replay(JournalReader)}.
+ *
+ * <p>
+ * The {@link MetricsRegistry} can be shown over the board with F3, and is written
+ * on exit to the file named by the {@value #METRICS_FILE_PROPERTY} system property.
+ *
+ * <p>
+ * When the {@value #RATINGS_DIR_PROPERTY} system property names a directory with a
+ * {@link RatingIndex} for the board size, new games can be drawn from a 3BV band
+ * chosen in the settings; the seed is picked from the index without rating any board.
+ *
+ * <p>
+ * With the safe first click setting, the first reveal of a game never hits a mine:
+ * the {@link BoardEngine} moves the mines around the clicked cell elsewhere. No-guess
+ * boards are never changed, since their start cell is already safe.
+ *
+ * <p>
+ * To start quickly, the constructor shows the frame with only its header and builds
+ * the first board in a later event. The menu and settings dialogs are created when
+ * first opened and reused afterwards.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2025-11-01
+ */
+public class Minesweeper extends Component {
+
+    /** Settings label of the view that uses one {@link MineTile} button per cell. */
+    static final String VIEW_TILES = "Tiles (one button per cell)";
+
+    /** Settings label of the view that uses a single virtualized {@link BoardCanvas}. */
+    static final String VIEW_CANVAS = "Canvas (virtualized)";
+
+    /** Difficulty label of the unbounded board. */
+    static final String ENDLESS = "Endless (no edges, 18% mines)";
+
+    /** Mine density of the unbounded board. */
+    static final double ENDLESS_DENSITY = 0.18;
+
+    /** Boards with more cells than this always use the canvas view. */
+    static final int MAX_TILE_VIEW_CELLS = 64 * 64;
+
+    /** Largest window size used for the scrollable canvas view. */
+    static final int MAX_VIEW_WIDTH = 1280;
+    static final int MAX_VIEW_HEIGHT = 800;
+
+    /** Time allowed for finding a no-guess board before a normal board is used. */
+    static final long NO_GUESS_BUDGET_MILLIS = 2000;
+
+    /** System property naming the directory where games are recorded. */
+    static final String JOURNAL_DIR_PROPERTY = "minesweeper.journal.dir";
+
+    /** System property naming the file the metrics are written to on exit. */
+    static final String METRICS_FILE_PROPERTY = "minesweeper.metrics.file";
+
+    /** System property naming a directory of {@link RatingIndex} files, one per board size. */
+    static final String RATINGS_DIR_PROPERTY = "minesweeper.ratings.dir";
+
+    /**
+     * System property that makes the game exit once the first board is shown, after
+     * printing when the frame and the board appeared (in epoch milliseconds). Used for
+     * startup measurements and for the training run of the class-data-sharing archive.
+     */
+    static final String STARTUP_EXIT_PROPERTY = "minesweeper.startup.exit";
+
+    /** Interval at which the metrics overlay is refreshed, in milliseconds. */
+    static final int METRICS_REFRESH_MILLIS = 500;
+
+
+    /** Default pixel size for each tile. */
+    int tileSize = 40;
+
+    /** Current number of rows on the board. */
+    int numRows = 16;
+
+    /** Current number of columns on the board. */
+    int numCols = 16;
+
+    /** Window width in pixels (auto-calculated). */
+    int boardWidth = numCols * tileSize;
+
+    /** Window height in pixels (auto-calculated). */
+    int boardHeight = numRows * tileSize;
+
+    /** Main application frame. */
+    JFrame frame = new JFrame("Minesweeper");
+
+    /** Label displaying game information and status. */
+    JLabel textLabel = new JLabel();
+
+    /** Panel that holds the status text and menu button. */
+    JPanel textPanel = new JPanel();
+
+    /** Panel representing the game board grid (tile view only). */
+    JPanel boardPanel;
+
+    /** 2D array of all game tiles (tile view only). */
+    MineTile[][] board;
+
+    /** Generation shared by all tiles; advancing it hides the whole grid (tile view only). */
+    MineTile.Generation tileGeneration;
+
+    /** Virtualized board renderer (canvas view only). */
+    BoardCanvas boardCanvas;
+
+    /** Unbounded board (Endless difficulty only). */
+    InfiniteBoard infiniteBoard;
+
+    /** View onto the unbounded board (Endless difficulty only). */
+    InfiniteCanvas infiniteCanvas;
+
+    /** Whether the Endless difficulty is selected. */
+    boolean endless = false;
+
+    /** Component currently added to the center of the frame. */
+    JComponent boardView;
+
+    /** Whether the canvas view was selected in the settings. */
+    boolean canvasView = false;
+
+    /**
+     * Headless engine holding mines, adjacency counts, revealed and flagged cells.
+     * Once started on the {@link #game} thread, only its size is read on the EDT.
+     */
+    BoardEngine engine;
+
+    /** Background thread that applies all moves to {@link #engine}. */
+    final GameThread game = new GameThread(this::applyDelta);
+
+    /** Mine probabilities of {@link #engine}. Used only on the {@link #game} thread. */
+    final ProbabilityEngine probabilities = new ProbabilityEngine();
+
+    /** Whether the mine probability heat map is shown (F4). */
+    boolean heatMap = false;
+
+    /** Whether a heat map update is running on the game thread. */
+    boolean heatMapPending = false;
+
+    /** Whether the board changed while a heat map update was running. */
+    boolean heatMapStale = false;
+
+    /** Source of the seeds of new games. */
+    final Random seeds = new Random();
+
+    /** Seed of the current mine layout. */
+    long seed;
+
+    /** Whether the first reveal of a game moves the mines around the clicked cell elsewhere. */
+    boolean firstClickSafe = false;
+
+    /** 3BV band that new games are drawn from. */
+    RatingIndex.Band ratingBand = RatingIndex.Band.ANY;
+
+    /** Rating index of the current board size, loaded on first use; {@code null} if there is none. */
+    RatingIndex ratings;
+
+    /** Menu dialog, created when the menu is first opened. */
+    GameMenuDialog menuDialog;
+
+    /** Journal recording the current game, or {@code null} if recording is off. */
+    JournalWriter journal;
+
+    /** Timer driving a replay in progress, or {@code null}. Input is ignored while set. */
+    Timer replayTimer;
+
+    /** Total number of mines on the board. */
+    int initialMineCount = 40;
+    int mineCount = initialMineCount;
+
+    /** Indicates whether the game has ended. */
+    boolean gameOver = false;
+
+    /** Whether new boards must be solvable without guessing. */
+    boolean noGuess = false;
+
+    /** Generator for no-guess boards, created for the current board size on demand. */
+    NoGuessGenerator noGuessGenerator;
+
+    /** No-guess board currently being generated, or {@code null}. Input is ignored while set. */
+    CompletableFuture<NoGuessGenerator.Result> pendingBoard;
+
+    /**
+     * Constructs a new {@code Minesweeper} game window and initializes all UI components.
+     * <p>
+     * Sets up the main frame, header label and menu button and shows the frame.
+     * The mines are placed and the board view is created in a later event on the
+     * EDT, so the frame appears before the board is built.
+     */
+    public Minesweeper() {
+        frame.setSize(boardWidth, boardHeight);
+        frame.setLocationRelativeTo(null);
+        frame.setResizable(false);
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setLayout(new BorderLayout());
+
+        textLabel.setFont(TileStyle.LABEL_FONT);
+        textLabel.setHorizontalAlignment(JLabel.CENTER);
+        textLabel.setText(mineCount + " mines to find");
+        textLabel.setOpaque(true);
+
+        JButton menuButton = new JButton("Menu");
+        menuButton.setFont(TileStyle.BUTTON_FONT);
+        menuButton.addActionListener(e -> showMenu());
+
+        JButton hintButton = new JButton("Hint");
+        hintButton.setFont(TileStyle.BUTTON_FONT);
+        hintButton.addActionListener(e -> showHint());
+
+        textPanel.setLayout(new BorderLayout());
+        textPanel.add(hintButton, BorderLayout.WEST);
+        textPanel.add(textLabel, BorderLayout.CENTER);
+        textPanel.add(menuButton, BorderLayout.EAST);
+        frame.add(textPanel, BorderLayout.NORTH);
+
+        installMetricsOverlay();
+        bindKey("F4", this::toggleHeatMap);
+        dumpMetricsOnExit();
+
+        frame.setVisible(true);
+        long frameShown = System.currentTimeMillis();
+        SwingUtilities.invokeLater(() -> buildFirstBoard(frameShown));
+    }
+
+    /**
+     * Places the mines of the first game and builds its board view, unless a board
+     * was already built, for example by a replay started right after construction.
+     *
+     * @param frameShown time at which the frame was shown, in epoch milliseconds
+     */
+    private void buildFirstBoard(long frameShown) {
+        if (boardView != null) return;
+        long start = System.nanoTime();
+        seed = nextSeed();
+        setMines(mineCount);
+        buildBoard();
+        startJournal();
+        MetricsRegistry.FIRST_BOARD.record(System.nanoTime() - start);
+
+        if (Boolean.getBoolean(STARTUP_EXIT_PROPERTY)) {
+            // Runs after the paint of the board that buildBoard() has just requested.
+            SwingUtilities.invokeLater(() -> {
+                System.out.println("frame " + frameShown);
+                System.out.println("board " + System.currentTimeMillis());
+                System.exit(0);
+            });
+        }
+    }
+
+    /**
+     * Shows the menu dialog, creating it the first time.
+     */
+    private void showMenu() {
+        if (menuDialog == null) menuDialog = new GameMenuDialog(this);
+        menuDialog.setLocationRelativeTo(frame);
+        menuDialog.setVisible(true);
+    }
+
+    /**
+     * Adds an overlay that shows the {@link MetricsRegistry} over the board,
+     * toggled with F3 and refreshed while visible.
+     */
+    private void installMetricsOverlay() {
+        JLabel metricsLabel = new JLabel();
+        metricsLabel.setFont(TileStyle.OVERLAY_FONT);
+        metricsLabel.setOpaque(true);
+        metricsLabel.setBackground(TileStyle.OVERLAY_COLOR);
+        metricsLabel.setBorder(BorderFactory.createEmptyBorder(4, 6, 4, 6));
+
+        JPanel overlay = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        overlay.setOpaque(false);
+        overlay.add(metricsLabel);
+        frame.setGlassPane(overlay);
+
+        Timer refresh = new Timer(METRICS_REFRESH_MILLIS, e -> metricsLabel.setText(
+                "<html><pre>" + MetricsRegistry.format() + "</pre></html>"));
+        refresh.setInitialDelay(0);
+
+        bindKey("F3", () -> {
+            boolean show = !overlay.isVisible();
+            if (show) refresh.start();
+            else refresh.stop();
+            overlay.setVisible(show);
+        });
+    }
+
+    /**
+     * Runs an action when the given key is pressed anywhere in the frame.
+     *
+     * @param key    key stroke, for example {@code "F3"}
+     * @param action action run on the EDT
+     */
+    private void bindKey(String key, Runnable action) {
+        JRootPane root = frame.getRootPane();
+        root.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(key), key);
+        root.getActionMap().put(key, new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Writes the {@link MetricsRegistry} on exit if {@value #METRICS_FILE_PROPERTY} is set.
+     */
+    private static void dumpMetricsOnExit() {
+        String file = System.getProperty(METRICS_FILE_PROPERTY);
+        if (file == null) return;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                MetricsRegistry.dump(Path.of(file));
+            } catch (IOException e) {
+                System.err.println("Cannot write metrics: " + e);
+            }
+        }, "metrics-dump"));
+    }
+
+    /**
+     * Applies the options chosen in the settings dialog by rebuilding the board
+     * with updated dimensions and mine counts.
+     *
+     * @param settings the difficulty, board view, no-guess setting, 3BV band and
+     *                 first-click mode to use
+     */
+    public void applySettings(Settings settings) {
+        GameEvents.ApplySettings event = new GameEvents.ApplySettings();
+        event.begin();
+        long start = System.nanoTime();
+        ratingBand = settings.getBand();
+        firstClickSafe = settings.isFirstClickSafe();
+        rebuild(settings.getDifficulty(), settings.getView(), settings.isNoGuess());
+
+        MetricsRegistry.APPLY_SETTINGS.record(System.nanoTime() - start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.difficulty = settings.getDifficulty();
+            event.view = settings.getView();
+            event.noGuess = settings.isNoGuess();
+            event.band = settings.getBand().name();
+            event.firstClickSafe = settings.isFirstClickSafe();
+            event.commit();
+        }
+    }
+
+    /**
+     * Rebuilds the board for the given difficulty, board view and no-guess setting.
+     */
+    private void rebuild(String difficulty, String view, boolean noGuess) {
+        endless = ENDLESS.equals(difficulty);
+        switch (difficulty) {
+            case "Easy (9x9, 10 mines)" -> {
+                numRows = 9;
+                numCols = 9;
+                mineCount = 10;
+            }
+            case "Medium (16x16, 40 mines)" -> {
+                numRows = 16;
+                numCols = 16;
+                mineCount = 40;
+            }
+            case "Hard (16x32, 99 mines)" -> {
+                numRows = 16;
+                numCols = 32;
+                mineCount = 99;
+            }
+            case "Huge (1000x1000, 150000 mines)" -> {
+                numRows = 1000;
+                numCols = 1000;
+                mineCount = 150000;
+            }
+        }
+
+        initialMineCount = mineCount;
+        canvasView = VIEW_CANVAS.equals(view);
+        this.noGuess = noGuess;
+
+        if (pendingBoard != null) {
+            pendingBoard.cancel(true);
+            pendingBoard = null;
+        }
+        if (noGuessGenerator != null) {
+            noGuessGenerator.shutdown();
+            noGuessGenerator = null;
+        }
+        stopReplay();
+
+        seed = nextSeed();
+        if (canReuseBoard()) {
+            gameOver = false;
+            game.setFirstClickSafe(isFirstClickSafe());
+            game.reset(seed);
+            resetView();
+        } else {
+            if (!endless) setMines(mineCount);
+            buildBoard();
+        }
+        textLabel.setText(endless ? endlessStatus() : mineCount + " mines to find");
+        if (endless) return;
+        if (noGuess) generateNoGuessBoard();
+        else startJournal();
+    }
+
+    /**
+     * Returns whether the current engine and view already match the selected board,
+     * so a new game only needs to reset them instead of rebuilding the view.
+     */
+    private boolean canReuseBoard() {
+        if (endless || engine == null || boardView == null) return false;
+        if (engine.getRows() != numRows || engine.getCols() != numCols || engine.getMineCount() != mineCount) {
+            return false;
+        }
+        boolean wantCanvas = canvasView || numRows * numCols > MAX_TILE_VIEW_CELLS;
+        return wantCanvas ? boardCanvas != null : board != null;
+    }
+
+    /**
+     * Replaces the board view with a new one showing the current {@link #engine}. Boards larger than {@link #MAX_TILE_VIEW_CELLS} always
+     * use the canvas view. The Endless board always uses the {@link InfiniteCanvas}.
+     */
+    private void buildBoard() {
+        if (boardView != null) frame.getContentPane().remove(boardView);
+
+        gameOver = false;
+
+        if (endless) {
+            buildEndlessView();
+            frame.pack();
+        } else if (canvasView || numRows * numCols > MAX_TILE_VIEW_CELLS) {
+            buildCanvasView();
+            frame.setSize(Math.min(numCols * tileSize, MAX_VIEW_WIDTH), Math.min(numRows * tileSize, MAX_VIEW_HEIGHT));
+        } else {
+            buildTileView();
+            frame.setSize(numCols * tileSize, numRows * tileSize);
+        }
+
+        frame.add(boardView, BorderLayout.CENTER);
+        frame.setLocationRelativeTo(null);
+        frame.revalidate();
+        frame.repaint();
+        requestHeatMap();
+    }
+
+    /**
+     * Creates the grid of {@link MineTile} buttons.
+     */
+    private void buildTileView() {
+        boardCanvas = null;
+        infiniteBoard = null;
+        infiniteCanvas = null;
+        boardPanel = new JPanel(new GridLayout(numRows, numCols));
+        board = new MineTile[numRows][numCols];
+        tileGeneration = new MineTile.Generation();
+
+        MouseAdapter listener = createTileMouseListener();
+        for (int r = 0; r < numRows; r++) {
+            for (int c = 0; c < numCols; c++) {
+                MineTile tile = new MineTile(r, c, tileGeneration);
+                board[r][c] = tile;
+                tile.addMouseListener(listener);
+                boardPanel.add(tile);
+            }
+        }
+        boardView = boardPanel;
+    }
+
+    /**
+     * Creates the virtualized {@link BoardCanvas} inside a scroll pane.
+     */
+    private void buildCanvasView() {
+        boardPanel = null;
+        board = null;
+        infiniteBoard = null;
+        infiniteCanvas = null;
+        boardCanvas = new BoardCanvas(numRows, numCols, tileSize);
+        boardCanvas.addMouseListener(createCanvasMouseListener());
+
+        JScrollPane scrollPane = new JScrollPane(boardCanvas);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        boardView = scrollPane;
+    }
+
+    /**
+     * Creates a new {@link InfiniteBoard} and the {@link InfiniteCanvas} showing it.
+     * The bounded engine is released, since the unbounded board replaces it, and
+     * its results still queued on the game thread are discarded.
+     */
+    private void buildEndlessView() {
+        boardPanel = null;
+        board = null;
+        boardCanvas = null;
+        engine = null;
+        game.stop();
+
+        infiniteBoard = new InfiniteBoard(System.nanoTime(), ENDLESS_DENSITY);
+        infiniteCanvas = new InfiniteCanvas(infiniteBoard, tileSize, MAX_VIEW_WIDTH, MAX_VIEW_HEIGHT);
+        infiniteCanvas.addMouseListener(createEndlessMouseListener());
+        boardView = infiniteCanvas;
+    }
+
+    /**
+     * Starts a new game using the current difficulty settings.
+     * Resets all tiles, re-enables the board, and re-places the mines.
+     */
+    public void newGame() {
+        stopReplay();
+        mineCount = initialMineCount;
+        gameOver = false;
+        textLabel.setText(mineCount + " mines to find");
+
+        if (endless) {
+            infiniteBoard = new InfiniteBoard(System.nanoTime(), ENDLESS_DENSITY);
+            infiniteCanvas.setBoard(infiniteBoard);
+            textLabel.setText(endlessStatus());
+            return;
+        }
+
+        seed = nextSeed();
+        game.reset(seed);
+        resetView();
+
+        if (noGuess) generateNoGuessBoard();
+        else startJournal();
+    }
+
+    /**
+     * Returns the seed of the next game: a rated seed from {@link #ratingBand} if
+     * a rating index exists for the board size, otherwise a random one.
+     */
+    private long nextSeed() {
+        if (ratingBand != RatingIndex.Band.ANY) {
+            RatingIndex index = ratingIndex();
+            if (index != null && index.getSize() > 0) return index.pickSeed(ratingBand, seeds);
+        }
+        return seeds.nextLong();
+    }
+
+    /**
+     * Returns the rating index of the current board size from the directory named
+     * by {@value #RATINGS_DIR_PROPERTY}, loading it when the size has changed.
+     *
+     * @return the index, or {@code null} if there is none for this size
+     */
+    private RatingIndex ratingIndex() {
+        if (ratings != null && ratings.getRows() == numRows && ratings.getCols() == numCols
+                && ratings.getMines() == initialMineCount) {
+            return ratings;
+        }
+        ratings = null;
+        String dir = System.getProperty(RATINGS_DIR_PROPERTY);
+        if (dir == null) return null;
+        Path path = Path.of(dir).resolve(RatingIndex.fileName(numRows, numCols, initialMineCount));
+        if (!Files.exists(path)) return null;
+        try {
+            ratings = new RatingIndex(path);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Cannot read rating index: " + e);
+        }
+        return ratings;
+    }
+
+    /**
+     * Returns every cell of the view to its hidden state.
+     * <p>
+     * Both views only start a new generation and repaint once; cells are hidden
+     * again when they are next painted, so this costs nothing per cell.
+     */
+    private void resetView() {
+        if (boardCanvas != null) {
+            boardCanvas.clear();
+        } else {
+            tileGeneration.advance();
+            boardPanel.repaint();
+        }
+        requestHeatMap();
+    }
+
+    /**
+     * Searches for a no-guess board in the background, keeping the UI responsive.
+     * <p>
+     * Input is ignored until the board is ready. The result is installed on the
+     * Event Dispatch Thread and its start cell is highlighted. If a previous search
+     * is still running, it is cancelled first. If the search fails, a normal board
+     * from a new seed is installed instead, so the game never stays blocked.
+     */
+    private void generateNoGuessBoard() {
+        if (pendingBoard != null) pendingBoard.cancel(true);
+        if (noGuessGenerator == null) {
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            noGuessGenerator = new NoGuessGenerator(numRows, numCols, initialMineCount, threads);
+        }
+
+        textLabel.setText("Generating no-guess board...");
+        CompletableFuture<NoGuessGenerator.Result> request =
+                noGuessGenerator.generateAsync(System.nanoTime(), NO_GUESS_BUDGET_MILLIS);
+        pendingBoard = request;
+
+        request.whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            if (pendingBoard != request) return;
+            pendingBoard = null;
+
+            if (error != null) {
+                System.err.println("Cannot generate no-guess board: " + error);
+                seed = nextSeed();
+                setMines(initialMineCount);
+                resetView();
+                startJournal();
+                textLabel.setText(mineCount + " mines to find");
+                return;
+            }
+
+            seed = result.getSeed();
+            engine = new BoardEngine(numRows, numCols, initialMineCount, seed);
+            engine.setMetricsEnabled(true);
+            game.start(engine);
+            resetView();
+            startJournal();
+
+            int start = result.getStartCell();
+            if (start >= 0) {
+                if (boardCanvas != null) boardCanvas.setHintCell(start);
+                else board[engine.rowOf(start)][engine.colOf(start)].setHint();
+            }
+            textLabel.setText(result.isNoGuess()
+                    ? "Start at the green cell - no guessing needed"
+                    : mineCount + " mines to find");
+        }));
+    }
+
+    /**
+     * Creates a {@link MouseAdapter} that defines behavior for left and right mouse clicks on tiles.
+     * <ul>
+     *   <li>Left click: reveals a tile (or ends the game if it’s a mine)</li>
+     *   <li>Right click: toggles a flag emoji (🚩)</li>
+     *   <li>Middle click, or left and right together: chords on a revealed number</li>
+     * </ul>
+     *
+     * @return a configured {@link MouseAdapter} for tile interaction
+     */
+    private MouseAdapter createTileMouseListener() {
+        return new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                MineTile tile = (MineTile) e.getSource();
+                handleClick(buttonOf(e), tile.row, tile.col);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link MouseAdapter} that maps clicks on the {@link BoardCanvas}
+     * to cells and handles them like clicks on tiles.
+     *
+     * @return a configured {@link MouseAdapter} for canvas interaction
+     */
+    private MouseAdapter createCanvasMouseListener() {
+        return new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                int index = boardCanvas.cellAt(e.getX(), e.getY());
+                if (index < 0) return;
+                handleClick(buttonOf(e), engine.rowOf(index), engine.colOf(index));
+            }
+        };
+    }
+
+    /**
+     * Returns the button of a mouse press, reporting a press that leaves both the
+     * left and the right button down as {@link MouseEvent#BUTTON2}, the chord button.
+     *
+     * @param e the mouse press
+     * @return {@link MouseEvent#BUTTON1}, {@link MouseEvent#BUTTON2} or {@link MouseEvent#BUTTON3}
+     */
+    private static int buttonOf(MouseEvent e) {
+        int both = MouseEvent.BUTTON1_DOWN_MASK | MouseEvent.BUTTON3_DOWN_MASK;
+        return (e.getModifiersEx() & both) == both ? MouseEvent.BUTTON2 : e.getButton();
+    }
+
+    /**
+     * Creates a {@link MouseAdapter} that maps clicks on the {@link InfiniteCanvas}
+     * to cells of the unbounded board.
+     *
+     * @return a configured {@link MouseAdapter} for Endless board interaction
+     */
+    private MouseAdapter createEndlessMouseListener() {
+        return new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                handleEndlessClick(e.getButton(), infiniteCanvas.cellX(e.getX()), infiniteCanvas.cellY(e.getY()));
+            }
+        };
+    }
+
+    /**
+     * Handles a mouse click on a cell of the unbounded board. Only the rectangle
+     * enclosing the opened cells is repainted.
+     *
+     * @param button the {@link MouseEvent} button that was pressed
+     * @param x      column of the cell
+     * @param y      row of the cell
+     */
+    private void handleEndlessClick(int button, int x, int y) {
+        if (gameOver) return;
+        if (button == MouseEvent.BUTTON1) {
+            BoardEngine.Outcome outcome = infiniteBoard.reveal(x, y);
+            if (outcome == BoardEngine.Outcome.IGNORED) return;
+
+            if (outcome == BoardEngine.Outcome.MINE) {
+                gameOver = true;
+                infiniteCanvas.repaint();
+                textLabel.setText("GAME OVER! " + infiniteBoard.getRevealedCount() + " cells cleared");
+                return;
+            }
+
+            int minX = x, minY = y, maxX = x, maxY = y;
+            for (int n = 0; n < infiniteBoard.getLastOpenedCount(); n++) {
+                minX = Math.min(minX, infiniteBoard.getLastOpenedX(n));
+                maxX = Math.max(maxX, infiniteBoard.getLastOpenedX(n));
+                minY = Math.min(minY, infiniteBoard.getLastOpenedY(n));
+                maxY = Math.max(maxY, infiniteBoard.getLastOpenedY(n));
+            }
+            infiniteCanvas.repaintRegion(minX, minY, maxX, maxY);
+        } else if (button == MouseEvent.BUTTON3) {
+            if (!infiniteBoard.toggleFlag(x, y)) return;
+            infiniteCanvas.repaintRegion(x, y, x, y);
+        }
+        textLabel.setText(endlessStatus());
+    }
+
+    /**
+     * Returns the status text of the unbounded board.
+     */
+    private String endlessStatus() {
+        return infiniteBoard.getRevealedCount() + " cells cleared, " + infiniteBoard.getFlagCount() + " flags";
+    }
+
+    /**
+     * Handles a mouse click on a cell, regardless of the active view.
+     *
+     * @param button the {@link MouseEvent} button that was pressed
+     * @param row    row index of the cell
+     * @param col    column index of the cell
+     */
+    private void handleClick(int button, int row, int col) {
+        if (gameOver || pendingBoard != null || replayTimer != null) return;
+        if (button == MouseEvent.BUTTON1) {
+            if (journal != null) journal.reveal(engine.index(row, col));
+            checkMine(row, col);
+        } else if (button == MouseEvent.BUTTON2) {
+            if (journal != null) journal.chord(engine.index(row, col));
+            game.chord(engine.index(row, col));
+        } else if (button == MouseEvent.BUTTON3) {
+            if (journal != null) journal.flag(engine.index(row, col));
+            game.flag(engine.index(row, col));
+        }
+    }
+
+    /**
+     * Asks the {@link Solver} for a cell that is proven safe and highlights it.
+     * If no such cell exists, the {@link ProbabilityEngine} picks the cell least
+     * likely to be a mine, which is highlighted as the best guess, and the status
+     * label shows its risk. Both run on the game thread after any queued moves.
+     */
+    private void showHint() {
+        if (gameOver || pendingBoard != null || replayTimer != null) return;
+        if (endless) {
+            textLabel.setText("No hints on the Endless board");
+            return;
+        }
+
+        int generation = game.getGeneration();
+        game.call(this::findHint).thenAccept(hint -> SwingUtilities.invokeLater(() -> {
+            if (generation != game.getGeneration() || gameOver) return;
+            int index = hint.index;
+            if (index < 0) {
+                textLabel.setText("No safe move - you have to guess");
+                return;
+            }
+            if (hint.mineChance > 0) {
+                textLabel.setText(String.format("No safe move - best guess: %.0f%% mine", hint.mineChance * 100));
+            }
+
+            if (boardCanvas != null) {
+                boardCanvas.setHintCell(index);
+            } else {
+                board[engine.rowOf(index)][engine.colOf(index)].setHint();
+            }
+        }));
+    }
+
+    /**
+     * Finds the cell to suggest as a hint. Runs on the game thread.
+     */
+    private Hint findHint(BoardEngine e) {
+        int safe = new Solver(e).nextSafeMove();
+        if (safe >= 0) return new Hint(safe, 0);
+        try {
+            probabilities.update(e);
+        } catch (IllegalStateException ex) {
+            return new Hint(-1, 0);
+        }
+        int best = probabilities.getSafestCell();
+        return new Hint(best, best < 0 ? 0 : probabilities.getProbability(best));
+    }
+
+    /**
+     * Shows or hides the mine probability heat map. It is not available on the
+     * Endless board.
+     */
+    private void toggleHeatMap() {
+        if (endless) {
+            textLabel.setText("No heat map on the Endless board");
+            return;
+        }
+        heatMap = !heatMap;
+        if (heatMap) requestHeatMap();
+        else showHeatMap(null);
+    }
+
+    /**
+     * Computes the mine probabilities of the current board on the game thread, after
+     * any queued moves, and shows them as a heat map if it is on.
+     * <p>
+     * At most one update runs at a time. Requests made while one is running are
+     * coalesced into a single follow-up update, so a burst of moves costs at most
+     * two updates. Results for a board that has since been replaced are dropped.
+     */
+    private void requestHeatMap() {
+        if (!heatMap || endless || gameOver) return;
+        if (heatMapPending) {
+            heatMapStale = true;
+            return;
+        }
+        heatMapPending = true;
+
+        int generation = game.getGeneration();
+        game.call(e -> probabilities.update(e).clone()).whenComplete((heat, error) -> SwingUtilities.invokeLater(() -> {
+            heatMapPending = false;
+            if (heat != null && heatMap && !endless && generation == game.getGeneration()) showHeatMap(heat);
+            if (heatMapStale) {
+                heatMapStale = false;
+                requestHeatMap();
+            }
+        }));
+    }
+
+    /**
+     * Shows mine probabilities on the current board view.
+     *
+     * @param heat mine probability of every cell, {@code -1} for revealed cells, or
+     *             {@code null} to hide the heat map
+     */
+    private void showHeatMap(float[] heat) {
+        if (boardCanvas != null) {
+            boardCanvas.setHeatMap(heat);
+            return;
+        }
+        if (board == null) return;
+
+        for (int index = 0; index < numRows * numCols; index++) {
+            board[index / numCols][index % numCols].setHeat(heat == null ? -1 : heat[index]);
+        }
+        boardPanel.repaint();
+    }
+
+    /**
+     * Creates a new {@link BoardEngine} for the current board size that places
+     * {@code mineCount} mines from the current {@link #seed}, and hands it to the
+     * game thread.
+     */
+    private void setMines(int mineCount) {
+        engine = new BoardEngine(numRows, numCols, mineCount, seed);
+        engine.setFirstClickSafe(isFirstClickSafe());
+        engine.setMetricsEnabled(true);
+        game.start(engine);
+    }
+
+    /**
+     * Returns whether the first reveal of new games is safe: when selected in the
+     * settings and no-guess boards are off.
+     */
+    private boolean isFirstClickSafe() {
+        return firstClickSafe && !noGuess;
+    }
+
+    /**
+     * Shows the seed of the current game in the window title and, if recording is
+     * enabled, starts a new journal for it. The previous journal is closed first.
+     */
+    private void startJournal() {
+        frame.setTitle("Minesweeper #" + Long.toHexString(seed));
+        closeJournal();
+
+        String dir = System.getProperty(JOURNAL_DIR_PROPERTY);
+        if (dir == null) return;
+        try {
+            Path path = Path.of(dir).resolve("game-" + Long.toHexString(seed) + ".msj");
+            Files.createDirectories(path.getParent());
+            journal = new JournalWriter(path, numRows, numCols, initialMineCount, seed, isFirstClickSafe());
+        } catch (IOException e) {
+            System.err.println("Cannot record game: " + e);
+        }
+    }
+
+    /**
+     * Closes the journal of the current game, if any.
+     */
+    private void closeJournal() {
+        if (journal == null) return;
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.err.println("Cannot close game journal: " + e);
+        }
+        journal = null;
+    }
+
+    /**
+     * Saves the current game to a snapshot file. The snapshot is taken on the game
+     * thread after all queued moves, and this method waits for it.
+     *
+     * @param path file to write
+     * @throws IOException if the file cannot be written
+     * @throws IllegalStateException if the Endless board is shown or no board is ready
+     */
+    public void saveGame(Path path) throws IOException {
+        if (endless || engine == null || pendingBoard != null) {
+            throw new IllegalStateException("This board cannot be saved");
+        }
+        long saved = seed;
+        try {
+            game.call(e -> {
+                try {
+                    GameSnapshot.save(e, saved, path);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return null;
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * Loads a game saved with {@link #saveGame(Path)} and shows it in the current
+     * board view, without replaying any moves. Loaded games are not recorded.
+     *
+     * @param path file to read
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid snapshot
+     */
+    public void loadGame(Path path) throws IOException {
+        GameSnapshot snapshot = GameSnapshot.load(path);
+
+        if (pendingBoard != null) {
+            pendingBoard.cancel(true);
+            pendingBoard = null;
+        }
+        stopReplay();
+        closeJournal();
+
+        endless = false;
+        engine = snapshot.getEngine();
+        engine.setFirstClickSafe(isFirstClickSafe());
+        engine.setMetricsEnabled(true);
+        seed = snapshot.getSeed();
+        numRows = engine.getRows();
+        numCols = engine.getCols();
+        initialMineCount = engine.getMineCount();
+        mineCount = initialMineCount - engine.getFlagCount();
+        buildBoard();
+        gameOver = engine.isGameOver();
+
+        if (board != null) syncTiles();
+        else boardCanvas.load(engine);
+        game.start(engine);
+        requestHeatMap();
+        frame.setTitle("Minesweeper #" + Long.toHexString(seed) + " (loaded)");
+        if (engine.isWon()) {
+            textLabel.setText("Bravo! Minefield cleared!");
+        } else if (gameOver) {
+            textLabel.setText("GAME OVER!");
+        } else {
+            textLabel.setText(mineCount + " mines to find");
+        }
+    }
+
+    /**
+     * Copies the revealed and flagged cells of the engine onto freshly built tiles.
+     */
+    private void syncTiles() {
+        for (int index = 0; index < engine.getCellCount(); index++) {
+            MineTile tile = board[engine.rowOf(index)][engine.colOf(index)];
+            if (engine.isRevealed(index) && !engine.isMine(index)) {
+                tile.setRevealed(engine.getAdjacentMines(index));
+            } else if (gameOver && engine.isMine(index)) {
+                tile.setMine();
+            } else if (engine.isFlagged(index)) {
+                tile.setFlag(true);
+            }
+        }
+    }
+
+    /**
+     * Replays a recorded game in the current window, following the recorded timing.
+     * <p>
+     * The board is rebuilt with the recorded size and seed, and each move is applied
+     * after its recorded delay by a Swing {@link Timer}, exactly as if it had been
+     * clicked. Player input is ignored until the replay ends or a new game is started.
+     *
+     * @param reader a journal positioned before its first move
+     */
+    public void replay(JournalReader reader) {
+        if (pendingBoard != null) {
+            pendingBoard.cancel(true);
+            pendingBoard = null;
+        }
+        stopReplay();
+        closeJournal();
+
+        endless = false;
+        numRows = reader.getRows();
+        numCols = reader.getCols();
+        initialMineCount = mineCount = reader.getMineCount();
+        seed = reader.getSeed();
+        engine = reader.createEngine();
+        game.start(engine);
+        buildBoard();
+
+        frame.setTitle("Minesweeper #" + Long.toHexString(seed) + " (replay)");
+        textLabel.setText("Replaying...");
+        replayNext(reader);
+    }
+
+    /**
+     * Schedules the next recorded move of a replay, or ends the replay.
+     */
+    private void replayNext(JournalReader reader) {
+        if (!reader.next()) {
+            replayTimer = null;
+            if (!gameOver) textLabel.setText("Replay finished");
+            return;
+        }
+
+        replayTimer = new Timer((int) Math.min(reader.getDelayMillis(), Integer.MAX_VALUE), e -> {
+            if (reader.isReveal()) game.reveal(reader.getIndex());
+            else if (reader.isFlag()) game.flag(reader.getIndex());
+            else if (reader.isChord()) game.chord(reader.getIndex());
+            replayNext(reader);
+        });
+        replayTimer.setRepeats(false);
+        replayTimer.start();
+    }
+
+    /**
+     * Stops a replay in progress, if any.
+     */
+    private void stopReplay() {
+        if (replayTimer == null) return;
+        replayTimer.stop();
+        replayTimer = null;
+    }
+
+    /**
+     * Queues a reveal of the clicked cell on the game thread.
+     * <p>
+     * The reveal itself (including opening the surrounding area of cells with
+     * no adjacent mines) is performed iteratively by the {@link BoardEngine};
+     * the result arrives later on the EDT through {@link #applyDelta(BoardDelta)}.
+     *
+     * @param row row index of the clicked cell
+     * @param col column index of the clicked cell
+     */
+    void checkMine(int row, int col) {
+        game.reveal(engine.index(row, col));
+    }
+
+    /**
+     * Applies a batch of changes published by the game thread to the view in a
+     * single pass, then updates the mine counter and the game status.
+     * <p>
+     * The tile view updates each changed {@link MineTile}; revealed tiles, the bulk
+     * of any opening, are updated without a repaint of their own. The canvas view
+     * updates its cell states. Both then request one repaint of the rectangle
+     * enclosing all changed cells. When all non-mine cells are revealed, the player
+     * wins; when a mine is revealed, the game is lost. Either way the batch shows
+     * every mine.
+     *
+     * @param delta the changes made by one or more moves
+     */
+    private void applyDelta(BoardDelta delta) {
+        if (delta.isEmpty() || (board == null && boardCanvas == null)) return;
+
+        int flagsChanged = 0;
+        for (int n = 0; n < delta.size(); n++) {
+            byte state = delta.getState(n);
+            if (state == BoardDelta.FLAGGED) flagsChanged++;
+            else if (state == BoardDelta.HIDDEN) flagsChanged--;
+        }
+
+        if (boardCanvas != null) {
+            boardCanvas.apply(delta);
+        } else {
+            for (int n = 0; n < delta.size(); n++) {
+                int index = delta.getIndex(n);
+                MineTile tile = board[engine.rowOf(index)][engine.colOf(index)];
+                byte state = delta.getState(n);
+                switch (state) {
+                    case BoardDelta.MINE -> tile.setMine();
+                    case BoardDelta.FLAGGED -> tile.setFlag(true);
+                    case BoardDelta.HIDDEN -> tile.setFlag(false);
+                    default -> tile.setRevealed(state);
+                }
+            }
+
+            Rectangle first = board[delta.getMinRow()][delta.getMinCol()].getBounds();
+            Rectangle last = board[delta.getMaxRow()][delta.getMaxCol()].getBounds();
+            boardPanel.repaint(first.union(last));
+        }
+
+        if (delta.getOutcome() == BoardEngine.Outcome.MINE) {
+            gameOver = true;
+            mineCount = initialMineCount;
+            textLabel.setText("GAME OVER!");
+        } else if (delta.getOutcome() == BoardEngine.Outcome.WON) {
+            gameOver = true;
+            mineCount = initialMineCount;
+            textLabel.setText("Bravo! Minefield cleared!");
+        } else if (flagsChanged != 0) {
+            mineCount -= flagsChanged;
+            textLabel.setText("Minesweeper: " + mineCount + " mines to find");
+        }
+        requestHeatMap();
+    }
+
+    /**
+     * A cell suggested by the hint button.
+     */
+    private static final class Hint {
+
+        /** Linear index of the cell, or {@code -1} if there is none. */
+        final int index;
+
+        /** Probability that the cell is a mine; {@code 0} for a proven safe cell. */
+        final float mineChance;
+
+        Hint(int index, float mineChance) {
+            this.index = index;
+            this.mineChance = mineChance;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package minesweeper;
+
+import java.util.Random;
+
+/**
+ * A {@code MoveStrategy} decides which cell to reveal next in a headless game.
+ * <p>
+ * Strategies are used by {@link SimulationRunner}; every worker thread creates its
+ * own instance, so implementations may keep per-game state and reuse buffers
+ * without synchronization.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public interface MoveStrategy {
+
+    /**
+     * Called once before the first move of every game.
+     *
+     * @param engine the freshly reset board
+     */
+    default void startGame(BoardEngine engine) {
+    }
+
+    /**
+     * Returns the next cell to reveal. The game is never over when this is called.
+     *
+     * @param engine the board being played
+     * @param random the worker's random generator
+     * @return linear index of a hidden cell
+     */
+    int nextMove(BoardEngine engine, Random random);
+
+    /**
+     * Called after every reveal made on behalf of this strategy.
+     *
+     * @param engine the board being played
+     */
+    default void afterReveal(BoardEngine engine) {
+    }
+
+    /**
+     * Returns a strategy that reveals uniformly random hidden cells.
+     *
+     * @return a new random-click strategy
+     */
+    static MoveStrategy randomClicks() {
+        return (engine, random) -> randomHiddenCell(engine, random, null);
+    }
+
+    /**
+     * Returns a strategy that plays every move the {@link Solver} can prove safe
+     * and guesses a random cell that is not a known mine otherwise.
+     *
+     * @return a new solver-backed strategy
+     */
+    static MoveStrategy solverWithGuesses() {
+        return new MoveStrategy() {
+            private Solver solver;
+
+            @Override
+            public void startGame(BoardEngine engine) {
+                if (solver == null) solver = new Solver(engine);
+                else solver.attach(engine);
+            }
+
+            @Override
+            public int nextMove(BoardEngine engine, Random random) {
+                int index = solver.nextSafeMove();
+                return index >= 0 ? index : randomHiddenCell(engine, random, solver);
+            }
+
+            @Override
+            public void afterReveal(BoardEngine engine) {
+                solver.onReveal();
+            }
+        };
+    }
+
+    /**
+     * Picks a random cell that is not revealed, not flagged and, if a solver is
+     * given, not a known mine.
+     */
+    private static int randomHiddenCell(BoardEngine engine, Random random, Solver solver) {
+        while (true) {
+            int index = random.nextInt(engine.getCellCount());
+            if (engine.isRevealed(index) || engine.isFlagged(index)) continue;
+            if (solver != null && solver.isKnownMine(index)) continue;
+            return index;
+        }
+    }
+}
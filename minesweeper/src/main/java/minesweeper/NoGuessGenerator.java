@@ -0,0 +1,211 @@
+package minesweeper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code NoGuessGenerator} class finds mine layouts that can be cleared by
+ * logic alone, starting from a given cell.
+ * <p>
+ * Candidate layouts are generated and validated speculatively on several worker
+ * threads. Each worker derives candidate seeds from a shared attempt counter,
+ * opens the candidate at a start cell with no adjacent mines and runs the
+ * {@link Solver}. The first candidate that is solved completely wins; the other
+ * workers see the completed result and stop, and their tasks are cancelled.
+ *
+ * <p>
+ * Every request has a latency budget. If no candidate passes in time, a normal
+ * random layout is returned instead, so callers always get a board.
+ * Layouts are returned as seeds, which rebuild the exact board with
+ * {@link BoardEngine#BoardEngine(int, int, int, long)}.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class NoGuessGenerator {
+
+    /**
+     * A generated layout and the cell the player should open first.
+     */
+    public static final class Result {
+
+        private final long seed;
+        private final int startCell;
+        private final boolean noGuess;
+
+        Result(long seed, int startCell, boolean noGuess) {
+            this.seed = seed;
+            this.startCell = startCell;
+            this.noGuess = noGuess;
+        }
+
+        /** Returns the seed that reproduces the layout. */
+        public long getSeed() {
+            return seed;
+        }
+
+        /** Returns the linear index of the suggested first click, or {@code -1} if the board has no opening. */
+        public int getStartCell() {
+            return startCell;
+        }
+
+        /** Returns {@code true} if the board is proven solvable from the start cell without guessing. */
+        public boolean isNoGuess() {
+            return noGuess;
+        }
+    }
+
+    private final int numRows;
+    private final int numCols;
+    private final int mineCount;
+    private final int threads;
+
+    /** Worker pool shared by all requests of this generator. */
+    private final ExecutorService pool;
+
+    /**
+     * Constructs a generator for boards of the given size. Worker threads are
+     * daemon threads, so an idle generator never keeps the application alive.
+     *
+     * @param rows    number of rows on the board
+     * @param cols    number of columns on the board
+     * @param mines   total number of mines on the board
+     * @param threads number of candidates validated in parallel
+     */
+    public NoGuessGenerator(int rows, int cols, int mines, int threads) {
+        if (threads <= 0) throw new IllegalArgumentException("Invalid thread count: " + threads);
+        this.numRows = rows;
+        this.numCols = cols;
+        this.mineCount = mines;
+        this.threads = threads;
+        this.pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "no-guess-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts searching for a no-guess layout.
+     * <p>
+     * The returned future completes with the first layout that passes, or with a
+     * normal layout once {@code budgetMillis} have elapsed, even if a worker is still
+     * validating a candidate. Cancelling the future stops all workers of this request.
+     *
+     * @param seed         seed from which candidate seeds are derived
+     * @param budgetMillis time allowed for the search
+     * @return a future completing with the generated {@link Result}
+     */
+    public CompletableFuture<Result> generateAsync(long seed, long budgetMillis) {
+        CompletableFuture<Result> result = new CompletableFuture<>();
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+        AtomicLong attempts = new AtomicLong();
+        AtomicInteger running = new AtomicInteger(threads);
+
+        List<Future<?>> tasks = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            tasks.add(pool.submit(() -> {
+                try {
+                    search(seed, attempts, deadline, result);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    if (running.decrementAndGet() == 0 && !result.isDone()) {
+                        result.complete(fallback(seed));
+                    }
+                }
+            }));
+        }
+        CompletableFuture.runAsync(() -> {
+            if (!result.isDone()) result.complete(fallback(seed));
+        }, CompletableFuture.delayedExecutor(budgetMillis, TimeUnit.MILLISECONDS));
+
+        result.whenComplete((r, e) -> tasks.forEach(task -> task.cancel(true)));
+        return result;
+    }
+
+    /**
+     * Searches for a layout on the calling thread, blocking until one is found or
+     * the budget runs out.
+     *
+     * @param seed         seed from which candidate seeds are derived
+     * @param budgetMillis time allowed for the search
+     * @return the generated {@link Result}
+     */
+    public Result generate(long seed, long budgetMillis) {
+        return generateAsync(seed, budgetMillis).join();
+    }
+
+    /**
+     * Stops all worker threads. Pending requests complete with their fallback layout.
+     */
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Validates candidates until one passes, another worker completes the result,
+     * the deadline passes, or the task is cancelled. Board and solver buffers are
+     * reused for every candidate.
+     */
+    private void search(long seed, AtomicLong attempts, long deadline, CompletableFuture<Result> result) {
+        BoardEngine engine = null;
+        Solver solver = null;
+
+        while (!result.isDone() && System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            long candidate = SimulationRunner.mix(seed, attempts.getAndIncrement());
+            if (engine == null) engine = new BoardEngine(numRows, numCols, mineCount, candidate);
+            else engine.reset(candidate);
+
+            int start = findStartCell(engine);
+            if (start < 0) continue;
+
+            engine.reveal(start);
+            if (solver == null) solver = new Solver(engine);
+            else solver.attach(engine);
+
+            if (solver.solve() == Solver.Result.SOLVED) {
+                result.complete(new Result(candidate, start, true));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Builds the result used when the budget runs out: a normal layout with the
+     * same start-cell rule.
+     */
+    private Result fallback(long seed) {
+        long candidate = SimulationRunner.mix(seed, -1);
+        BoardEngine engine = new BoardEngine(numRows, numCols, mineCount, candidate);
+        return new Result(candidate, findStartCell(engine), false);
+    }
+
+    /**
+     * Returns the cell with no adjacent mines found first when scanning from the
+     * middle of the board, so the suggested start is near the center.
+     *
+     * @param engine the board to search
+     * @return linear index of a zero cell, or {@code -1} if there is none
+     */
+    static int findStartCell(BoardEngine engine) {
+        int cells = engine.getCellCount();
+        int middle = engine.index(engine.getRows() / 2, engine.getCols() / 2);
+        for (int k = 0; k < cells; k++) {
+            int index = (middle + k) % cells;
+            if (!engine.isMine(index) && engine.getAdjacentMines(index) == 0) return index;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,406 @@
+package minesweeper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The {@code Openings} class labels the openings of a mine layout: the connected
+ * regions of safe cells with no adjacent mines, each together with the numbered
+ * cells on its border.
+ * <p>
+ * Clicking any zero cell of an opening reveals exactly the opening, so once the
+ * labels are built a {@link BoardEngine} reveals it by walking a precomputed member
+ * list instead of searching neighbours cell by cell. Labels are found with
+ * union-find over the zero cells in one pass; on large boards the rows are split
+ * into strips that are labelled in parallel and merged at their seams. Members
+ * are stored in one array grouped by opening, in cell order.
+ *
+ * <p>
+ * Besides the labels, an instance tracks for every opening whether a reveal has
+ * already entered it and how many of its zero cells are flagged. Only an opening
+ * with neither is guaranteed to be revealed exactly as the flood fill would, so
+ * the engine falls back to the flood fill otherwise.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+final class Openings {
+
+    /** Boards with fewer cells are labelled in a single strip. */
+    private static final int PARALLEL_CELLS = 1 << 18;
+
+    /** Minimum number of rows in a strip, so seams stay a small part of the work. */
+    private static final int MIN_STRIP_ROWS = 64;
+
+    /** Temporary label of a numbered cell that borders more than one opening. */
+    private static final int SEVERAL = Integer.MIN_VALUE;
+
+    private final int numRows;
+    private final int numCols;
+    private final int cellCount;
+
+    /**
+     * Opening of every cell, or {@code -1} for cells that are not zero cells.
+     * While labelling, holds the union-find parent of every zero cell instead.
+     */
+    private int[] labels;
+
+    /** Members of opening {@code o} are {@code cells[start[o]]} to {@code cells[start[o + 1] - 1]}. */
+    private int[] start = new int[1];
+
+    /** Members of all openings, grouped by opening. */
+    private int[] cells = new int[0];
+
+    /** Number of flagged zero cells in every opening. */
+    private int[] flags = new int[0];
+
+    /** Bitset of openings that a reveal has already entered. */
+    private long[] opened = new long[0];
+
+    /** Number of openings. */
+    private int count;
+
+    /** Number of cells that belong to at least one opening. */
+    private int covered;
+
+    /** Indicates whether the labels match the current mine layout. */
+    private boolean valid;
+
+    /** Indicates whether the member lists were built along with the labels. */
+    private boolean listed;
+
+    /**
+     * Constructs empty labels for a board of the given size. Nothing is allocated
+     * until the first call to {@link #build(long[], byte[])}.
+     *
+     * @param rows number of rows on the board
+     * @param cols number of columns on the board
+     */
+    Openings(int rows, int cols) {
+        this.numRows = rows;
+        this.numCols = cols;
+        this.cellCount = rows * cols;
+    }
+
+    /**
+     * Labels the openings of a mine layout and clears the flag counts and opened marks.
+     * The arrays of the previous layout are reused when large enough.
+     *
+     * @param mines    bitset of cells that contain a mine
+     * @param adjacent number of mines adjacent to every cell
+     */
+    void build(long[] mines, byte[] adjacent) {
+        int strips = 1;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (cellCount >= PARALLEL_CELLS && parallelism > 1) {
+            strips = Math.max(1, Math.min(parallelism, numRows / MIN_STRIP_ROWS));
+        }
+        build(mines, adjacent, strips);
+    }
+
+    /**
+     * Labels the openings with the rows split into the given number of strips.
+     *
+     * @param mines    bitset of cells that contain a mine
+     * @param adjacent number of mines adjacent to every cell
+     * @param strips   number of strips labelled in parallel
+     */
+    void build(long[] mines, byte[] adjacent, int strips) {
+        if (labels == null) labels = new int[cellCount];
+
+        int rowsPerStrip = (numRows + strips - 1) / strips;
+        if (strips == 1) {
+            unionStrip(mines, adjacent, 0, numRows);
+        } else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int first = 0; first < numRows; first += rowsPerStrip) {
+                int from = first;
+                int to = Math.min(numRows, first + rowsPerStrip);
+                tasks.add(ForkJoinTask.adapt(() -> unionStrip(mines, adjacent, from, to)));
+            }
+            ForkJoinPool.commonPool().submit(() -> ForkJoinTask.invokeAll(tasks)).join();
+            for (int seam = rowsPerStrip; seam < numRows; seam += rowsPerStrip) unionRow(seam);
+        }
+
+        count = 0;
+        for (int i = 0; i < cellCount; i++) {
+            // Parents always have lower indices, so they already hold their final opening.
+            int parent = labels[i];
+            if (parent >= 0) labels[i] = parent == i ? count++ : labels[parent];
+        }
+        listed = collectMembers();
+
+        if (flags.length < count) flags = new int[count];
+        else Arrays.fill(flags, 0, count, 0);
+        int words = Bits.words(count);
+        if (opened.length < words) opened = new long[words];
+        // Without member lists every opening is treated as entered, so reveals use the flood fill.
+        Arrays.fill(opened, 0, words, listed ? 0L : -1L);
+        valid = true;
+    }
+
+    /**
+     * Builds the union-find forest of the zero cells in rows {@code [from, to)},
+     * joining every zero cell with its zero neighbours to the left and above that
+     * lie in the same strip.
+     * <p>
+     * A new cell is linked to one of those neighbours directly. The neighbour above
+     * touches the other three, so if it is a zero cell they are already joined with
+     * it; otherwise the left and upper-left neighbours touch each other, and only
+     * the upper-right one may need a real union.
+     */
+    private void unionStrip(long[] mines, byte[] adjacent, int from, int to) {
+        for (int row = from; row < to; row++) {
+            int base = row * numCols;
+            for (int col = 0; col < numCols; col++) {
+                int i = base + col;
+                if (adjacent[i] != 0 || Bits.get(mines, i)) {
+                    labels[i] = -1;
+                    continue;
+                }
+                labels[i] = i;
+                int above = i - numCols;
+                if (row == from) {
+                    if (col > 0 && labels[i - 1] >= 0) labels[i] = i - 1;
+                    continue;
+                }
+                if (labels[above] >= 0) {
+                    labels[i] = above;
+                    continue;
+                }
+                int link = col > 0 && labels[i - 1] >= 0 ? i - 1 : col > 0 && labels[above - 1] >= 0 ? above - 1 : -1;
+                // The upper-right neighbour lies in the previous row, which is already labelled.
+                int right = col < numCols - 1 && labels[above + 1] >= 0 ? above + 1 : -1;
+                if (link >= 0) {
+                    labels[i] = link;
+                    if (right >= 0) union(i, right);
+                } else if (right >= 0) {
+                    labels[i] = right;
+                }
+            }
+        }
+    }
+
+    /** Joins every zero cell of a row with its zero neighbours in the row above. */
+    private void unionRow(int row) {
+        int base = row * numCols;
+        for (int col = 0; col < numCols; col++) {
+            if (labels[base + col] >= 0) unionAbove(base + col, col);
+        }
+    }
+
+    /** Joins a zero cell with the zero cells among its three neighbours above. */
+    private void unionAbove(int i, int col) {
+        int above = i - numCols;
+        if (col > 0 && labels[above - 1] >= 0) union(i, above - 1);
+        if (labels[above] >= 0) union(i, above);
+        if (col < numCols - 1 && labels[above + 1] >= 0) union(i, above + 1);
+    }
+
+    /** Merges the trees of two zero cells; the lower root becomes the root of both. */
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA < rootB) labels[rootB] = rootA;
+        else if (rootB < rootA) labels[rootA] = rootB;
+    }
+
+    /** Returns the root of a zero cell, halving the path on the way. */
+    private int find(int i) {
+        while (labels[i] != i) {
+            labels[i] = labels[labels[i]];
+            i = labels[i];
+        }
+        return i;
+    }
+
+    /**
+     * Lists the members of every opening: its zero cells, and every numbered cell
+     * next to one of them. A numbered cell can border up to four openings and is
+     * listed in each.
+     * <p>
+     * The first pass visits the neighbours of the zero cells and leaves the single
+     * opening of each numbered cell it reaches as a temporary negative label; cells
+     * that border several openings are resolved on the spot. The second pass then
+     * places every member with a single look at its own label.
+     *
+     * @return {@code false} if the members do not fit into one array, in which case
+     *         only the labels are built
+     */
+    private boolean collectMembers() {
+        if (start.length < count + 1) start = new int[count + 1];
+        else Arrays.fill(start, 0, count + 1, 0);
+
+        int[] around = new int[8];
+        long total = 0;
+        covered = 0;
+        for (int row = 0, i = 0; row < numRows; row++) {
+            for (int col = 0; col < numCols; col++, i++) {
+                int opening = labels[i];
+                if (opening < 0) continue;
+                start[opening + 1]++;
+                total++;
+                covered++;
+                if (row > 0 && row < numRows - 1 && col > 0 && col < numCols - 1) {
+                    // Inside an opening all eight neighbours are zero cells with non-negative labels.
+                    int up = i - numCols;
+                    int down = i + numCols;
+                    if ((labels[up - 1] | labels[up] | labels[up + 1] | labels[i - 1] | labels[i + 1]
+                            | labels[down - 1] | labels[down] | labels[down + 1]) >= 0) {
+                        continue;
+                    }
+                }
+                for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+                    for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                        int n = r * numCols + c;
+                        int label = labels[n];
+                        if (label >= 0 || label == SEVERAL || label == -2 - opening) continue;
+                        if (label == -1) {
+                            // Mines are never next to a zero cell, so this is a numbered cell.
+                            labels[n] = -2 - opening;
+                            start[opening + 1]++;
+                            total++;
+                            covered++;
+                            continue;
+                        }
+                        // A second opening: replace the single count by the full set of openings.
+                        start[-2 - label + 1]--;
+                        int k = bordered(r, c, around);
+                        for (int m = 0; m < k; m++) start[around[m] + 1]++;
+                        total += k - 1;
+                        labels[n] = SEVERAL;
+                    }
+                }
+            }
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            for (int i = 0; i < cellCount; i++) labels[i] = Math.max(labels[i], -1);
+            return false;
+        }
+        for (int o = 0; o < count; o++) start[o + 1] += start[o];
+        if (cells.length < total) cells = new int[(int) total];
+
+        // Fill using start[o] as the write position of opening o, then shift the offsets back.
+        for (int i = 0; i < cellCount; i++) {
+            int label = labels[i];
+            if (label >= 0) {
+                cells[start[label]++] = i;
+            } else if (label == SEVERAL) {
+                int k = bordered(i / numCols, i % numCols, around);
+                for (int m = 0; m < k; m++) cells[start[around[m]]++] = i;
+                labels[i] = -1;
+            } else if (label < -1) {
+                cells[start[-2 - label]++] = i;
+                labels[i] = -1;
+            }
+        }
+        System.arraycopy(start, 0, start, 1, count);
+        start[0] = 0;
+        return true;
+    }
+
+    /**
+     * Collects the distinct openings next to a numbered cell.
+     *
+     * @param row    row of the cell
+     * @param col    column of the cell
+     * @param around receives the openings
+     * @return number of openings written to {@code around}
+     */
+    private int bordered(int row, int col, int[] around) {
+        int n = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                int opening = labels[r * numCols + c];
+                if (opening < 0) continue;
+                int k = 0;
+                while (k < n && around[k] != opening) k++;
+                if (k == n) around[n++] = opening;
+            }
+        }
+        return n;
+    }
+
+    /** Marks the labels as stale after the mines have changed. */
+    void invalidate() {
+        valid = false;
+    }
+
+    /** Returns whether the labels match the current mine layout. */
+    boolean isValid() {
+        return valid;
+    }
+
+    /** Returns whether the member lists are available, which fails only on boards too large for one array. */
+    boolean hasMembers() {
+        return listed;
+    }
+
+    /** Returns the number of openings. */
+    int count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of cells that belong to at least one opening: all zero
+     * cells and the numbered cells next to them.
+     */
+    int covered() {
+        return covered;
+    }
+
+    /**
+     * Returns the opening of a cell.
+     *
+     * @param index linear cell index
+     * @return the opening, or {@code -1} if the cell is not a zero cell
+     */
+    int of(int index) {
+        return labels[index];
+    }
+
+    /** Returns the position of the first member of an opening in {@link #cell(int)}. */
+    int start(int opening) {
+        return start[opening];
+    }
+
+    /** Returns the position after the last member of an opening in {@link #cell(int)}. */
+    int end(int opening) {
+        return start[opening + 1];
+    }
+
+    /** Returns the linear index of the member at the given position. */
+    int cell(int position) {
+        return cells[position];
+    }
+
+    /** Marks an opening as entered by a reveal. */
+    void markOpened(int opening) {
+        Bits.set(opened, opening);
+    }
+
+    /**
+     * Returns whether an opening can be revealed from its member list: no reveal
+     * has entered it yet and none of its zero cells is flagged.
+     */
+    boolean isIntact(int opening) {
+        return flags[opening] == 0 && !Bits.get(opened, opening);
+    }
+
+    /**
+     * Updates the number of flagged zero cells of an opening.
+     *
+     * @param opening the opening of the flagged cell
+     * @param amount  {@code 1} when a flag is added, {@code -1} when one is removed
+     */
+    void addFlag(int opening, int amount) {
+        flags[opening] += amount;
+    }
+}
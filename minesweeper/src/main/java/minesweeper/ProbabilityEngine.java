@@ -0,0 +1,626 @@
+package minesweeper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The {@code ProbabilityEngine} class computes the exact probability that each
+ * hidden cell of a {@link BoardEngine} is a mine.
+ * <p>
+ * Hidden cells next to a revealed number form the frontier. The frontier is split
+ * into independent components: two cells belong to the same component when a
+ * chain of shared numbers connects them. Every component is solved separately by
+ * backtracking over its cells, counting its solutions by number of mines and, for
+ * each cell, the solutions in which that cell is a mine. Components are solved in
+ * parallel on a {@link ForkJoinPool}.
+ *
+ * <p>
+ * The components are then combined with the global mine count. A combination of
+ * component solutions with {@code K} mines in total leaves {@code M - K} mines for
+ * the {@code U} hidden cells outside the frontier, which can be placed in
+ * {@code C(U, M - K)} ways, so each solution is weighted by that binomial
+ * coefficient. Weights are kept in log space and normalized, so even boards with
+ * a million cells do not overflow. Cells outside the frontier share one
+ * probability. Flags are not trusted and are treated like any other hidden cell.
+ *
+ * <p>
+ * Solved components are cached by their cells and numbers. After a move, only
+ * the components it touched differ from the cached ones, so only those are
+ * enumerated again; finding the components is a linear scan of the board.
+ * Components larger than {@link #MAX_COMPONENT_CELLS} cells or needing more than
+ * {@link #NODE_BUDGET} search steps, and frontiers larger than
+ * {@link #MAX_EXACT_FRONTIER} cells, are approximated, and {@link #isExact()}
+ * reports it. An instance is not thread-safe and is meant to be
+ * used from the thread that owns the engine.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class ProbabilityEngine {
+
+    /** Largest number of search steps spent on one component before it is approximated. */
+    static final long NODE_BUDGET = 5_000_000;
+
+    /**
+     * Largest component enumerated. The search keeps a count per cell and mine count
+     * and recurses once per cell, so larger components are left unsolved up front.
+     */
+    static final int MAX_COMPONENT_CELLS = 1024;
+
+    /** Largest frontier combined exactly; larger frontiers use a mean-field approximation. */
+    static final int MAX_EXACT_FRONTIER = 2048;
+
+    /** Pool that enumerates components in parallel. */
+    private final ForkJoinPool pool;
+
+    /** Solved components of the previous update, keyed by themselves. */
+    private Map<Component, Component> cache = new HashMap<>();
+
+    private int numRows;
+    private int numCols;
+    private int cellCount;
+
+    /** Mine probability of every cell, or {@code -1} for revealed cells. */
+    private float[] probabilities;
+
+    /** Hidden cells already assigned to a component. */
+    private long[] cellSeen;
+
+    /** Revealed numbers already assigned to a component. */
+    private long[] constraintSeen;
+
+    /** Position of every cell in its component, valid while the component is built. */
+    private int[] localIndex;
+
+    /** Work queue of the component search. */
+    private int[] queue;
+
+    /** {@code log(n!)} for {@code n} up to the number of cells. */
+    private double[] logFactorial;
+
+    /** Whether the last update was exact. */
+    private boolean exact;
+
+    /** Number of frontier components in the last update. */
+    private int componentCount;
+
+    /** Number of components enumerated by the last update; the others came from the cache. */
+    private int solvedCount;
+
+    /**
+     * Constructs a probability engine that uses the common fork-join pool.
+     */
+    public ProbabilityEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a probability engine that enumerates components on the given pool.
+     *
+     * @param pool the pool to use
+     */
+    public ProbabilityEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Computes the mine probability of every hidden cell of the board.
+     *
+     * @param engine the board, which must not change during the call
+     * @return the probability of every cell, {@code -1} for revealed cells; the array
+     *         is reused by the next update
+     * @throws IllegalStateException if no mine layout matches the revealed numbers
+     */
+    public float[] update(BoardEngine engine) {
+        if (engine.getCellCount() != cellCount || probabilities == null) {
+            numRows = engine.getRows();
+            numCols = engine.getCols();
+            cellCount = engine.getCellCount();
+            probabilities = new float[cellCount];
+            cellSeen = new long[Bits.words(cellCount)];
+            constraintSeen = new long[Bits.words(cellCount)];
+            localIndex = new int[cellCount];
+            queue = new int[cellCount];
+            logFactorial = new double[cellCount + 1];
+            for (int n = 1; n <= cellCount; n++) logFactorial[n] = logFactorial[n - 1] + Math.log(n);
+            cache.clear();
+        } else {
+            numRows = engine.getRows();
+            numCols = engine.getCols();
+            Arrays.fill(cellSeen, 0L);
+            Arrays.fill(constraintSeen, 0L);
+        }
+
+        List<Component> components = findComponents(engine);
+        componentCount = components.size();
+        solve(components);
+
+        int hidden = cellCount - engine.getRevealedCount();
+        int interior = hidden;
+        int frontier = 0;
+        List<Component> solved = new ArrayList<>();
+        for (Component component : components) {
+            if (component.weights == null) continue;
+            solved.add(component);
+            interior -= component.cells.length;
+            frontier += component.cells.length;
+        }
+
+        exact = solved.size() == components.size();
+        double interiorProbability = frontier <= MAX_EXACT_FRONTIER
+                ? combineExact(solved, interior, engine.getMineCount())
+                : combineApproximate(solved, interior, engine.getMineCount());
+
+        for (int i = 0; i < cellCount; i++) {
+            probabilities[i] = engine.isRevealed(i) ? -1 : (float) interiorProbability;
+        }
+        for (Component component : solved) {
+            for (int j = 0; j < component.cells.length; j++) {
+                probabilities[component.cells[j]] = (float) component.probabilities[j];
+            }
+        }
+        return probabilities;
+    }
+
+    /**
+     * Returns the mine probability of a cell computed by the last update.
+     *
+     * @param index linear cell index
+     * @return a probability from 0 to 1, or {@code -1} if the cell is revealed
+     */
+    public float getProbability(int index) {
+        return probabilities[index];
+    }
+
+    /**
+     * Returns the hidden cell least likely to be a mine, preferring cells on the
+     * frontier, where a reveal gives information, over equally safe cells elsewhere.
+     *
+     * @return linear index of the safest hidden cell, or {@code -1} if none is hidden
+     */
+    public int getSafestCell() {
+        int best = -1;
+        for (int i = 0; i < cellCount; i++) {
+            float p = probabilities[i];
+            if (p < 0) continue;
+            if (best < 0 || p < probabilities[best]
+                    || (p == probabilities[best] && Bits.get(cellSeen, i) && !Bits.get(cellSeen, best))) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /** Returns whether every probability of the last update is exact. */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /** Returns the number of frontier components found by the last update. */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /** Returns the number of components the last update had to enumerate. */
+    public int getSolvedCount() {
+        return solvedCount;
+    }
+
+    /**
+     * Splits the frontier into components, in order of their lowest cell.
+     */
+    private List<Component> findComponents(BoardEngine engine) {
+        List<Component> components = new ArrayList<>();
+        if (engine.isGameOver()) return components;
+
+        for (int start = 0; start < cellCount; start++) {
+            if (engine.isRevealed(start) || Bits.get(cellSeen, start) || !touchesNumber(engine, start)) continue;
+
+            List<Integer> constraints = new ArrayList<>();
+            int head = 0;
+            int tail = 0;
+            Bits.set(cellSeen, start);
+            queue[tail++] = start;
+            while (head < tail) {
+                int cell = queue[head++];
+                int row = cell / numCols;
+                int col = cell - row * numCols;
+                for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+                    for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                        int n = r * numCols + c;
+                        if (!engine.isRevealed(n) || engine.getAdjacentMines(n) == 0 || Bits.get(constraintSeen, n)) {
+                            continue;
+                        }
+                        Bits.set(constraintSeen, n);
+                        constraints.add(n);
+                        tail = enqueueHiddenNeighbours(engine, n, tail);
+                    }
+                }
+            }
+            components.add(createComponent(engine, Arrays.copyOf(queue, tail), constraints));
+        }
+        return components;
+    }
+
+    /**
+     * Returns whether a hidden cell borders a revealed number.
+     */
+    private boolean touchesNumber(BoardEngine engine, int index) {
+        int row = index / numCols;
+        int col = index - row * numCols;
+        for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                int n = r * numCols + c;
+                if (engine.isRevealed(n) && engine.getAdjacentMines(n) > 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the not yet seen hidden neighbours of a number to the search queue.
+     */
+    private int enqueueHiddenNeighbours(BoardEngine engine, int index, int tail) {
+        int row = index / numCols;
+        int col = index - row * numCols;
+        for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                int n = r * numCols + c;
+                if (engine.isRevealed(n) || Bits.get(cellSeen, n)) continue;
+                Bits.set(cellSeen, n);
+                queue[tail++] = n;
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Builds a component from its cells and numbers, linking each number to the
+     * positions of its hidden neighbours.
+     */
+    private Component createComponent(BoardEngine engine, int[] cells, List<Integer> constraintList) {
+        for (int j = 0; j < cells.length; j++) localIndex[cells[j]] = j;
+
+        int[] constraints = new int[constraintList.size()];
+        int[] needs = new int[constraints.length];
+        int[][] members = new int[constraints.length][];
+        int[] memberships = new int[cells.length];
+        int[] buffer = new int[8];
+        for (int k = 0; k < constraints.length; k++) {
+            int index = constraintList.get(k);
+            constraints[k] = index;
+            needs[k] = engine.getAdjacentMines(index);
+
+            int row = index / numCols;
+            int col = index - row * numCols;
+            int count = 0;
+            for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+                for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                    int n = r * numCols + c;
+                    if (!engine.isRevealed(n)) {
+                        buffer[count++] = localIndex[n];
+                        memberships[localIndex[n]]++;
+                    }
+                }
+            }
+            members[k] = Arrays.copyOf(buffer, count);
+        }
+
+        int[][] constraintsOf = new int[cells.length][];
+        for (int j = 0; j < cells.length; j++) constraintsOf[j] = new int[memberships[j]];
+        Arrays.fill(memberships, 0);
+        for (int k = 0; k < constraints.length; k++) {
+            for (int j : members[k]) constraintsOf[j][memberships[j]++] = k;
+        }
+        return new Component(cells, constraints, needs, members, constraintsOf);
+    }
+
+    /**
+     * Takes solved components from the cache and enumerates the others in parallel.
+     */
+    private void solve(List<Component> components) {
+        Map<Component, Component> next = new HashMap<>();
+        List<Component> missing = new ArrayList<>();
+        for (int i = 0; i < components.size(); i++) {
+            Component component = components.get(i);
+            Component cached = cache.get(component);
+            if (cached != null) {
+                components.set(i, cached);
+                next.put(cached, cached);
+            } else {
+                missing.add(component);
+                next.put(component, component);
+            }
+        }
+        cache = next;
+        solvedCount = missing.size();
+
+        if (missing.size() == 1) {
+            missing.get(0).enumerate();
+        } else if (!missing.isEmpty()) {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (Component component : missing) tasks.add(ForkJoinTask.adapt(component::enumerate));
+            pool.submit(() -> ForkJoinTask.invokeAll(tasks)).join();
+        }
+    }
+
+    /**
+     * Combines the components with the global mine count exactly and stores the
+     * probability of every component cell.
+     * <p>
+     * The mine-count polynomials of the components are multiplied from the left
+     * (prefix products) and, going back from the right, the binomial weights are
+     * folded with each component in turn. The weight of the rest of the board for
+     * every mine count of a component is then a short sum of the two, so the whole
+     * combination costs {@code O(frontier^2)}.
+     *
+     * @return the probability of each hidden cell outside the frontier
+     */
+    private double combineExact(List<Component> components, int interior, int mines) {
+        int count = components.size();
+        double[][] prefix = new double[count + 1][];
+        prefix[0] = new double[] {1};
+        for (int c = 0; c < count; c++) prefix[c + 1] = convolve(prefix[c], components.get(c).weights);
+
+        double[] all = prefix[count];
+        double[] binomial = binomialWeights(all.length, interior, mines);
+
+        double total = 0;
+        double interiorMines = 0;
+        for (int k = 0; k < all.length; k++) {
+            double weight = all[k] * binomial[k];
+            total += weight;
+            if (interior > 0) interiorMines += weight * (mines - k) / interior;
+        }
+        if (!(total > 0)) throw new IllegalStateException("No mine layout matches the revealed numbers");
+
+        double[] suffix = binomial;
+        for (int c = count - 1; c >= 0; c--) {
+            Component component = components.get(c);
+            double[] before = prefix[c];
+            double[] z = new double[component.weights.length];
+            for (int k = 0; k < z.length; k++) {
+                for (int q = 0; q < before.length && k + q < suffix.length; q++) z[k] += before[q] * suffix[k + q];
+            }
+            component.applyWeights(z);
+            suffix = fold(suffix, component.weights);
+        }
+        return interior > 0 ? interiorMines / total : 0;
+    }
+
+    /**
+     * Combines very large frontiers by giving every component mine the odds of a
+     * mine outside the frontier, found by a few fixed-point iterations.
+     *
+     * @return the probability of each hidden cell outside the frontier
+     */
+    private double combineApproximate(List<Component> components, int interior, int mines) {
+        exact = false;
+        int frontier = 0;
+        for (Component component : components) frontier += component.cells.length;
+
+        double density = Math.min(1, (double) mines / Math.max(1, interior + frontier));
+        for (int iteration = 0; iteration < 8; iteration++) {
+            double odds = density >= 1 ? Double.MAX_VALUE : density / (1 - density);
+            double expected = 0;
+            for (Component component : components) {
+                double[] z = new double[component.weights.length];
+                for (int k = 0; k < z.length; k++) z[k] = Math.pow(odds, k);
+                expected += component.applyWeights(z);
+            }
+            if (interior == 0) return 0;
+            density = Math.min(1 - 1e-9, Math.max(1e-9, (mines - expected) / interior));
+        }
+        return density;
+    }
+
+    /**
+     * Returns {@code C(interior, mines - k)} for every {@code k}, scaled so the largest is 1.
+     */
+    private double[] binomialWeights(int length, int interior, int mines) {
+        double[] log = new double[length];
+        double max = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < length; k++) {
+            int left = mines - k;
+            log[k] = left < 0 || left > interior ? Double.NEGATIVE_INFINITY
+                    : logFactorial[interior] - logFactorial[left] - logFactorial[interior - left];
+            max = Math.max(max, log[k]);
+        }
+        double[] weights = new double[length];
+        if (max == Double.NEGATIVE_INFINITY) return weights;
+        for (int k = 0; k < length; k++) weights[k] = Math.exp(log[k] - max);
+        return weights;
+    }
+
+    /**
+     * Returns {@code out[t] = sum of w[j] * s[t + j]}, scaled so the largest value is 1.
+     */
+    private static double[] fold(double[] s, double[] w) {
+        double[] out = new double[s.length];
+        double max = 0;
+        for (int t = 0; t < s.length; t++) {
+            double sum = 0;
+            for (int j = 0; j < w.length && t + j < s.length; j++) sum += w[j] * s[t + j];
+            out[t] = sum;
+            max = Math.max(max, sum);
+        }
+        if (max > 0) for (int t = 0; t < out.length; t++) out[t] /= max;
+        return out;
+    }
+
+    /**
+     * Multiplies two mine-count polynomials and scales the result so its largest
+     * coefficient is 1.
+     */
+    private static double[] convolve(double[] a, double[] b) {
+        double[] out = new double[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) continue;
+            for (int j = 0; j < b.length; j++) out[i + j] += a[i] * b[j];
+        }
+        double max = 0;
+        for (double v : out) max = Math.max(max, v);
+        if (max > 0) for (int i = 0; i < out.length; i++) out[i] /= max;
+        return out;
+    }
+
+    /**
+     * An independent part of the frontier: hidden cells and the numbers that
+     * constrain them. Two components are equal when they have the same cells and
+     * numbers, so a solved component can be reused after unrelated moves.
+     */
+    private static final class Component {
+
+        /** Linear indices of the hidden cells, in search order. */
+        final int[] cells;
+
+        /** Linear indices of the numbers. */
+        final int[] constraints;
+
+        /** Mines required by each number. */
+        final int[] needs;
+
+        /** Positions in {@link #cells} of the hidden neighbours of each number. */
+        final int[][] members;
+
+        /** Numbers bordering each cell, by position. */
+        final int[][] constraintsOf;
+
+        final int hash;
+
+        /** Solutions by mine count, scaled so the largest is 1, or {@code null} if unsolved. */
+        double[] weights;
+
+        /** Solutions by mine count in which each cell is a mine, scaled like {@link #weights}. */
+        double[][] cellWeights;
+
+        /** Mine probability of each cell after the last combination. */
+        double[] probabilities;
+
+        /** Search state. */
+        private byte[] value;
+        private int[] mines;
+        private int[] open;
+        private long nodes;
+
+        Component(int[] cells, int[] constraints, int[] needs, int[][] members, int[][] constraintsOf) {
+            this.cells = cells;
+            this.constraints = constraints;
+            this.needs = needs;
+            this.members = members;
+            this.constraintsOf = constraintsOf;
+            this.hash = 31 * (31 * Arrays.hashCode(cells) + Arrays.hashCode(constraints)) + Arrays.hashCode(needs);
+        }
+
+        /**
+         * Counts the solutions of this component by backtracking. If the component
+         * has more than {@link #MAX_COMPONENT_CELLS} cells or the search exceeds
+         * {@link #NODE_BUDGET} steps, the component is left unsolved and its cells are
+         * treated like cells outside the frontier.
+         */
+        void enumerate() {
+            int n = cells.length;
+            if (n > MAX_COMPONENT_CELLS) return;
+            double[] counts = new double[n + 1];
+            double[][] cellCounts = new double[n + 1][n];
+            value = new byte[n];
+            mines = new int[constraints.length];
+            open = new int[constraints.length];
+            for (int k = 0; k < constraints.length; k++) open[k] = members[k].length;
+            nodes = 0;
+
+            boolean complete = search(0, 0, counts, cellCounts);
+            value = null;
+            mines = null;
+            open = null;
+            if (!complete) return;
+
+            double max = 0;
+            for (double v : counts) max = Math.max(max, v);
+            for (int k = 0; k <= n; k++) {
+                counts[k] /= max;
+                for (int j = 0; j < n; j++) cellCounts[k][j] /= max;
+            }
+            cellWeights = cellCounts;
+            weights = counts;
+        }
+
+        /**
+         * Assigns cell {@code i} and the cells after it.
+         *
+         * @return {@code false} if the node budget ran out
+         */
+        private boolean search(int i, int placed, double[] counts, double[][] cellCounts) {
+            if (++nodes > NODE_BUDGET) return false;
+            if (i == value.length) {
+                counts[placed]++;
+                for (int j = 0; j < value.length; j++) {
+                    if (value[j] == 1) cellCounts[placed][j]++;
+                }
+                return true;
+            }
+
+            int[] around = constraintsOf[i];
+            for (byte v = 0; v <= 1; v++) {
+                value[i] = v;
+                boolean feasible = true;
+                for (int k : around) {
+                    open[k]--;
+                    mines[k] += v;
+                    if (mines[k] > needs[k] || mines[k] + open[k] < needs[k]) feasible = false;
+                }
+                boolean complete = !feasible || search(i + 1, placed + v, counts, cellCounts);
+                for (int k : around) {
+                    open[k]++;
+                    mines[k] -= v;
+                }
+                if (!complete) return false;
+            }
+            value[i] = 0;
+            return true;
+        }
+
+        /**
+         * Computes the probability of every cell from the weight {@code z[k]} of the
+         * rest of the board when this component holds {@code k} mines.
+         *
+         * @return the expected number of mines in this component
+         */
+        double applyWeights(double[] z) {
+            int n = cells.length;
+            probabilities = new double[n];
+            double total = 0;
+            double expected = 0;
+            for (int k = 0; k <= n; k++) {
+                double weight = weights[k] * z[k];
+                if (weight == 0 || Double.isNaN(weight)) continue;
+                total += weight;
+                expected += weight * k;
+                for (int j = 0; j < n; j++) probabilities[j] += cellWeights[k][j] * z[k];
+            }
+            if (!(total > 0) || Double.isInfinite(total)) return 0;
+            for (int j = 0; j < n; j++) probabilities[j] /= total;
+            return expected / total;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Component other && hash == other.hash && Arrays.equals(cells, other.cells)
+                    && Arrays.equals(constraints, other.constraints) && Arrays.equals(needs, other.needs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package minesweeper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * The {@code RatingIndex} class reads a file of rated boards written by
+ * {@link BoardRater} and picks seeds by difficulty.
+ * <p>
+ * An index covers one board size and starts with a fixed header:
+ * <pre>
+ *   int  magic "MSR1"
+ *   byte version
+ *   int  rows, int cols, int mines
+ * </pre>
+ * followed by one {@value #RECORD_SIZE}-byte record per board:
+ * <pre>
+ *   long seed
+ *   char 3BV, char ZiNi, char openings, char islands
+ * </pre>
+ * Records are appended in the order they are rated, and the number of records
+ * follows from the file length, so an index cut short by a crash stays readable.
+ * Values above {@value Character#MAX_VALUE} are stored as that maximum.
+ *
+ * <p>
+ * The file is memory-mapped and its records are ordered by 3BV with a counting
+ * sort when it is opened, in {@code O(boards)}. After that,
+ * {@link #pickSeed(Band, Random)} returns a seed from any band in constant time.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class RatingIndex {
+
+    /** File signature, the ASCII characters {@code MSR1}. */
+    static final int MAGIC = 0x4D535231;
+
+    /** Current format version. */
+    static final byte VERSION = 1;
+
+    /** Size of the header in bytes. */
+    static final int HEADER_SIZE = 4 + 1 + 4 + 4 + 4;
+
+    /** Size of one record in bytes. */
+    static final int RECORD_SIZE = 8 + 4 * 2;
+
+    /**
+     * A difficulty band: a range of 3BV percentiles of the boards in an index.
+     * Bands are relative to the index, so they hold boards for every board size.
+     */
+    public enum Band {
+        /** Every rated board. */
+        ANY("Any 3BV", 0, 1),
+        /** The third of the boards with the lowest 3BV. */
+        LOW("Low 3BV (easiest third)", 0, 1 / 3.0),
+        /** The middle third of the boards by 3BV. */
+        MEDIUM("Medium 3BV (middle third)", 1 / 3.0, 2 / 3.0),
+        /** The third of the boards with the highest 3BV. */
+        HIGH("High 3BV (hardest third)", 2 / 3.0, 1);
+
+        private final String label;
+        private final double from;
+        private final double to;
+
+        Band(String label, double from, double to) {
+            this.label = label;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private final ByteBuffer buffer;
+
+    private final int rows;
+    private final int cols;
+    private final int mines;
+
+    /** Number of records in the index. */
+    private final int size;
+
+    /** Record numbers ordered by ascending 3BV. */
+    private final int[] order;
+
+    /**
+     * Returns the file name of the index for a board size, as used for the
+     * directory named by {@value Minesweeper#RATINGS_DIR_PROPERTY}.
+     *
+     * @param rows  number of rows on the board
+     * @param cols  number of columns on the board
+     * @param mines total number of mines on the board
+     * @return the file name, for example {@code ratings-16x30-99.msr}
+     */
+    public static String fileName(int rows, int cols, int mines) {
+        return "ratings-" + rows + "x" + cols + "-" + mines + ".msr";
+    }
+
+    /**
+     * Opens an index file and orders its records by 3BV.
+     *
+     * @param path index file to read
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a rating index
+     */
+    public RatingIndex(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a rating index: " + path);
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported rating index version: " + version);
+        }
+        this.rows = buffer.getInt();
+        this.cols = buffer.getInt();
+        this.mines = buffer.getInt();
+        this.size = (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE;
+
+        int[] start = new int[Character.MAX_VALUE + 2];
+        for (int n = 0; n < size; n++) start[getThreeBV(n) + 1]++;
+        for (int v = 0; v <= Character.MAX_VALUE; v++) start[v + 1] += start[v];
+        this.order = new int[size];
+        for (int n = 0; n < size; n++) order[start[getThreeBV(n)]++] = n;
+    }
+
+    /**
+     * Returns a random seed from the given band.
+     *
+     * @param band   the difficulty band
+     * @param random source of the choice
+     * @return the seed of a rated board in the band
+     * @throws IllegalStateException if the index holds no boards
+     */
+    public long pickSeed(Band band, Random random) {
+        if (size == 0) throw new IllegalStateException("The rating index is empty");
+        int from = (int) (band.from * size);
+        int to = Math.max(from + 1, (int) Math.ceil(band.to * size));
+        return getSeed(order[from + random.nextInt(Math.min(size, to) - from)]);
+    }
+
+    /**
+     * Returns the 3BV at the given percentile of the boards in the index.
+     *
+     * @param percentile a value from 0 to 100
+     * @return the 3BV of the board at that rank
+     * @throws IllegalStateException if the index holds no boards
+     */
+    public int getPercentileThreeBV(double percentile) {
+        if (size == 0) throw new IllegalStateException("The rating index is empty");
+        int rank = (int) Math.ceil(size * percentile / 100) - 1;
+        return getThreeBV(order[Math.max(0, Math.min(size - 1, rank))]);
+    }
+
+    /** Returns the offset of the given record in the file. */
+    private static int offset(int n) {
+        return HEADER_SIZE + n * RECORD_SIZE;
+    }
+
+    /** Returns the seed of the {@code n}-th record in file order. */
+    public long getSeed(int n) {
+        return buffer.getLong(offset(n));
+    }
+
+    /** Returns the 3BV of the {@code n}-th record in file order. */
+    public int getThreeBV(int n) {
+        return buffer.getChar(offset(n) + 8);
+    }
+
+    /** Returns the ZiNi estimate of the {@code n}-th record in file order. */
+    public int getZiNi(int n) {
+        return buffer.getChar(offset(n) + 10);
+    }
+
+    /** Returns the number of openings of the {@code n}-th record in file order. */
+    public int getOpenings(int n) {
+        return buffer.getChar(offset(n) + 12);
+    }
+
+    /** Returns the number of islands of the {@code n}-th record in file order. */
+    public int getIslands(int n) {
+        return buffer.getChar(offset(n) + 14);
+    }
+
+    /** Returns the number of rated boards. */
+    public int getSize() {
+        return size;
+    }
+
+    /** Returns the number of rows of the rated boards. */
+    public int getRows() {
+        return rows;
+    }
+
+    /** Returns the number of columns of the rated boards. */
+    public int getCols() {
+        return cols;
+    }
+
+    /** Returns the number of mines of the rated boards. */
+    public int getMines() {
+        return mines;
+    }
+}
@@ -0,0 +1,76 @@
+package minesweeper;
+
+/**
+ * The {@code Settings} class holds the options chosen in the {@link SettingsDialog}
+ * and applied together by {@link Minesweeper#applySettings(Settings)}.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+public final class Settings {
+
+    /** Difficulty label, such as "Easy (9x9, 10 mines)" or {@link Minesweeper#ENDLESS}. */
+    private final String difficulty;
+
+    /** Board view, {@link Minesweeper#VIEW_TILES} or {@link Minesweeper#VIEW_CANVAS}. */
+    private final String view;
+
+    /** Whether boards must be solvable without guessing. */
+    private final boolean noGuess;
+
+    /** 3BV band of new games; used when a rating index exists for the size and no-guess boards are off. */
+    private final RatingIndex.Band band;
+
+    /** Whether the first reveal of a game is always safe; ignored for no-guess boards. */
+    private final boolean firstClickSafe;
+
+    /**
+     * Constructs a set of options.
+     *
+     * @param difficulty     a string label representing difficulty (Easy, Medium, Hard, Huge, Endless)
+     * @param view           {@link Minesweeper#VIEW_TILES} or {@link Minesweeper#VIEW_CANVAS}
+     * @param noGuess        whether boards must be solvable without guessing
+     * @param band           3BV band of new games
+     * @param firstClickSafe whether the first reveal of a game is always safe
+     * @throws IllegalArgumentException if {@code difficulty}, {@code view} or {@code band} is {@code null}
+     */
+    public Settings(String difficulty, String view, boolean noGuess, RatingIndex.Band band, boolean firstClickSafe) {
+        if (difficulty == null || view == null || band == null) {
+            throw new IllegalArgumentException("Difficulty, view and band are required");
+        }
+        this.difficulty = difficulty;
+        this.view = view;
+        this.noGuess = noGuess;
+        this.band = band;
+        this.firstClickSafe = firstClickSafe;
+    }
+
+    /** Returns the difficulty label. */
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    /** Returns the board view. */
+    public String getView() {
+        return view;
+    }
+
+    /** Returns {@code true} if boards must be solvable without guessing. */
+    public boolean isNoGuess() {
+        return noGuess;
+    }
+
+    /** Returns the 3BV band of new games. */
+    public RatingIndex.Band getBand() {
+        return band;
+    }
+
+    /** Returns {@code true} if the first reveal of a game is always safe. */
+    public boolean isFirstClickSafe() {
+        return firstClickSafe;
+    }
+}
@@ -0,0 +1,138 @@
+package minesweeper;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * SettingsDialog
+ * Provides options for adjusting game difficulty and board configuration.
+ * Intended to be used as part of the Minesweeper game. The dialog is created once
+ * and shown again with {@link #showDialog()}, keeping the last selections.
+ *
+ * Version: 1.5.0
+ * Author: Zoran Juras
+ * Date: 2025-10-28
+ */
+public class SettingsDialog extends JDialog {
+
+    private final JComboBox<String> difficultyBox;
+    private final JComboBox<String> viewBox;
+    private final JCheckBox noGuessBox;
+    private final JCheckBox firstClickBox;
+    private final JComboBox<RatingIndex.Band> bandBox;
+    private boolean confirmed = false;
+
+    public SettingsDialog(Frame parent) {
+        super(parent, "Settings", true);
+        setLayout(new GridLayout(9, 1, 10, 10));
+        setSize(300, 490);
+        setLocationRelativeTo(parent);
+
+        JLabel difficultyLabel = new JLabel("Select difficulty:");
+        difficultyLabel.setFont(new Font("Arial", Font.PLAIN, 14));
+        difficultyLabel.setHorizontalAlignment(SwingConstants.CENTER);
+
+        String[] difficulties = {"Easy (9x9, 10 mines)", "Medium (16x16, 40 mines)", "Hard (16x32, 99 mines)",
+                "Huge (1000x1000, 150000 mines)", Minesweeper.ENDLESS};
+        difficultyBox = new JComboBox<>(difficulties);
+        difficultyBox.setFont(new Font("Arial", Font.PLAIN, 14));
+
+        JLabel viewLabel = new JLabel("Board view:");
+        viewLabel.setFont(new Font("Arial", Font.PLAIN, 14));
+        viewLabel.setHorizontalAlignment(SwingConstants.CENTER);
+
+        String[] views = {Minesweeper.VIEW_TILES, Minesweeper.VIEW_CANVAS};
+        viewBox = new JComboBox<>(views);
+        viewBox.setFont(new Font("Arial", Font.PLAIN, 14));
+
+        noGuessBox = new JCheckBox("No-guess boards");
+        noGuessBox.setFont(new Font("Arial", Font.PLAIN, 14));
+        noGuessBox.setHorizontalAlignment(SwingConstants.CENTER);
+
+        firstClickBox = new JCheckBox("Safe first click");
+        firstClickBox.setFont(new Font("Arial", Font.PLAIN, 14));
+        firstClickBox.setHorizontalAlignment(SwingConstants.CENTER);
+
+        JLabel bandLabel = new JLabel("Rated boards:");
+        bandLabel.setFont(new Font("Arial", Font.PLAIN, 14));
+        bandLabel.setHorizontalAlignment(SwingConstants.CENTER);
+
+        bandBox = new JComboBox<>(RatingIndex.Band.values());
+        bandBox.setFont(new Font("Arial", Font.PLAIN, 14));
+
+        JPanel buttonPanel = new JPanel();
+        JButton okButton = new JButton("OK");
+        JButton cancelButton = new JButton("Cancel");
+        buttonPanel.add(okButton);
+        buttonPanel.add(cancelButton);
+
+        add(difficultyLabel);
+        add(difficultyBox);
+        add(viewLabel);
+        add(viewBox);
+        add(noGuessBox);
+        add(firstClickBox);
+        add(bandLabel);
+        add(bandBox);
+        add(buttonPanel);
+
+        okButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                confirmed = true;
+                setVisible(false);
+            }
+        });
+
+        cancelButton.addActionListener(e -> setVisible(false));
+    }
+
+    /**
+     * Shows the dialog centered on its parent and waits until it is closed.
+     *
+     * @return whether the settings were confirmed with OK
+     */
+    public boolean showDialog() {
+        confirmed = false;
+        setLocationRelativeTo(getParent());
+        setVisible(true);
+        return confirmed;
+    }
+
+    public boolean isConfirmed() {
+        return confirmed;
+    }
+
+    public String getSelectedDifficulty() {
+        return (String) difficultyBox.getSelectedItem();
+    }
+
+    public String getSelectedView() {
+        return (String) viewBox.getSelectedItem();
+    }
+
+    public boolean isNoGuessSelected() {
+        return noGuessBox.isSelected();
+    }
+
+    public boolean isFirstClickSafeSelected() {
+        return firstClickBox.isSelected();
+    }
+
+    public RatingIndex.Band getSelectedBand() {
+        return (RatingIndex.Band) bandBox.getSelectedItem();
+    }
+
+    /**
+     * Returns the options selected in the dialog.
+     *
+     * @return the selected difficulty, board view, no-guess setting, 3BV band and first-click mode
+     */
+    public Settings getSettings() {
+        return new Settings(getSelectedDifficulty(), getSelectedView(), isNoGuessSelected(),
+                getSelectedBand(), isFirstClickSafeSelected());
+    }
+}
+
@@ -0,0 +1,168 @@
+package minesweeper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The {@code SimulationRunner} class plays large numbers of seeded headless games
+ * in parallel and aggregates their results.
+ * <p>
+ * A fixed pool of worker threads pulls batches of game numbers from a shared
+ * counter. Every worker owns one {@link MineField}, one {@link BoardMetrics}, one
+ * {@link MoveStrategy} and one {@link SimulationStats}, and reuses them for all of its
+ * games, so no board buffers are allocated per game and no state is shared while
+ * games run. The per-worker statistics are merged when all workers finish.
+ *
+ * <p>
+ * Game {@code n} always uses the same mine seed and the same move seed, derived from
+ * the base seed and {@code n}, so results do not depend on the number of threads or
+ * on scheduling.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class SimulationRunner {
+
+    /** Number of games a worker claims from the shared counter at once. */
+    private static final int BATCH_SIZE = 256;
+
+    private final int numRows;
+    private final int numCols;
+    private final int mineCount;
+    private final int threads;
+
+    /**
+     * Constructs a runner for boards of the given size.
+     *
+     * @param rows    number of rows on the board
+     * @param cols    number of columns on the board
+     * @param mines   total number of mines on the board
+     * @param threads number of worker threads
+     */
+    public SimulationRunner(int rows, int cols, int mines, int threads) {
+        if (threads <= 0) throw new IllegalArgumentException("Invalid thread count: " + threads);
+        this.numRows = rows;
+        this.numCols = cols;
+        this.mineCount = mines;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays {@code games} games and returns the merged statistics.
+     *
+     * @param games    number of games to play
+     * @param baseSeed seed from which every game's seeds are derived
+     * @param strategy factory creating one strategy per worker thread
+     * @return the aggregated {@link SimulationStats}
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public SimulationStats run(long games, long baseSeed, Supplier<MoveStrategy> strategy)
+            throws InterruptedException {
+        AtomicLong next = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<SimulationStats>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> runWorker(next, games, baseSeed, strategy.get())));
+            }
+
+            SimulationStats total = new SimulationStats();
+            for (Future<SimulationStats> result : results) {
+                total.merge(result.get());
+            }
+            return total;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays batches of games until the shared counter passes {@code games}.
+     */
+    private SimulationStats runWorker(AtomicLong next, long games, long baseSeed, MoveStrategy strategy) {
+        MineField field = new MineField(numRows, numCols, mineCount, baseSeed);
+        BoardEngine engine = field.getEngine();
+        BoardMetrics metrics = new BoardMetrics();
+        SimulationStats stats = new SimulationStats();
+        Random random = new Random();
+
+        while (!Thread.currentThread().isInterrupted()) {
+            long first = next.getAndAdd(BATCH_SIZE);
+            if (first >= games) break;
+            long last = Math.min(games, first + BATCH_SIZE);
+
+            for (long game = first; game < last; game++) {
+                field.resetField(mix(baseSeed, 2 * game));
+                random.setSeed(mix(baseSeed, 2 * game + 1));
+                metrics.compute(engine);
+                // Only play is timed, not placing the mines or rating the board.
+                long start = System.nanoTime();
+                strategy.startGame(engine);
+
+                int moves = 0;
+                int firstOpening = 0;
+                while (!engine.isGameOver()) {
+                    engine.reveal(strategy.nextMove(engine, random));
+                    strategy.afterReveal(engine);
+                    if (moves++ == 0) firstOpening = engine.getLastOpenedCount();
+                }
+                stats.record(engine.isWon(), moves, metrics.getThreeBV(), firstOpening, System.nanoTime() - start);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Derives a well-mixed 64-bit seed from a base seed and a game number
+     * (the SplitMix64 finalizer).
+     */
+    static long mix(long seed, long n) {
+        long z = seed + (n + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Runs a simulation from the command line.
+     * <p>
+     * Usage: {@code SimulationRunner rows cols mines games [threads] [random|solver] [seed]}
+     *
+     * @param args command-line arguments
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 4) {
+            System.err.println("Usage: SimulationRunner rows cols mines games [threads] [random|solver] [seed]");
+            System.exit(1);
+        }
+        int rows = Integer.parseInt(args[0]);
+        int cols = Integer.parseInt(args[1]);
+        int mines = Integer.parseInt(args[2]);
+        long games = Long.parseLong(args[3]);
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        boolean solver = args.length <= 5 || args[5].equals("solver");
+        long seed = args.length > 6 ? Long.parseLong(args[6]) : 0L;
+
+        long start = System.nanoTime();
+        SimulationStats stats = new SimulationRunner(rows, cols, mines, threads)
+                .run(games, seed, solver ? MoveStrategy::solverWithGuesses : MoveStrategy::randomClicks);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println(stats);
+        System.out.printf("%.2f s, %.0f games/s on %d threads%n", seconds, stats.getGames() / seconds, threads);
+    }
+}
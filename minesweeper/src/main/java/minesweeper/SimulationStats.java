@@ -0,0 +1,135 @@
+package minesweeper;
+
+/**
+ * The {@code SimulationStats} class accumulates the results of simulated games.
+ * <p>
+ * Each worker of a {@link SimulationRunner} owns one instance and updates it
+ * without synchronization; the instances are combined with {@link #merge} once
+ * all workers have finished.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class SimulationStats {
+
+    private long games;
+    private long wins;
+    private long moves;
+    private long threeBVSum;
+    private long wonThreeBVSum;
+    private long firstOpeningSum;
+    private int maxFirstOpening;
+    private long nanosSum;
+    private long minNanos = Long.MAX_VALUE;
+    private long maxNanos;
+
+    /**
+     * Records one finished game.
+     *
+     * @param won          whether the game was won
+     * @param moveCount    number of reveals made
+     * @param threeBV      3BV of the board
+     * @param firstOpening number of cells opened by the first move
+     * @param nanos        wall-clock duration of play, excluding board setup and rating
+     */
+    public void record(boolean won, int moveCount, int threeBV, int firstOpening, long nanos) {
+        games++;
+        if (won) {
+            wins++;
+            wonThreeBVSum += threeBV;
+        }
+        moves += moveCount;
+        threeBVSum += threeBV;
+        firstOpeningSum += firstOpening;
+        maxFirstOpening = Math.max(maxFirstOpening, firstOpening);
+        nanosSum += nanos;
+        minNanos = Math.min(minNanos, nanos);
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /**
+     * Adds the results of another accumulator to this one.
+     *
+     * @param other the accumulator to merge
+     */
+    public void merge(SimulationStats other) {
+        games += other.games;
+        wins += other.wins;
+        moves += other.moves;
+        threeBVSum += other.threeBVSum;
+        wonThreeBVSum += other.wonThreeBVSum;
+        firstOpeningSum += other.firstOpeningSum;
+        maxFirstOpening = Math.max(maxFirstOpening, other.maxFirstOpening);
+        nanosSum += other.nanosSum;
+        minNanos = Math.min(minNanos, other.minNanos);
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    /** Returns the number of games recorded. */
+    public long getGames() {
+        return games;
+    }
+
+    /** Returns the number of games won. */
+    public long getWins() {
+        return wins;
+    }
+
+    /** Returns the fraction of games won, or 0 if no game was recorded. */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /** Returns the mean number of reveals per game. */
+    public double getMeanMoves() {
+        return games == 0 ? 0 : (double) moves / games;
+    }
+
+    /** Returns the mean 3BV of all boards played. */
+    public double getMeanThreeBV() {
+        return games == 0 ? 0 : (double) threeBVSum / games;
+    }
+
+    /** Returns the mean 3BV of the boards that were won. */
+    public double getMeanWonThreeBV() {
+        return wins == 0 ? 0 : (double) wonThreeBVSum / wins;
+    }
+
+    /** Returns the mean number of cells opened by the first move. */
+    public double getMeanFirstOpening() {
+        return games == 0 ? 0 : (double) firstOpeningSum / games;
+    }
+
+    /** Returns the largest number of cells opened by a first move. */
+    public int getMaxFirstOpening() {
+        return maxFirstOpening;
+    }
+
+    /** Returns the mean duration of a game in microseconds. */
+    public double getMeanMicros() {
+        return games == 0 ? 0 : nanosSum / 1000.0 / games;
+    }
+
+    /** Returns the shortest duration of a game in microseconds. */
+    public double getMinMicros() {
+        return games == 0 ? 0 : minNanos / 1000.0;
+    }
+
+    /** Returns the longest duration of a game in microseconds. */
+    public double getMaxMicros() {
+        return maxNanos / 1000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "games=%d wins=%d (%.2f%%) moves/game=%.1f 3BV=%.1f (won %.1f) "
+                        + "first opening=%.1f (max %d) time/game=%.1fus (min %.1f, max %.1f)",
+                games, wins, 100 * getWinRate(), getMeanMoves(), getMeanThreeBV(), getMeanWonThreeBV(),
+                getMeanFirstOpening(), maxFirstOpening, getMeanMicros(), getMinMicros(), getMaxMicros());
+    }
+}
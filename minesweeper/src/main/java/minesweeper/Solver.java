@@ -0,0 +1,452 @@
+package minesweeper;
+
+import java.util.Arrays;
+
+/**
+ * The {@code Solver} class plays a {@link BoardEngine} by logic alone.
+ * <p>
+ * Every revealed number is a constraint: the number of mines among its hidden
+ * neighbours. The solver applies two rules to these constraints:
+ * <ul>
+ *   <li>single cell — if a number is already satisfied by known mines, its other
+ *       hidden neighbours are safe; if it needs all of them, they are all mines;</li>
+ *   <li>subset/pair — for two nearby numbers {@code a} and {@code b}, if
+ *       {@code need(b) - need(a)} equals the number of hidden cells only {@code b}
+ *       touches, those cells are mines and the cells only {@code a} touches are safe.</li>
+ * </ul>
+ * When neither rule applies, the global mine count is used as a last resort.
+ *
+ * <p>
+ * Per-cell counters of hidden and known-mine neighbours are kept up to date
+ * incrementally: when a cell is revealed or deduced, only its 8 neighbours are
+ * updated and re-queued. The frontier (revealed numbers that still touch hidden
+ * cells), known mines and known safe cells are tracked in bitsets. A solver can be
+ * {@linkplain #attach(BoardEngine) attached} to another board of the same size
+ * without reallocating its buffers.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class Solver {
+
+    /**
+     * Result of {@link #solve()}.
+     */
+    public enum Result {
+        /** All safe cells were revealed. */
+        SOLVED,
+        /** No cell can be proven safe; the next move would be a guess. */
+        GUESS_NEEDED,
+        /** A mine was revealed (only possible if the board was already lost). */
+        LOST
+    }
+
+    /** Board being solved. */
+    private BoardEngine engine;
+
+    private int numRows;
+    private int numCols;
+    private int cellCount;
+
+    /** Cells known to be safe: revealed, or deduced and waiting to be revealed. */
+    private long[] safe;
+
+    /** Cells deduced to be mines. */
+    private long[] knownMine;
+
+    /** Revealed cells whose numbers have been added as constraints. */
+    private long[] constraint;
+
+    /** Constraint cells that still touch at least one unknown cell. */
+    private long[] frontier;
+
+    /** Constraint cells currently in the work queue. */
+    private long[] queued;
+
+    /** Unknown neighbours of every constraint cell. */
+    private byte[] unknown;
+
+    /** Known-mine neighbours of every constraint cell. */
+    private byte[] mineNeighbours;
+
+    /** Circular queue of constraint cells to re-examine. */
+    private int[] work;
+    private int workHead;
+    private int workSize;
+
+    /** Cells deduced safe, in deduction order; each cell is added at most once. */
+    private int[] safeMoves;
+    private int safeHead;
+    private int safeTail;
+
+    /** Number of cells deduced to be mines. */
+    private int knownMineCount;
+
+    /** Number of cells that are neither known safe nor known mines. */
+    private int unknownCells;
+
+    /** Scratch buffers for the unknown neighbours of a pair of constraints. */
+    private final int[] cellsA = new int[8];
+    private final int[] cellsB = new int[8];
+    private final int[] onlyA = new int[8];
+    private final int[] onlyB = new int[8];
+
+    /**
+     * Constructs a solver for the current state of the given board.
+     *
+     * @param engine the board to solve
+     */
+    public Solver(BoardEngine engine) {
+        attach(engine);
+    }
+
+    /**
+     * Attaches the solver to a board and rebuilds all constraints from the cells
+     * revealed so far. Buffers are reused when the board size is unchanged.
+     *
+     * @param engine the board to solve
+     */
+    public void attach(BoardEngine engine) {
+        this.engine = engine;
+        if (cellCount != engine.getCellCount() || safe == null) {
+            numRows = engine.getRows();
+            numCols = engine.getCols();
+            cellCount = engine.getCellCount();
+            int words = Bits.words(cellCount);
+            safe = new long[words];
+            knownMine = new long[words];
+            constraint = new long[words];
+            frontier = new long[words];
+            queued = new long[words];
+            unknown = new byte[cellCount];
+            mineNeighbours = new byte[cellCount];
+            work = new int[cellCount];
+            safeMoves = new int[cellCount];
+        } else {
+            numRows = engine.getRows();
+            numCols = engine.getCols();
+            Arrays.fill(safe, 0L);
+            Arrays.fill(knownMine, 0L);
+            Arrays.fill(constraint, 0L);
+            Arrays.fill(frontier, 0L);
+            Arrays.fill(queued, 0L);
+        }
+        workHead = 0;
+        workSize = 0;
+        safeHead = 0;
+        safeTail = 0;
+        knownMineCount = 0;
+        unknownCells = cellCount;
+
+        for (int i = 0; i < cellCount; i++) {
+            if (engine.isRevealed(i)) {
+                Bits.set(safe, i);
+                unknownCells--;
+            }
+        }
+        for (int i = 0; i < cellCount; i++) {
+            if (engine.isRevealed(i) && !engine.isMine(i)) addConstraint(i);
+        }
+    }
+
+    /**
+     * Returns a cell that is proven safe and not yet revealed.
+     *
+     * @return linear index of a safe cell, or {@code -1} if only a guess remains
+     */
+    public int nextSafeMove() {
+        if (engine.isGameOver()) return -1;
+        while (true) {
+            while (safeHead < safeTail) {
+                int index = safeMoves[safeHead];
+                if (!engine.isRevealed(index)) return index;
+                safeHead++;
+            }
+            propagate();
+            if (safeHead < safeTail) continue;
+            if (!applyMineCount()) return -1;
+        }
+    }
+
+    /**
+     * Reveals proven-safe cells until the board is solved or the next move
+     * would be a guess.
+     *
+     * @return the {@link Result} of solving
+     */
+    public Result solve() {
+        while (!engine.isGameOver()) {
+            int index = nextSafeMove();
+            if (index < 0) return Result.GUESS_NEEDED;
+            reveal(index);
+        }
+        return engine.isWon() ? Result.SOLVED : Result.LOST;
+    }
+
+    /**
+     * Reveals a cell on the board and updates the constraints for every cell it opened.
+     *
+     * @param index linear cell index
+     * @return the {@link BoardEngine.Outcome} of the reveal
+     */
+    public BoardEngine.Outcome reveal(int index) {
+        BoardEngine.Outcome outcome = engine.reveal(index);
+        onReveal();
+        return outcome;
+    }
+
+    /**
+     * Updates the constraints for the cells opened by the most recent
+     * {@link BoardEngine#reveal(int)}. Call this after revealing a cell on
+     * the engine directly.
+     */
+    public void onReveal() {
+        for (int n = 0; n < engine.getLastOpenedCount(); n++) {
+            int index = engine.getLastOpened(n);
+            if (engine.isMine(index) || Bits.get(constraint, index)) continue;
+            if (!Bits.get(safe, index)) markSafe(index, false);
+            addConstraint(index);
+        }
+    }
+
+    /**
+     * Returns whether the solver has proven the given cell to be a mine.
+     *
+     * @param index linear cell index
+     * @return {@code true} if the cell is a known mine
+     */
+    public boolean isKnownMine(int index) {
+        return Bits.get(knownMine, index);
+    }
+
+    /**
+     * Returns whether the given cell is revealed or proven safe.
+     *
+     * @param index linear cell index
+     * @return {@code true} if the cell is known to be safe
+     */
+    public boolean isKnownSafe(int index) {
+        return Bits.get(safe, index);
+    }
+
+    /**
+     * Returns whether the given cell is a revealed number that still touches
+     * cells of unknown state.
+     *
+     * @param index linear cell index
+     * @return {@code true} if the cell is on the frontier
+     */
+    public boolean isFrontier(int index) {
+        return Bits.get(frontier, index);
+    }
+
+    /** Returns the number of cells proven to be mines. */
+    public int getKnownMineCount() {
+        return knownMineCount;
+    }
+
+    /** Returns the number of cells that are neither known safe nor known mines. */
+    public int getUnknownCount() {
+        return unknownCells;
+    }
+
+    /**
+     * Adds a revealed cell as a constraint, counting its unknown and
+     * known-mine neighbours.
+     */
+    private void addConstraint(int index) {
+        Bits.set(constraint, index);
+        int row = index / numCols;
+        int col = index - row * numCols;
+        int hidden = 0;
+        int mines = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                int n = r * numCols + c;
+                if (n == index) continue;
+                if (Bits.get(knownMine, n)) mines++;
+                else if (!Bits.get(safe, n)) hidden++;
+            }
+        }
+        unknown[index] = (byte) hidden;
+        mineNeighbours[index] = (byte) mines;
+        if (hidden > 0) {
+            Bits.set(frontier, index);
+            enqueue(index);
+        }
+    }
+
+    /**
+     * Records a cell as safe and updates its neighbouring constraints.
+     *
+     * @param index   linear cell index
+     * @param deduced {@code true} if the cell still has to be revealed
+     */
+    private void markSafe(int index, boolean deduced) {
+        Bits.set(safe, index);
+        unknownCells--;
+        if (deduced) safeMoves[safeTail++] = index;
+        updateNeighbours(index, false);
+    }
+
+    /**
+     * Records a cell as a mine and updates its neighbouring constraints.
+     */
+    private void markMine(int index) {
+        Bits.set(knownMine, index);
+        knownMineCount++;
+        unknownCells--;
+        updateNeighbours(index, true);
+    }
+
+    /**
+     * Decrements the unknown count of every constraint around a newly resolved cell
+     * and queues those constraints for another look.
+     */
+    private void updateNeighbours(int index, boolean mine) {
+        int row = index / numCols;
+        int col = index - row * numCols;
+        for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                int n = r * numCols + c;
+                if (n == index || !Bits.get(constraint, n)) continue;
+                unknown[n]--;
+                if (mine) mineNeighbours[n]++;
+                if (unknown[n] == 0) Bits.clear(frontier, n);
+                enqueue(n);
+            }
+        }
+    }
+
+    private void enqueue(int index) {
+        if (Bits.get(queued, index)) return;
+        Bits.set(queued, index);
+        work[(workHead + workSize++) % cellCount] = index;
+    }
+
+    /**
+     * Examines queued constraints until no rule produces a new deduction.
+     */
+    private void propagate() {
+        while (workSize > 0) {
+            int index = work[workHead];
+            workHead = (workHead + 1) % cellCount;
+            workSize--;
+            Bits.clear(queued, index);
+            if (Bits.get(frontier, index)) examine(index);
+        }
+    }
+
+    /**
+     * Applies the single-cell rule to a constraint, then the pair rule against
+     * every frontier cell within two rows and columns.
+     */
+    private void examine(int a) {
+        int countA = unknownNeighbours(a, cellsA);
+        int needA = engine.getAdjacentMines(a) - mineNeighbours[a];
+
+        if (needA == 0) {
+            for (int i = 0; i < countA; i++) markSafe(cellsA[i], true);
+            return;
+        }
+        if (needA == countA) {
+            for (int i = 0; i < countA; i++) markMine(cellsA[i]);
+            return;
+        }
+
+        int row = a / numCols;
+        int col = a - row * numCols;
+        for (int r = Math.max(0, row - 2); r <= Math.min(numRows - 1, row + 2); r++) {
+            for (int c = Math.max(0, col - 2); c <= Math.min(numCols - 1, col + 2); c++) {
+                int b = r * numCols + c;
+                if (b == a || !Bits.get(frontier, b)) continue;
+                if (applyPair(a, countA, needA, b)) return;
+            }
+        }
+    }
+
+    /**
+     * Applies the pair rule to constraints {@code a} and {@code b}.
+     *
+     * @return {@code true} if anything was deduced
+     */
+    private boolean applyPair(int a, int countA, int needA, int b) {
+        int countB = unknownNeighbours(b, cellsB);
+        int needB = engine.getAdjacentMines(b) - mineNeighbours[b];
+
+        int onlyACount = difference(cellsA, countA, cellsB, countB, onlyA);
+        int onlyBCount = difference(cellsB, countB, cellsA, countA, onlyB);
+        if (onlyACount + onlyBCount == 0 || onlyACount + onlyBCount == countA + countB) return false;
+
+        if (needB - needA == onlyBCount) {
+            for (int i = 0; i < onlyBCount; i++) markMine(onlyB[i]);
+            for (int i = 0; i < onlyACount; i++) markSafe(onlyA[i], true);
+            return true;
+        }
+        if (needA - needB == onlyACount) {
+            for (int i = 0; i < onlyACount; i++) markMine(onlyA[i]);
+            for (int i = 0; i < onlyBCount; i++) markSafe(onlyB[i], true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Uses the total mine count once local rules are exhausted: if every mine is
+     * known, all unknown cells are safe; if every unknown cell must be a mine,
+     * they are all mines.
+     *
+     * @return {@code true} if anything was deduced
+     */
+    private boolean applyMineCount() {
+        if (unknownCells == 0) return false;
+        int remaining = engine.getMineCount() - knownMineCount;
+        if (remaining != 0 && remaining != unknownCells) return false;
+
+        for (int i = 0; i < cellCount; i++) {
+            if (Bits.get(safe, i) || Bits.get(knownMine, i)) continue;
+            if (remaining == 0) markSafe(i, true);
+            else markMine(i);
+        }
+        return true;
+    }
+
+    /**
+     * Collects the unknown neighbours of a cell.
+     *
+     * @param index linear cell index
+     * @param out   buffer of at least 8 entries
+     * @return number of cells written to {@code out}
+     */
+    private int unknownNeighbours(int index, int[] out) {
+        int row = index / numCols;
+        int col = index - row * numCols;
+        int count = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(numRows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(numCols - 1, col + 1); c++) {
+                int n = r * numCols + c;
+                if (n != index && !Bits.get(safe, n) && !Bits.get(knownMine, n)) out[count++] = n;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the cells of {@code x} that are not in {@code y} to {@code out}.
+     */
+    private static int difference(int[] x, int xCount, int[] y, int yCount, int[] out) {
+        int count = 0;
+        outer:
+        for (int i = 0; i < xCount; i++) {
+            for (int j = 0; j < yCount; j++) {
+                if (x[i] == y[j]) continue outer;
+            }
+            out[count++] = x[i];
+        }
+        return count;
+    }
+}
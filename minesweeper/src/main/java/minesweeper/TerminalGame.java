@@ -0,0 +1,356 @@
+package minesweeper;
+
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The {@code TerminalGame} class is a text frontend for the headless {@link MineField},
+ * drawn with ANSI escape sequences, for terminals without a display.
+ * <p>
+ * The board is drawn once in full. After that, every move redraws only the cells it
+ * changed, taken from the engine's {@link BoardDelta}: the changed cells are drawn
+ * in screen order, runs of adjacent cells share one cursor move, and colors are
+ * only switched when they differ from the previous cell. Each frame is built in memory
+ * and sent to the terminal in a single write, so a move costs output proportional
+ * to the cells it changed, not to the board size.
+ *
+ * <p>
+ * Boards larger than the terminal are shown through a viewport, which can be moved
+ * with the {@code v} command; moving it redraws the visible cells. Commands are
+ * read a line at a time:
+ * <pre>
+ * r ROW COL   reveal a cell
+ * f ROW COL   toggle a flag
+ * c ROW COL   chord on a number
+ * v ROW COL   move the top-left corner of the viewport
+ * n           new game
+ * q           quit
+ * </pre>
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+public class TerminalGame {
+
+    /** Control Sequence Introducer. */
+    private static final String CSI = "\u001B[";
+
+    /** Terminal row of the column ruler, which shows the last digit of every column; the board starts on the row below. */
+    private static final int RULER_ROW = 2;
+
+    /** Terminal columns used by every cell: its glyph and a space. */
+    private static final int CELL_WIDTH = 2;
+
+    /** ANSI foreground colors of the numbers 0 to 8. */
+    private static final int[] NUMBER_COLORS = {39, 94, 32, 91, 34, 31, 36, 39, 90};
+
+    /** Pseudo-color meaning "not yet set in this frame". */
+    private static final int NO_COLOR = -1;
+
+    private final MineField field;
+    private final BoardEngine engine;
+    private final OutputStream out;
+
+    /** Number of board rows that fit on the screen. */
+    private final int viewRows;
+
+    /** Number of board columns that fit on the screen. */
+    private final int viewCols;
+
+    /** Width of the row labels, including one space. */
+    private final int labelWidth;
+
+    /** First board row of the viewport. */
+    private int top;
+
+    /** First board column of the viewport. */
+    private int left;
+
+    /** What every cell shows on the terminal, as a {@link BoardDelta} state code. */
+    private final byte[] shown;
+
+    /** Visible changed cells of a move, as {@code index << 8 | state}, sorted into screen order. */
+    private long[] changes = new long[256];
+
+    /** Frame being built. */
+    private final StringBuilder frame = new StringBuilder(4096);
+
+    /** Foreground color last written to {@link #frame}. */
+    private int color = NO_COLOR;
+
+    /** Bytes written by the last frame. */
+    private int lastFrameBytes;
+
+    /**
+     * Constructs a frontend for a minefield.
+     *
+     * @param field    the game to show
+     * @param termRows number of terminal lines
+     * @param termCols number of terminal columns
+     * @param out      the terminal
+     * @throws IllegalArgumentException if the terminal is too small to show a cell
+     */
+    public TerminalGame(MineField field, int termRows, int termCols, OutputStream out) {
+        this.field = field;
+        this.engine = field.getEngine();
+        this.out = out;
+        this.labelWidth = Integer.toString(engine.getRows() - 1).length() + 1;
+        this.viewRows = Math.min(engine.getRows(), termRows - RULER_ROW - 1);
+        this.viewCols = Math.min(engine.getCols(), (termCols - labelWidth) / CELL_WIDTH);
+        if (viewRows <= 0 || viewCols <= 0) {
+            throw new IllegalArgumentException("Terminal too small: " + termRows + "x" + termCols);
+        }
+        this.shown = new byte[engine.getCellCount()];
+    }
+
+    /** Returns the number of bytes written by the last frame. */
+    public int getLastFrameBytes() {
+        return lastFrameBytes;
+    }
+
+    /**
+     * Clears the screen and draws the status line, the rulers and every visible cell.
+     *
+     * @param status text of the status line
+     * @throws IOException if the terminal cannot be written
+     */
+    public void drawAll(String status) throws IOException {
+        frame.append(CSI).append("0m").append(CSI).append("2J");
+        color = NO_COLOR;
+        frame.append(CSI).append(RULER_ROW).append(';').append(labelWidth + 1).append('H');
+        for (int c = left; c < left + viewCols; c++) {
+            frame.append((char) ('0' + c % 10)).append(' ');
+        }
+        for (int r = top; r < top + viewRows; r++) {
+            frame.append(CSI).append(RULER_ROW + 1 + r - top).append(";1H");
+            String label = Integer.toString(r);
+            frame.append(" ".repeat(labelWidth - 1 - label.length())).append(label).append(' ');
+            for (int c = left; c < left + viewCols; c++) {
+                int index = engine.index(r, c);
+                shown[index] = stateOf(index);
+                appendCell(shown[index]);
+            }
+        }
+        flush(status);
+    }
+
+    /**
+     * Applies a move and redraws the cells it changed.
+     *
+     * @param action {@code 'r'} reveal, {@code 'f'} flag or {@code 'c'} chord
+     * @param row    row of the cell
+     * @param col    column of the cell
+     * @throws IOException if the terminal cannot be written
+     * @throws IllegalArgumentException if the action or cell is invalid
+     */
+    public void move(char action, int row, int col) throws IOException {
+        if (row < 0 || row >= engine.getRows() || col < 0 || col >= engine.getCols()) {
+            throw new IllegalArgumentException("Cell outside the board: " + row + " " + col);
+        }
+        switch (action) {
+            case 'r' -> field.checkMine(row, col);
+            case 'f' -> field.toggleFlag(row, col);
+            case 'c' -> field.chord(row, col);
+            default -> throw new IllegalArgumentException("Unknown move: " + action);
+        }
+        BoardDelta delta = engine.getLastDelta();
+        int count = 0;
+        for (int n = 0; n < delta.size(); n++) {
+            int index = delta.getIndex(n);
+            byte state = delta.getState(n);
+            if (shown[index] == state) continue;
+            shown[index] = state;
+
+            int r = index / engine.getCols() - top;
+            int c = index % engine.getCols() - left;
+            if (r < 0 || r >= viewRows || c < 0 || c >= viewCols) continue;
+            if (count == changes.length) changes = Arrays.copyOf(changes, count * 2);
+            changes[count++] = (long) index << 8 | state;
+        }
+        Arrays.sort(changes, 0, count);
+
+        int cursorRow = -1;
+        int cursorCol = -1;
+        for (int n = 0; n < count; n++) {
+            int index = (int) (changes[n] >>> 8);
+            byte state = (byte) changes[n];
+            int r = index / engine.getCols() - top;
+            int c = index % engine.getCols() - left;
+            if (r != cursorRow || c != cursorCol) {
+                frame.append(CSI).append(RULER_ROW + 1 + r).append(';').append(labelWidth + 1 + c * CELL_WIDTH).append('H');
+            }
+            appendCell(state);
+            cursorRow = r;
+            cursorCol = c + 1;
+        }
+        flush(status());
+    }
+
+    /**
+     * Moves the top-left corner of the viewport and redraws the screen.
+     *
+     * @param row first board row to show
+     * @param col first board column to show
+     * @throws IOException if the terminal cannot be written
+     */
+    public void scrollTo(int row, int col) throws IOException {
+        top = Math.max(0, Math.min(row, engine.getRows() - viewRows));
+        left = Math.max(0, Math.min(col, engine.getCols() - viewCols));
+        drawAll(status());
+    }
+
+    /**
+     * Starts a new game with a fresh layout and redraws the screen.
+     *
+     * @throws IOException if the terminal cannot be written
+     */
+    public void newGame() throws IOException {
+        field.resetField();
+        drawAll(status());
+    }
+
+    /**
+     * Reads commands until the input ends or {@code q} is entered.
+     *
+     * @param in the command input
+     * @throws IOException if the terminal cannot be read or written
+     */
+    public void run(BufferedReader in) throws IOException {
+        drawAll(status());
+        String line;
+        while ((line = in.readLine()) != null) {
+            String[] words = line.trim().split("\\s+");
+            if (words[0].isEmpty()) continue;
+            char command = words[0].charAt(0);
+            try {
+                switch (command) {
+                    case 'q' -> {
+                        frame.append(CSI).append("0m");
+                        flush("Bye");
+                        return;
+                    }
+                    case 'n' -> newGame();
+                    case 'v' -> scrollTo(Integer.parseInt(words[1]), Integer.parseInt(words[2]));
+                    default -> move(command, Integer.parseInt(words[1]), Integer.parseInt(words[2]));
+                }
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                flush("Commands: r|f|c ROW COL, v ROW COL, n, q");
+            }
+        }
+    }
+
+    /**
+     * Returns what a cell shows, as a {@link BoardDelta} state code.
+     */
+    private byte stateOf(int index) {
+        if (engine.isRevealed(index) && !engine.isMine(index)) return (byte) engine.getAdjacentMines(index);
+        if (engine.isGameOver() && engine.isMine(index)) return BoardDelta.MINE;
+        return engine.isFlagged(index) ? BoardDelta.FLAGGED : BoardDelta.HIDDEN;
+    }
+
+    /**
+     * Appends one cell and the space after it, switching color only if needed.
+     */
+    private void appendCell(byte state) {
+        int cellColor;
+        char glyph;
+        switch (state) {
+            case BoardDelta.MINE -> {
+                cellColor = 91;
+                glyph = '*';
+            }
+            case BoardDelta.FLAGGED -> {
+                cellColor = 93;
+                glyph = 'F';
+            }
+            case BoardDelta.HIDDEN -> {
+                cellColor = 90;
+                glyph = '.';
+            }
+            default -> {
+                cellColor = NUMBER_COLORS[state];
+                glyph = state == 0 ? ' ' : (char) ('0' + state);
+            }
+        }
+        if (cellColor != color) {
+            frame.append(CSI).append(cellColor).append('m');
+            color = cellColor;
+        }
+        frame.append(glyph).append(' ');
+    }
+
+    /**
+     * Returns the status line for the current game.
+     */
+    private String status() {
+        String state = engine.isWon() ? "Bravo! Minefield cleared!"
+                : engine.isGameOver() ? "GAME OVER!"
+                : (engine.getMineCount() - engine.getFlagCount()) + " mines to find";
+        return String.format("Minesweeper %dx%d, rows %d-%d, cols %d-%d: %s", engine.getRows(), engine.getCols(),
+                top, top + viewRows - 1, left, left + viewCols - 1, state);
+    }
+
+    /**
+     * Finishes the frame with the status line and a cursor on the prompt line, and
+     * writes it to the terminal in one call.
+     */
+    private void flush(String status) throws IOException {
+        if (color != NO_COLOR && color != 39) frame.append(CSI).append("39m");
+        color = NO_COLOR;
+        frame.append(CSI).append("1;1H").append(CSI).append("2K").append(status);
+        frame.append(CSI).append(RULER_ROW + 1 + viewRows).append(";1H").append(CSI).append("2K").append("> ");
+
+        byte[] bytes = frame.toString().getBytes(StandardCharsets.UTF_8);
+        frame.setLength(0);
+        out.write(bytes);
+        out.flush();
+        lastFrameBytes = bytes.length;
+    }
+
+    /**
+     * Plays in the terminal.
+     * <p>
+     * Usage: {@code TerminalGame [rows cols mines] [seed]}. The terminal size is taken
+     * from the {@code LINES} and {@code COLUMNS} environment variables, or 24x80.
+     *
+     * @param args command-line arguments
+     * @throws IOException if the terminal cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        int rows = args.length >= 3 ? Integer.parseInt(args[0]) : 9;
+        int cols = args.length >= 3 ? Integer.parseInt(args[1]) : 9;
+        int mines = args.length >= 3 ? Integer.parseInt(args[2]) : 10;
+        MineField field = args.length >= 4
+                ? new MineField(rows, cols, mines, Long.parseLong(args[3]))
+                : new MineField(rows, cols, mines);
+
+        int termRows = environmentInt("LINES", 24);
+        int termCols = environmentInt("COLUMNS", 80);
+        OutputStream out = new FileOutputStream(FileDescriptor.out);
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        new TerminalGame(field, termRows, termCols, out).run(in);
+    }
+
+    /**
+     * Reads a positive integer from an environment variable.
+     */
+    private static int environmentInt(String name, int fallback) {
+        try {
+            String value = System.getenv(name);
+            int n = value == null ? fallback : Integer.parseInt(value.trim());
+            return n > 0 ? n : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
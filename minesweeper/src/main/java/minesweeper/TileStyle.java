@@ -0,0 +1,122 @@
+package minesweeper;
+
+import java.awt.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code TileStyle} class is the shared registry of colors, fonts and glyphs
+ * used to draw the board.
+ * <p>
+ * All values are immutable and created once, so views never allocate a
+ * {@link Color} or {@link Font} while revealing cells or painting. Glyph fonts
+ * depend on the tile size and are cached per pixel size.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-16
+ */
+final class TileStyle {
+
+    /** Background color of hidden cells. */
+    static final Color HIDDEN_COLOR = Color.LIGHT_GRAY;
+
+    /** Background color of revealed cells. */
+    static final Color OPEN_COLOR = Color.WHITE;
+
+    /** Background color of a hidden cell suggested by the hint button or the no-guess generator. */
+    static final Color HINT_COLOR = new Color(144, 238, 144);
+
+    /** Highlight color for the top-left edge of hidden cells. */
+    static final Color HIGHLIGHT_COLOR = new Color(240, 240, 240);
+
+    /** Shadow color for the bottom-right edge of hidden cells. */
+    static final Color SHADOW_COLOR = Color.GRAY;
+
+    /** Color of the grid lines between revealed cells. */
+    static final Color GRID_COLOR = new Color(200, 200, 200);
+
+    /** Font of the status label. */
+    static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 25);
+
+    /** Font of the buttons next to the status label. */
+    static final Font BUTTON_FONT = new Font("Arial", Font.PLAIN, 14);
+
+    /** Font of the metrics overlay. */
+    static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
+    /** Translucent background of the metrics overlay. */
+    static final Color OVERLAY_COLOR = new Color(255, 255, 255, 220);
+
+    /** Text shown on a mine. */
+    static final String MINE = "\uD83D\uDCA3"; // 💣
+
+    /** Text shown on a flag. */
+    static final String FLAG = "\uD83D\uDEA9"; // 🚩
+
+    /** Colors of the numbers 0 to 8. */
+    private static final Color[] NUMBER_COLORS = {
+            Color.BLACK,
+            Color.BLUE,
+            new Color(0, 128, 0),
+            Color.RED,
+            new Color(0, 0, 128),
+            new Color(128, 0, 0),
+            new Color(64, 224, 208),
+            Color.BLACK,
+            Color.GRAY
+    };
+
+    /** Number of steps of the probability heat map. */
+    private static final int HEAT_STEPS = 20;
+
+    /** Translucent overlays of the heat map, from green (safe) to red (mine). */
+    private static final Color[] HEAT_COLORS = new Color[HEAT_STEPS + 1];
+
+    static {
+        for (int i = 0; i <= HEAT_STEPS; i++) {
+            float p = (float) i / HEAT_STEPS;
+            HEAT_COLORS[i] = new Color(Math.round(255 * Math.min(1, 2 * p)),
+                    Math.round(255 * Math.min(1, 2 * (1 - p))), 0, 110);
+        }
+    }
+
+    /** Glyph fonts by pixel size. */
+    private static final ConcurrentHashMap<Integer, Font> GLYPH_FONTS = new ConcurrentHashMap<>();
+
+    private TileStyle() {
+    }
+
+    /**
+     * Returns the color associated with the given number of adjacent mines.
+     *
+     * @param n number of adjacent mines (0–8)
+     * @return the corresponding {@link Color}
+     */
+    static Color numberColor(int n) {
+        return n >= 0 && n < NUMBER_COLORS.length ? NUMBER_COLORS[n] : Color.BLACK;
+    }
+
+    /**
+     * Returns the heat map overlay for the given mine probability.
+     *
+     * @param probability probability that the cell is a mine, from 0 to 1
+     * @return a shared translucent color
+     */
+    static Color heatColor(float probability) {
+        int step = Math.round(probability * HEAT_STEPS);
+        return HEAT_COLORS[Math.max(0, Math.min(HEAT_STEPS, step))];
+    }
+
+    /**
+     * Returns the font used for numbers, flags and mines at the given pixel size.
+     *
+     * @param size font size in points
+     * @return a shared font instance
+     */
+    static Font glyphFont(int size) {
+        return GLYPH_FONTS.computeIfAbsent(size, s -> new Font("Segoe UI Emoji", Font.PLAIN, s));
+    }
+}
@@ -0,0 +1,76 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that a view which only ever applies the {@link BoardDelta} of each move,
+ * after a round trip through a buffer, always shows the state of the engine.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class BoardDeltaTest {
+
+    @Test
+    void viewRebuiltFromDeltasMatchesEngine() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        BoardDelta copy = new BoardDelta(30);
+        for (long seed = 0; seed < 300; seed++) {
+            BoardEngine engine = new BoardEngine(16, 30, 99, seed);
+            engine.setFirstClickSafe(seed % 2 == 0);
+            byte[] view = new byte[engine.getCellCount()];
+            Arrays.fill(view, BoardDelta.HIDDEN);
+
+            Random random = new Random(seed);
+            while (!engine.isGameOver()) {
+                int index = random.nextInt(engine.getCellCount());
+                int kind = random.nextInt(6);
+                boolean changed = kind == 0 ? engine.toggleFlag(index)
+                        : kind == 1 ? engine.chord(index) != BoardEngine.Outcome.IGNORED
+                        : engine.reveal(index) != BoardEngine.Outcome.IGNORED;
+                BoardDelta delta = engine.getLastDelta();
+                if (!changed) {
+                    assertTrue(delta.isEmpty());
+                    continue;
+                }
+
+                buffer.clear();
+                delta.writeTo(buffer);
+                buffer.flip();
+                copy.readFrom(buffer);
+                assertEquals(delta.size(), copy.size());
+                assertEquals(delta.getMinRow(), copy.getMinRow());
+                assertEquals(delta.getMaxCol(), copy.getMaxCol());
+                for (int n = 0; n < copy.size(); n++) {
+                    int cell = copy.getIndex(n);
+                    assertEquals(delta.getIndex(n), cell);
+                    assertTrue(engine.rowOf(cell) >= delta.getMinRow() && engine.rowOf(cell) <= delta.getMaxRow());
+                    assertTrue(engine.colOf(cell) >= delta.getMinCol() && engine.colOf(cell) <= delta.getMaxCol());
+                    view[cell] = copy.getState(n);
+                }
+            }
+            for (int i = 0; i < engine.getCellCount(); i++) {
+                assertEquals(expectedState(engine, i), view[i], "seed " + seed + " cell " + i);
+            }
+        }
+    }
+
+    /** Returns the state a view shows for a cell of a finished game. */
+    private static byte expectedState(BoardEngine engine, int index) {
+        if (engine.isMine(index)) return BoardDelta.MINE;
+        if (engine.isRevealed(index)) return (byte) engine.getAdjacentMines(index);
+        if (engine.isFlagged(index)) return BoardDelta.FLAGGED;
+        return BoardDelta.HIDDEN;
+    }
+}
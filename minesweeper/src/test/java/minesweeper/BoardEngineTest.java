@@ -0,0 +1,467 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the iterative reveal of {@link BoardEngine} against a small recursive
+ * reference, the way the Swing view revealed cells before the engine existed.
+ * <p>
+ * Both play the same seeded mine layout with the same random reveals and flags;
+ * after every move the opened cells, the revealed and flagged state of every cell,
+ * the counters and the game state must agree.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class BoardEngineTest {
+
+    /**
+     * Recursive reference: opens a cell and, if it has no adjacent mines, every
+     * unopened, unflagged neighbour, just like the original {@code checkMine}.
+     */
+    private static final class RecursiveBoard {
+
+        final int rows;
+        final int cols;
+        final boolean[] mines;
+        final boolean[] revealed;
+        final boolean[] flagged;
+        final boolean[] openedByMove;
+        int revealedCount;
+        int openedCount;
+        boolean gameOver;
+        boolean won;
+
+        RecursiveBoard(BoardEngine engine) {
+            rows = engine.getRows();
+            cols = engine.getCols();
+            int cells = rows * cols;
+            mines = new boolean[cells];
+            for (int i = 0; i < cells; i++) mines[i] = engine.isMine(i);
+            revealed = new boolean[cells];
+            flagged = new boolean[cells];
+            openedByMove = new boolean[cells];
+        }
+
+        int safeCells() {
+            int safe = 0;
+            for (boolean mine : mines) if (!mine) safe++;
+            return safe;
+        }
+
+        int adjacent(int index) {
+            int count = 0;
+            int row = index / cols;
+            int col = index % cols;
+            for (int r = row - 1; r <= row + 1; r++) {
+                for (int c = col - 1; c <= col + 1; c++) {
+                    if (r < 0 || r >= rows || c < 0 || c >= cols || (r == row && c == col)) continue;
+                    if (mines[r * cols + c]) count++;
+                }
+            }
+            return count;
+        }
+
+        BoardEngine.Outcome reveal(int index) {
+            Arrays.fill(openedByMove, false);
+            openedCount = 0;
+            if (gameOver || revealed[index] || flagged[index]) return BoardEngine.Outcome.IGNORED;
+            if (mines[index]) {
+                revealed[index] = true;
+                openedByMove[index] = true;
+                openedCount = 1;
+                gameOver = true;
+                return BoardEngine.Outcome.MINE;
+            }
+            open(index / cols, index % cols);
+            if (revealedCount == safeCells()) {
+                gameOver = true;
+                won = true;
+                return BoardEngine.Outcome.WON;
+            }
+            return BoardEngine.Outcome.SAFE;
+        }
+
+        void open(int row, int col) {
+            if (row < 0 || row >= rows || col < 0 || col >= cols) return;
+            int index = row * cols + col;
+            if (revealed[index] || flagged[index]) return;
+            revealed[index] = true;
+            openedByMove[index] = true;
+            openedCount++;
+            revealedCount++;
+            if (adjacent(index) != 0) return;
+            for (int r = row - 1; r <= row + 1; r++) {
+                for (int c = col - 1; c <= col + 1; c++) {
+                    if (r != row || c != col) open(r, c);
+                }
+            }
+        }
+
+        boolean toggleFlag(int index) {
+            if (gameOver || revealed[index]) return false;
+            flagged[index] = !flagged[index];
+            return true;
+        }
+
+        int flagsAround(int index) {
+            int count = 0;
+            int row = index / cols;
+            int col = index % cols;
+            for (int r = row - 1; r <= row + 1; r++) {
+                for (int c = col - 1; c <= col + 1; c++) {
+                    if (r < 0 || r >= rows || c < 0 || c >= cols || (r == row && c == col)) continue;
+                    if (flagged[r * cols + c]) count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Chords neighbour by neighbour: an unflagged mine among the neighbours loses
+         * the game, otherwise every neighbour is opened like a reveal.
+         */
+        BoardEngine.Outcome chord(int index) {
+            Arrays.fill(openedByMove, false);
+            openedCount = 0;
+            if (gameOver || !revealed[index] || adjacent(index) == 0 || flagsAround(index) != adjacent(index)) {
+                return BoardEngine.Outcome.IGNORED;
+            }
+            int row = index / cols;
+            int col = index % cols;
+            for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                    int n = r * cols + c;
+                    if (mines[n] && !flagged[n]) return reveal(n);
+                }
+            }
+            for (int r = row - 1; r <= row + 1; r++) {
+                for (int c = col - 1; c <= col + 1; c++) open(r, c);
+            }
+            if (openedCount == 0) return BoardEngine.Outcome.IGNORED;
+            if (revealedCount == safeCells()) {
+                gameOver = true;
+                won = true;
+                return BoardEngine.Outcome.WON;
+            }
+            return BoardEngine.Outcome.SAFE;
+        }
+    }
+
+    @ParameterizedTest(name = "{0}x{1} with {2} mines")
+    @CsvSource({
+            "9, 9, 10",
+            "16, 16, 40",
+            "16, 30, 99",
+            "30, 30, 20",
+            "1, 40, 6",
+            "40, 1, 6",
+            "1, 1, 0",
+            "1, 2, 1",
+            "8, 8, 0",
+            "8, 8, 63",
+            "1, 30, 29",
+            "5, 5, 24",
+    })
+    void randomGamesMatchRecursiveReveal(int rows, int cols, int mines) {
+        Random random = new Random(rows * 1000L + cols * 10L + mines);
+        for (int game = 0; game < 200; game++) {
+            BoardEngine engine = new BoardEngine(rows, cols, mines, random.nextLong());
+            RecursiveBoard reference = new RecursiveBoard(engine);
+            int cells = rows * cols;
+
+            while (!engine.isGameOver()) {
+                int index = random.nextInt(cells);
+                if (random.nextInt(4) == 0) {
+                    assertEquals(reference.toggleFlag(index), engine.toggleFlag(index));
+                } else {
+                    BoardEngine.Outcome expected = reference.reveal(index);
+                    assertEquals(expected, engine.reveal(index), "outcome of reveal " + index);
+                    assertOpened(reference, engine);
+                }
+                assertSameState(reference, engine);
+            }
+        }
+    }
+
+    @Test
+    void cornersAndEdgesOpenTheWholeEmptyBoard() {
+        int[][] sizes = {{1, 1}, {1, 7}, {7, 1}, {2, 2}, {5, 9}};
+        for (int[] size : sizes) {
+            int rows = size[0];
+            int cols = size[1];
+            int[] starts = {0, cols - 1, (rows - 1) * cols, rows * cols - 1, (rows / 2) * cols};
+            for (int start : starts) {
+                BoardEngine engine = new BoardEngine(rows, cols, 0, 1L);
+                assertEquals(BoardEngine.Outcome.WON, engine.reveal(start));
+                assertEquals(rows * cols, engine.getLastOpenedCount());
+                assertEquals(start, engine.getLastOpened(0));
+                assertTrue(engine.isWon());
+            }
+        }
+    }
+
+    @Test
+    void allButOneMineIsWonOrLostInOneMove() {
+        for (long seed = 0; seed < 50; seed++) {
+            BoardEngine engine = new BoardEngine(4, 6, 23, seed);
+            int safe = -1;
+            for (int i = 0; i < engine.getCellCount(); i++) {
+                if (!engine.isMine(i)) safe = i;
+            }
+            assertTrue(safe >= 0);
+
+            BoardEngine lost = new BoardEngine(4, 6, 23, seed);
+            int mine = safe == 0 ? 1 : 0;
+            assertEquals(BoardEngine.Outcome.MINE, lost.reveal(mine));
+            assertTrue(lost.isGameOver());
+            assertFalse(lost.isWon());
+            assertEquals(BoardEngine.Outcome.IGNORED, lost.reveal(safe));
+
+            assertEquals(BoardEngine.Outcome.WON, engine.reveal(safe));
+            assertEquals(1, engine.getLastOpenedCount());
+            assertTrue(engine.isWon());
+        }
+    }
+
+    @Test
+    void flagsStopTheFloodFill() {
+        BoardEngine engine = new BoardEngine(1, 10, 0, 1L);
+        assertTrue(engine.toggleFlag(5));
+        assertEquals(BoardEngine.Outcome.SAFE, engine.reveal(0));
+        assertEquals(5, engine.getLastOpenedCount());
+        assertFalse(engine.isRevealed(6));
+        assertFalse(engine.toggleFlag(0));
+
+        assertTrue(engine.toggleFlag(5));
+        assertEquals(BoardEngine.Outcome.WON, engine.reveal(5));
+        assertEquals(5, engine.getLastOpenedCount());
+    }
+
+    @Test
+    void chordsMatchNeighbourByNeighbourReference() {
+        Random random = new Random(5);
+        int chords = 0;
+        for (long seed = 0; seed < 300; seed++) {
+            BoardEngine engine = new BoardEngine(16, 30, 99, seed);
+            RecursiveBoard reference = new RecursiveBoard(engine);
+            for (int move = 0; move < 400 && !engine.isGameOver(); move++) {
+                int index = random.nextInt(engine.getCellCount());
+                switch (random.nextInt(3)) {
+                    case 0 -> {
+                        // Mostly avoid mines, so games last long enough to chord.
+                        if (engine.isMine(index) && random.nextInt(50) != 0) continue;
+                        assertEquals(reference.reveal(index), engine.reveal(index));
+                    }
+                    case 1 -> {
+                        if (!engine.isMine(index) && random.nextInt(10) != 0) continue;
+                        assertEquals(reference.toggleFlag(index), engine.toggleFlag(index));
+                    }
+                    default -> {
+                        if (!engine.isRevealed(index)) continue;
+                        // Flag the hidden neighbours, correctly most of the time.
+                        boolean honest = random.nextInt(5) != 0;
+                        for (int r = engine.rowOf(index) - 1; r <= engine.rowOf(index) + 1; r++) {
+                            for (int c = engine.colOf(index) - 1; c <= engine.colOf(index) + 1; c++) {
+                                if (r < 0 || r >= 16 || c < 0 || c >= 30) continue;
+                                int n = engine.index(r, c);
+                                if (engine.isRevealed(n) || engine.isFlagged(n)) continue;
+                                if (honest ? engine.isMine(n) : random.nextInt(4) == 0) {
+                                    assertEquals(reference.toggleFlag(n), engine.toggleFlag(n));
+                                }
+                            }
+                        }
+                        assertEquals(reference.flagsAround(index), engine.getAdjacentFlags(index));
+                        BoardEngine.Outcome expected = reference.chord(index);
+                        assertEquals(expected, engine.chord(index), "outcome of chord " + index);
+                        assertOpened(reference, engine);
+                        if (expected != BoardEngine.Outcome.IGNORED) chords++;
+                    }
+                }
+                assertSameState(reference, engine);
+            }
+        }
+        assertTrue(chords > 1000);
+    }
+
+    @Test
+    void resetMatchesFreshEngine() {
+        Random random = new Random(42);
+        int[][] sizes = {{9, 9, 10}, {16, 30, 99}, {64, 65, 500}, {1, 70, 5}, {100, 100, 50}, {300, 200, 90}};
+        for (int[] size : sizes) {
+            BoardEngine engine = new BoardEngine(size[0], size[1], size[2], 7L);
+            for (int game = 0; game < 100; game++) {
+                play(engine, random, random.nextInt(60));
+                long seed = random.nextLong();
+                engine.reset(seed);
+                BoardEngine fresh = new BoardEngine(size[0], size[1], size[2], seed);
+                assertSameBoard(fresh, engine);
+
+                // Both keep playing alike, including words last written in older generations.
+                long moves = random.nextLong();
+                play(engine, new Random(moves), 40);
+                play(fresh, new Random(moves), 40);
+                assertSameBoard(fresh, engine);
+            }
+        }
+    }
+
+    @Test
+    void firstClickSafeRelocatesMinesAroundTheClick() {
+        Random random = new Random(1);
+        int[][] sizes = {{9, 9, 10}, {16, 30, 99}, {16, 30, 471}, {16, 30, 472}, {16, 30, 479},
+                {1, 1, 0}, {1, 1, 1}, {3, 3, 8}, {1, 50, 40}, {50, 1, 49}, {30, 30, 800}, {100, 100, 9900}};
+        for (int[] size : sizes) {
+            int rows = size[0];
+            int cols = size[1];
+            for (int game = 0; game < 100; game++) {
+                long seed = random.nextLong();
+                BoardEngine engine = new BoardEngine(rows, cols, size[2], seed);
+                engine.setFirstClickSafe(true);
+                int click = random.nextInt(rows * cols);
+                BoardEngine.Outcome outcome = engine.reveal(click);
+                assertConsistent(engine);
+
+                BoardEngine again = new BoardEngine(rows, cols, size[2], seed);
+                again.setFirstClickSafe(true);
+                again.reveal(click);
+                assertSameBoard(engine, again);
+
+                int row = click / cols;
+                int col = click % cols;
+                int area = (Math.min(rows - 1, row + 1) - Math.max(0, row - 1) + 1)
+                        * (Math.min(cols - 1, col + 1) - Math.max(0, col - 1) + 1);
+                int free = rows * cols - size[2];
+                if (free >= area) {
+                    for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                        for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                            assertFalse(engine.isMine(r * cols + c), "mine next to the first click");
+                        }
+                    }
+                    assertEquals(0, engine.getAdjacentMines(click));
+                } else if (free > 0) {
+                    assertFalse(outcome == BoardEngine.Outcome.MINE, "first click hit a mine");
+                }
+
+                // A loss shows every mine, wherever it was moved.
+                int mine = -1;
+                for (int i = 0; i < rows * cols && mine < 0; i++) {
+                    if (engine.isMine(i) && !engine.isRevealed(i)) mine = i;
+                }
+                if (!engine.isGameOver() && mine >= 0) {
+                    engine.reveal(mine);
+                    BoardDelta delta = engine.getLastDelta();
+                    int shown = 0;
+                    for (int k = 0; k < delta.size(); k++) {
+                        if (delta.getState(k) != BoardDelta.MINE) continue;
+                        assertTrue(engine.isMine(delta.getIndex(k)));
+                        shown++;
+                    }
+                    assertEquals(engine.getMineCount(), shown);
+                }
+
+                long next = random.nextLong();
+                engine.reset(next);
+                assertSameBoard(new BoardEngine(rows, cols, size[2], next), engine);
+            }
+        }
+    }
+
+    /** Asserts that the mine list and the adjacency counts agree with the mines. */
+    private static void assertConsistent(BoardEngine engine) {
+        int rows = engine.getRows();
+        int cols = engine.getCols();
+        int mines = 0;
+        for (int i = 0; i < engine.getCellCount(); i++) {
+            if (engine.isMine(i)) mines++;
+            int around = 0;
+            for (int r = Math.max(0, i / cols - 1); r <= Math.min(rows - 1, i / cols + 1); r++) {
+                for (int c = Math.max(0, i % cols - 1); c <= Math.min(cols - 1, i % cols + 1); c++) {
+                    if (r * cols + c != i && engine.isMine(r * cols + c)) around++;
+                }
+            }
+            assertEquals(around, engine.getAdjacentMines(i), "adjacent " + i);
+        }
+        assertEquals(engine.getMineCount(), mines);
+        boolean[] listed = new boolean[engine.getCellCount()];
+        for (int n = 0; n < mines; n++) {
+            int mine = engine.getMineIndex(n);
+            assertTrue(engine.isMine(mine) && !listed[mine], "mine list entry " + n);
+            listed[mine] = true;
+        }
+    }
+
+    /** Plays random reveals, chords and flags. */
+    private static void play(BoardEngine engine, Random random, int moves) {
+        for (int move = 0; move < moves; move++) {
+            int index = random.nextInt(engine.getCellCount());
+            switch (random.nextInt(4)) {
+                case 0 -> engine.toggleFlag(index);
+                case 1 -> engine.chord(index);
+                default -> engine.reveal(index);
+            }
+        }
+    }
+
+    /** Asserts that two boards agree cell for cell, including their saved bitsets. */
+    private static void assertSameBoard(BoardEngine expected, BoardEngine actual) {
+        for (int i = 0; i < expected.getCellCount(); i++) {
+            assertEquals(expected.isMine(i), actual.isMine(i), "mine " + i);
+            assertEquals(expected.isRevealed(i), actual.isRevealed(i), "revealed " + i);
+            assertEquals(expected.isFlagged(i), actual.isFlagged(i), "flagged " + i);
+            assertEquals(expected.getAdjacentMines(i), actual.getAdjacentMines(i), "adjacent " + i);
+            assertEquals(expected.getAdjacentFlags(i), actual.getAdjacentFlags(i), "flags around " + i);
+        }
+        assertEquals(expected.getRevealedCount(), actual.getRevealedCount());
+        assertEquals(expected.getFlagCount(), actual.getFlagCount());
+        assertEquals(expected.isGameOver(), actual.isGameOver());
+        assertEquals(expected.isWon(), actual.isWon());
+
+        LongBuffer expectedBits = LongBuffer.allocate(3 * Bits.words(expected.getCellCount()));
+        LongBuffer actualBits = LongBuffer.allocate(expectedBits.capacity());
+        expected.writeBits(expectedBits);
+        actual.writeBits(actualBits);
+        assertTrue(Arrays.equals(expectedBits.array(), actualBits.array()), "saved bitsets");
+    }
+
+    /** Asserts that the engine opened exactly the cells the reference opened. */
+    private static void assertOpened(RecursiveBoard reference, BoardEngine engine) {
+        assertEquals(reference.openedCount, engine.getLastOpenedCount(), "number of opened cells");
+        boolean[] opened = new boolean[reference.revealed.length];
+        for (int n = 0; n < engine.getLastOpenedCount(); n++) {
+            int index = engine.getLastOpened(n);
+            assertFalse(opened[index], "cell opened twice: " + index);
+            opened[index] = true;
+        }
+        assertTrue(Arrays.equals(reference.openedByMove, opened), "opened cells");
+    }
+
+    /** Asserts that every cell, the counters and the game state agree. */
+    private static void assertSameState(RecursiveBoard reference, BoardEngine engine) {
+        int flags = 0;
+        for (int i = 0; i < reference.revealed.length; i++) {
+            assertEquals(reference.revealed[i], engine.isRevealed(i), "revealed " + i);
+            assertEquals(reference.flagged[i], engine.isFlagged(i), "flagged " + i);
+            if (!reference.mines[i]) assertEquals(reference.adjacent(i), engine.getAdjacentMines(i), "count " + i);
+            if (reference.flagged[i]) flags++;
+        }
+        assertEquals(reference.revealedCount, engine.getRevealedCount());
+        assertEquals(flags, engine.getFlagCount());
+        assertEquals(reference.gameOver, engine.isGameOver());
+        assertEquals(reference.won, engine.isWon());
+    }
+}
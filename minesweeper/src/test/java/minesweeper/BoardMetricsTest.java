@@ -0,0 +1,203 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the islands and ZiNi of {@link BoardMetrics}: the ZiNi sweep is replayed on
+ * a real engine, which must win in exactly the estimated number of clicks, and
+ * islands are counted by a breadth-first search. Also checks that a
+ * {@link RatingIndex} written by {@link BoardRater} holds those ratings.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class BoardMetricsTest {
+
+    private static final int[][] SIZES = {
+            {9, 9, 10}, {16, 16, 40}, {16, 30, 99}, {30, 30, 100}, {8, 8, 0}, {5, 5, 24}, {1, 40, 5}};
+
+    @Test
+    void ziNiReplayWinsInEstimatedClicks() {
+        BoardMetrics metrics = new BoardMetrics();
+        for (int[] size : SIZES) {
+            for (long seed = 0; seed < 60; seed++) {
+                BoardEngine engine = new BoardEngine(size[0], size[1], size[2], seed);
+                metrics.rate(engine);
+                int clicks = replayZiNi(engine);
+                String board = size[0] + "x" + size[1] + " seed " + seed;
+                assertTrue(engine.isWon(), board);
+                assertEquals(metrics.getZiNi(), clicks, board);
+                assertTrue(metrics.getZiNi() <= metrics.getThreeBV(), board);
+            }
+        }
+    }
+
+    @Test
+    void islandsMatchSearch() {
+        BoardMetrics metrics = new BoardMetrics();
+        for (int[] size : SIZES) {
+            for (long seed = 0; seed < 60; seed++) {
+                BoardEngine engine = new BoardEngine(size[0], size[1], size[2], seed);
+                metrics.rate(engine);
+                int islands = 0;
+                boolean[] seen = new boolean[engine.getCellCount()];
+                ArrayDeque<Integer> queue = new ArrayDeque<>();
+                for (int i = 0; i < seen.length; i++) {
+                    if (seen[i] || !isIsolated(engine, i)) continue;
+                    islands++;
+                    seen[i] = true;
+                    queue.add(i);
+                    while (!queue.isEmpty()) {
+                        for (int n : neighbours(engine, queue.poll())) {
+                            if (!seen[n] && isIsolated(engine, n)) {
+                                seen[n] = true;
+                                queue.add(n);
+                            }
+                        }
+                    }
+                }
+                assertEquals(islands, metrics.getIslands(), size[0] + "x" + size[1] + " seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void ratingIndexHoldsRatedBoards(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve(RatingIndex.fileName(16, 30, 99));
+        new BoardRater(16, 30, 99, 3).run(3000, 5L, path);
+        RatingIndex index = new RatingIndex(path);
+        assertEquals(3000, index.getSize());
+
+        BoardMetrics metrics = new BoardMetrics();
+        Set<Long> seeds = new HashSet<>();
+        for (int n = 0; n < index.getSize(); n += 37) {
+            BoardEngine engine = new BoardEngine(16, 30, 99, index.getSeed(n));
+            metrics.rate(engine);
+            assertEquals(metrics.getThreeBV(), index.getThreeBV(n));
+            assertEquals(metrics.getZiNi(), index.getZiNi(n));
+            assertEquals(metrics.getOpenings(), index.getOpenings(n));
+            assertEquals(metrics.getIslands(), index.getIslands(n));
+            assertTrue(seeds.add(index.getSeed(n)));
+        }
+
+        Random random = new Random(4);
+        int lowCut = index.getPercentileThreeBV(100 / 3.0);
+        int highCut = index.getPercentileThreeBV(200 / 3.0);
+        assertNotEquals(lowCut, index.getPercentileThreeBV(100));
+        for (int n = 0; n < 200; n++) {
+            assertTrue(threeBV(index.pickSeed(RatingIndex.Band.LOW, random)) <= lowCut);
+            assertTrue(threeBV(index.pickSeed(RatingIndex.Band.HIGH, random)) >= highCut);
+        }
+    }
+
+    /**
+     * Plays a board the way ZiNi counts clicks: repeatedly reveals, flags around and
+     * chords the numbered cell that opens the most per click, then clicks the
+     * openings and cells that are left. Returns the number of clicks.
+     */
+    private static int replayZiNi(BoardEngine engine) {
+        int clicks = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < engine.getCellCount(); i++) {
+                if (engine.isMine(i) || engine.getAdjacentMines(i) == 0) continue;
+                boolean hidden = !engine.isRevealed(i);
+                int cost = hidden ? 2 : 1;
+                int gain = hidden && isIsolated(engine, i) ? 1 : 0;
+                Set<Integer> openings = new HashSet<>();
+                for (int n : neighbours(engine, i)) {
+                    if (engine.isMine(n)) {
+                        if (!engine.isFlagged(n)) cost++;
+                    } else if (n != i && !engine.isRevealed(n)) {
+                        if (engine.getAdjacentMines(n) == 0) openings.add(openingOf(engine, n));
+                        else if (isIsolated(engine, n)) gain++;
+                    }
+                }
+                gain += openings.size();
+                if (gain == 0 || gain < cost) continue;
+
+                changed = true;
+                clicks += cost;
+                if (hidden) engine.reveal(i);
+                for (int n : neighbours(engine, i)) {
+                    if (engine.isMine(n) && !engine.isFlagged(n)) engine.toggleFlag(n);
+                }
+                assertNotEquals(BoardEngine.Outcome.MINE, engine.chord(i));
+            }
+        }
+        for (int i = 0; i < engine.getCellCount(); i++) {
+            if (!engine.isMine(i) && !engine.isRevealed(i) && engine.getAdjacentMines(i) == 0) {
+                engine.reveal(i);
+                clicks++;
+            }
+        }
+        for (int i = 0; i < engine.getCellCount(); i++) {
+            if (!engine.isMine(i) && !engine.isRevealed(i)) {
+                assertTrue(isIsolated(engine, i), "cell " + i + " borders an opening");
+                engine.reveal(i);
+                clicks++;
+            }
+        }
+        return clicks;
+    }
+
+    /** Returns whether a cell is a numbered cell with no zero cell around it. */
+    private static boolean isIsolated(BoardEngine engine, int index) {
+        if (engine.isMine(index) || engine.getAdjacentMines(index) == 0) return false;
+        for (int n : neighbours(engine, index)) {
+            if (!engine.isMine(n) && engine.getAdjacentMines(n) == 0) return false;
+        }
+        return true;
+    }
+
+    /** Returns the smallest index of the zero cells connected to a zero cell. */
+    private static int openingOf(BoardEngine engine, int index) {
+        Set<Integer> seen = new HashSet<>(Set.of(index));
+        ArrayDeque<Integer> queue = new ArrayDeque<>(seen);
+        int smallest = index;
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            smallest = Math.min(smallest, cell);
+            for (int n : neighbours(engine, cell)) {
+                if (!engine.isMine(n) && engine.getAdjacentMines(n) == 0 && seen.add(n)) queue.add(n);
+            }
+        }
+        return smallest;
+    }
+
+    /** Returns a cell and its neighbours. */
+    private static int[] neighbours(BoardEngine engine, int index) {
+        int cols = engine.getCols();
+        int row = index / cols;
+        int col = index % cols;
+        int[] cells = new int[9];
+        int count = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(engine.getRows() - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) cells[count++] = r * cols + c;
+        }
+        return Arrays.copyOf(cells, count);
+    }
+
+    private static int threeBV(long seed) {
+        BoardMetrics metrics = new BoardMetrics();
+        metrics.compute(new BoardEngine(16, 30, 99, seed));
+        return metrics.getThreeBV();
+    }
+}
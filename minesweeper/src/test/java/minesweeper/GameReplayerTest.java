@@ -0,0 +1,172 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that a game recorded with {@link JournalWriter} and replayed headlessly by
+ * {@link GameReplayer} ends in exactly the state of the live game.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class GameReplayerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replayMatchesLiveGame() throws IOException {
+        long seed = 123L;
+        BoardEngine live = new BoardEngine(300, 300, 15_000, seed);
+        Path path = dir.resolve("game.msj");
+        BoardEngine beforeClose;
+        try (JournalWriter writer = new JournalWriter(path, 300, 300, 15_000, seed)) {
+            // Enough moves to grow the journal past its first mapped region.
+            Random random = new Random(5);
+            for (int move = 0; move < 100_000 && !live.isGameOver(); move++) {
+                int index = random.nextInt(live.getCellCount());
+                int kind = random.nextInt(8);
+                if (kind < 2 || live.isMine(index)) {
+                    writer.flag(index);
+                    live.toggleFlag(index);
+                } else if (kind == 2) {
+                    writer.chord(index);
+                    live.chord(index);
+                } else {
+                    writer.reveal(index);
+                    live.reveal(index);
+                }
+            }
+            // The mapped journal is readable before it is closed, as after a crash.
+            beforeClose = GameReplayer.replay(path);
+        }
+        assertSameState(live, beforeClose);
+        assertSameState(live, GameReplayer.replay(path));
+    }
+
+    @Test
+    void lostGameIsReplayedWithItsDelays() throws IOException, InterruptedException {
+        BoardEngine live = new BoardEngine(9, 9, 10, 7L);
+        Path path = dir.resolve("lost.msj");
+        int moves = 0;
+        try (JournalWriter writer = new JournalWriter(path, 9, 9, 10, 7L)) {
+            for (int index = 0; !live.isGameOver(); index++) {
+                writer.reveal(index);
+                live.reveal(index);
+                moves++;
+                Thread.sleep(2);
+            }
+        }
+        assertFalse(live.isWon());
+
+        JournalReader reader = new JournalReader(path);
+        assertEquals(9, reader.getRows());
+        assertEquals(9, reader.getCols());
+        assertEquals(10, reader.getMineCount());
+        assertEquals(7L, reader.getSeed());
+        int read = 0;
+        long delays = 0;
+        while (reader.next()) {
+            assertTrue(reader.isReveal());
+            assertEquals(read, reader.getIndex());
+            delays += reader.getDelayMillis();
+            read++;
+        }
+        assertEquals(moves, read);
+        assertTrue(delays >= 2L * (moves - 1));
+
+        BoardEngine replayed = GameReplayer.replay(path);
+        assertTrue(replayed.isGameOver());
+        assertSameState(live, replayed);
+    }
+
+    @Test
+    void firstClickModeIsRecorded() throws IOException {
+        for (boolean safe : new boolean[] {false, true}) {
+            Path path = dir.resolve("safe-" + safe + ".msj");
+            BoardEngine live = new BoardEngine(16, 30, 99, 77L);
+            live.setFirstClickSafe(safe);
+            int mine = live.getMineIndex(0);
+            try (JournalWriter writer = new JournalWriter(path, 16, 30, 99, 77L, safe)) {
+                writer.reveal(mine);
+                live.reveal(mine);
+                writer.flag(3);
+                live.toggleFlag(3);
+            }
+            JournalReader reader = new JournalReader(path);
+            assertEquals(safe, reader.isFirstClickSafe());
+            assertEquals(safe, reader.createEngine().isFirstClickSafe());
+            assertTrue(reader.next() && reader.isReveal() && reader.getIndex() == mine);
+            assertTrue(reader.next() && reader.isFlag() && reader.getIndex() == 3);
+            assertFalse(reader.next());
+            assertEquals(!safe, live.isGameOver());
+            assertSameState(live, GameReplayer.replay(path));
+        }
+    }
+
+    @Test
+    void readsVersionOneJournals() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64)
+                .putInt(GameJournal.MAGIC)
+                .put((byte) 1)
+                .putInt(9)
+                .putInt(9)
+                .putInt(10)
+                .putLong(42L)
+                .putLong(1000L);
+        GameJournal.putVarint(buffer, (5L << 2) | GameJournal.REVEAL);
+        GameJournal.putVarint(buffer, 7);
+        Path path = dir.resolve("v1.msj");
+        Files.write(path, buffer.array());
+
+        JournalReader reader = new JournalReader(path);
+        assertEquals(42L, reader.getSeed());
+        assertEquals(1000L, reader.getStartMillis());
+        assertFalse(reader.isFirstClickSafe());
+        assertTrue(reader.next());
+        assertTrue(reader.isReveal());
+        assertEquals(5, reader.getIndex());
+        assertEquals(7, reader.getDelayMillis());
+
+        BoardEngine live = new BoardEngine(9, 9, 10, 42L);
+        live.reveal(5);
+        assertSameState(live, GameReplayer.replay(path));
+    }
+
+    @Test
+    void rejectsFilesThatAreNotJournals() throws IOException {
+        Path path = dir.resolve("other.msj");
+        Files.write(path, new byte[64]);
+        assertThrows(IllegalArgumentException.class, () -> new JournalReader(path));
+    }
+
+    /** Asserts that two boards agree cell for cell. */
+    static void assertSameState(BoardEngine expected, BoardEngine actual) {
+        assertEquals(expected.getCellCount(), actual.getCellCount());
+        for (int i = 0; i < expected.getCellCount(); i++) {
+            assertEquals(expected.isMine(i), actual.isMine(i), "mine " + i);
+            assertEquals(expected.isRevealed(i), actual.isRevealed(i), "revealed " + i);
+            assertEquals(expected.isFlagged(i), actual.isFlagged(i), "flagged " + i);
+        }
+        assertEquals(expected.getRevealedCount(), actual.getRevealedCount());
+        assertEquals(expected.getFlagCount(), actual.getFlagCount());
+        assertEquals(expected.isGameOver(), actual.isGameOver());
+        assertEquals(expected.isWon(), actual.isWon());
+    }
+}
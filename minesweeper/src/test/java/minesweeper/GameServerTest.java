@@ -0,0 +1,104 @@
+package minesweeper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the HTTP interface of {@link GameServer} on a local port: moves, error
+ * responses and the eviction of idle sessions.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class GameServerTest {
+
+    private static final long IDLE_MILLIS = 200;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private GameServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new GameServer(0, IDLE_MILLIS);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    void playsMovesOnSessions() throws Exception {
+        HttpResponse<String> created = send("POST", "/games?rows=9&cols=9&mines=10&seed=1");
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().startsWith("{\"id\":1,"), created.body());
+        assertEquals(1, server.getSessionCount());
+
+        BoardEngine reference = new BoardEngine(9, 9, 10, 1L);
+        HttpResponse<String> reveal = send("POST", "/games/1/reveal?row=4&col=4");
+        assertEquals(200, reveal.statusCode());
+        assertTrue(reveal.body().contains("\"outcome\":\"" + reference.reveal(4, 4) + "\""), reveal.body());
+
+        assertEquals(200, send("POST", "/games/1/flag?row=0&col=0").statusCode());
+        assertEquals(200, send("GET", "/games/1").statusCode());
+        assertTrue(send("GET", "/metrics").body().contains("server.sessionsCreated"));
+
+        assertEquals(204, send("DELETE", "/games/1").statusCode());
+        assertEquals(0, server.getSessionCount());
+    }
+
+    @Test
+    void rejectsInvalidRequests() throws Exception {
+        assertEquals(400, send("POST", "/games?rows=9&cols=9&mines=81").statusCode());
+        assertEquals(400, send("POST", "/games?rows=0&cols=9&mines=1").statusCode());
+        assertEquals(400, send("POST", "/games?rows=9&cols=9").statusCode());
+
+        assertEquals(201, send("POST", "/games?rows=9&cols=9&mines=10").statusCode());
+        assertEquals(400, send("POST", "/games/1/reveal?row=40&col=4").statusCode());
+        assertEquals(404, send("POST", "/games/1/jump?row=4&col=4").statusCode());
+        assertEquals(404, send("POST", "/games/77/flag?row=1&col=1").statusCode());
+        assertEquals(404, send("GET", "/games/77").statusCode());
+    }
+
+    @Test
+    void evictsIdleSessions() throws Exception {
+        send("POST", "/games?rows=9&cols=9&mines=10");
+        send("POST", "/games?rows=9&cols=9&mines=10");
+        assertEquals(2, server.getSessionCount());
+
+        Thread.sleep(IDLE_MILLIS / 2);
+        send("POST", "/games/2/reveal?row=0&col=0");
+        Thread.sleep(IDLE_MILLIS / 2 + 50);
+        server.evictIdleSessions();
+        assertEquals(1, server.getSessionCount());
+        assertEquals(404, send("GET", "/games/1").statusCode());
+
+        // The background sweeper evicts the remaining session on its own.
+        long deadline = System.currentTimeMillis() + 10 * IDLE_MILLIS;
+        while (server.getSessionCount() > 0 && System.currentTimeMillis() < deadline) Thread.sleep(20);
+        assertEquals(0, server.getSessionCount());
+    }
+
+    private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
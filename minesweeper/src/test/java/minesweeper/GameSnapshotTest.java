@@ -0,0 +1,109 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests that a board saved and loaded with {@link GameSnapshot} is the same board,
+ * cell for cell, and keeps playing like the original.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class GameSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void loadedBoardMatchesAndKeepsPlaying() throws IOException {
+        BoardEngine engine = new BoardEngine(300, 200, 9000, 77L);
+        Random random = new Random(3);
+        play(engine, random, 20_000);
+
+        Path path = dir.resolve("game.mss");
+        GameSnapshot.save(engine, 77L, path);
+        GameSnapshot snapshot = GameSnapshot.load(path);
+        assertEquals(77L, snapshot.getSeed());
+        BoardEngine restored = snapshot.getEngine();
+        assertSame(engine, restored);
+
+        for (int move = 0; move < 2000 && !engine.isGameOver(); move++) {
+            int index = random.nextInt(engine.getCellCount());
+            if (engine.isMine(index)) {
+                assertEquals(engine.toggleFlag(index), restored.toggleFlag(index));
+            } else {
+                assertEquals(engine.reveal(index), restored.reveal(index));
+            }
+        }
+        assertSame(engine, restored);
+    }
+
+    @Test
+    void finishedGamesKeepTheirState() throws IOException {
+        Path path = dir.resolve("finished.mss");
+        for (long seed = 0; seed < 20; seed++) {
+            BoardEngine engine = new BoardEngine(9, 9, 10, seed);
+            play(engine, new Random(seed), Integer.MAX_VALUE);
+            GameSnapshot.save(engine, seed, path);
+            BoardEngine restored = GameSnapshot.load(path).getEngine();
+            assertSame(engine, restored);
+            assertEquals(BoardEngine.Outcome.IGNORED, restored.reveal(0));
+        }
+    }
+
+    @Test
+    void detectsDamagedFiles() throws IOException {
+        BoardEngine engine = new BoardEngine(16, 30, 99, 5L);
+        play(engine, new Random(5), 50);
+        Path path = dir.resolve("damaged.mss");
+        GameSnapshot.save(engine, 5L, path);
+
+        byte[] bytes = Files.readAllBytes(path);
+        int words = Bits.words(engine.getCellCount());
+        int safe = 0;
+        while (engine.isMine(safe)) safe++;
+        // Flip the revealed bit of a safe cell, which no longer matches the revealed count.
+        int word = GameSnapshot.HEADER_SIZE + (words + safe / 64) * Long.BYTES;
+        bytes[word + 7 - safe % 64 / 8] ^= 1 << safe % 8;
+        Files.write(path, bytes);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.load(path));
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.load(path));
+
+        bytes[0] ^= 1;
+        Files.write(path, bytes);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.load(path));
+    }
+
+    /** Plays random moves, flagging mines instead of revealing them, until the game is over. */
+    private static void play(BoardEngine engine, Random random, int moves) {
+        for (int move = 0; move < moves && !engine.isGameOver(); move++) {
+            int index = random.nextInt(engine.getCellCount());
+            if (engine.isMine(index) && random.nextInt(20) != 0) engine.toggleFlag(index);
+            else engine.reveal(index);
+        }
+    }
+
+    /** Asserts that two boards agree cell for cell. */
+    private static void assertSame(BoardEngine expected, BoardEngine actual) {
+        GameReplayerTest.assertSameState(expected, actual);
+        for (int i = 0; i < expected.getCellCount(); i++) {
+            assertEquals(expected.getAdjacentMines(i), actual.getAdjacentMines(i), "adjacent " + i);
+        }
+    }
+}
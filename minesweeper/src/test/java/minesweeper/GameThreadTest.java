@@ -0,0 +1,166 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the batches {@link GameThread} publishes on the Event Dispatch Thread
+ * add up to the same board as the same moves made synchronously, and that results
+ * of a game that has been reset or stopped never reach the view.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class GameThreadTest {
+
+    /** View that mirrors the published cells and records the batch sizes. */
+    private static final class MirrorView {
+
+        final byte[] cells;
+        int batches;
+        int largestBatch;
+
+        MirrorView(int cellCount) {
+            cells = new byte[cellCount];
+            Arrays.fill(cells, BoardDelta.HIDDEN);
+        }
+
+        void apply(BoardDelta delta) {
+            assertTrue(SwingUtilities.isEventDispatchThread());
+            batches++;
+            largestBatch = Math.max(largestBatch, delta.size());
+            for (int n = 0; n < delta.size(); n++) cells[delta.getIndex(n)] = delta.getState(n);
+        }
+    }
+
+    @Test
+    void batchesMatchSynchronousEngine() throws Exception {
+        int rows = 1000;
+        int cols = 1000;
+        MirrorView view = new MirrorView(rows * cols);
+        GameThread game = new GameThread(view::apply);
+        BoardEngine reference = new BoardEngine(rows, cols, 50_000, 42L);
+        SwingUtilities.invokeAndWait(() -> game.start(new BoardEngine(rows, cols, 50_000, 42L)));
+
+        Random random = new Random(1);
+        for (int move = 0; move < 500 && !reference.isGameOver(); move++) {
+            int index = random.nextInt(rows * cols);
+            if (reference.isMine(index) && random.nextInt(10) != 0) {
+                reference.toggleFlag(index);
+                SwingUtilities.invokeAndWait(() -> game.flag(index));
+            } else {
+                reference.reveal(index);
+                SwingUtilities.invokeAndWait(() -> game.reveal(index));
+            }
+        }
+        awaitView(game, rows * cols);
+
+        for (int i = 0; i < rows * cols; i++) {
+            assertEquals(shownState(reference, i), view.cells[i], "cell " + i);
+        }
+        assertTrue(view.batches > 0);
+    }
+
+    @Test
+    void largeCascadesAreSliced() throws Exception {
+        int rows = 1000;
+        int cols = 1000;
+        MirrorView view = new MirrorView(rows * cols);
+        GameThread game = new GameThread(view::apply);
+        BoardEngine reference = new BoardEngine(rows, cols, 10, 3L);
+        SwingUtilities.invokeAndWait(() -> game.start(new BoardEngine(rows, cols, 10, 3L)));
+
+        int start = 0;
+        while (reference.isMine(start) || reference.getAdjacentMines(start) != 0) start++;
+        reference.reveal(start);
+        assertTrue(reference.getLastOpenedCount() > GameThread.PUBLISH_SLICE);
+        int cell = start;
+        SwingUtilities.invokeAndWait(() -> game.reveal(cell));
+        awaitView(game, rows * cols);
+
+        assertTrue(view.largestBatch <= GameThread.PUBLISH_SLICE);
+        assertTrue(view.batches > 1);
+        for (int i = 0; i < rows * cols; i++) {
+            assertEquals(shownState(reference, i), view.cells[i], "cell " + i);
+        }
+    }
+
+    @Test
+    void resultsOfResetGamesAreDropped() throws Exception {
+        MirrorView view = new MirrorView(16 * 30);
+        GameThread game = new GameThread(view::apply);
+        SwingUtilities.invokeAndWait(() -> {
+            game.start(new BoardEngine(16, 30, 99, 7L));
+            // Both moves are computed, but the reset starts a new generation first on the EDT.
+            game.reveal(0);
+            game.flag(1);
+            game.reset(8L);
+        });
+        awaitView(game, 16 * 30);
+        assertEquals(0, view.batches);
+
+        SwingUtilities.invokeAndWait(() -> game.flag(1));
+        awaitView(game, 16 * 30);
+        assertEquals(1, view.batches);
+        assertEquals(BoardDelta.FLAGGED, view.cells[1]);
+    }
+
+    @Test
+    void stoppedGamesDropTheRestOfACascade() throws Exception {
+        int rows = 1000;
+        int cols = 1000;
+        BoardEngine engine = new BoardEngine(rows, cols, 10, 3L);
+        int start = 0;
+        while (engine.isMine(start) || engine.getAdjacentMines(start) != 0) start++;
+        int cell = start;
+
+        int[] batches = new int[1];
+        GameThread[] holder = new GameThread[1];
+        // The view is abandoned after the first slice, as when switching to Endless.
+        GameThread game = new GameThread(delta -> {
+            batches[0]++;
+            holder[0].stop();
+        });
+        holder[0] = game;
+        SwingUtilities.invokeAndWait(() -> {
+            game.start(engine);
+            game.reveal(cell);
+        });
+        awaitView(game, rows * cols);
+        assertEquals(1, batches[0]);
+
+        SwingUtilities.invokeAndWait(() -> {
+            game.reveal(cell + 1);
+            game.flag(cell + 2);
+        });
+        awaitView(game, rows * cols);
+        assertEquals(1, batches[0]);
+    }
+
+    /** Waits until every queued move has been computed and handed to the view. */
+    private static void awaitView(GameThread game, int cellCount) throws Exception {
+        game.call(engine -> null).join();
+        // A drain reschedules itself once per slice, behind the events queued before it.
+        for (int n = 0; n <= cellCount / GameThread.PUBLISH_SLICE + 1; n++) {
+            SwingUtilities.invokeAndWait(() -> { });
+        }
+    }
+
+    /** Returns the state the view shows for a cell, with hidden mines shown only after the game. */
+    private static byte shownState(BoardEngine engine, int index) {
+        if (engine.isFlagged(index)) return BoardDelta.FLAGGED;
+        if (engine.isMine(index)) return engine.isGameOver() ? BoardDelta.MINE : BoardDelta.HIDDEN;
+        if (engine.isRevealed(index)) return (byte) engine.getAdjacentMines(index);
+        return BoardDelta.HIDDEN;
+    }
+}
@@ -0,0 +1,159 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the lazily generated chunks of {@link InfiniteBoard}: eviction and
+ * restoration must be invisible to the game, and the mine layout must depend on
+ * nothing but the seed.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class InfiniteBoardTest {
+
+    private static final long SEED = 42L;
+    private static final double DENSITY = 0.18;
+    private static final int RADIUS = 200;
+
+    @Test
+    void evictedChunksPlayLikeAnUnlimitedBoard() {
+        InfiniteBoard small = new InfiniteBoard(SEED, DENSITY, 4);
+        InfiniteBoard big = new InfiniteBoard(SEED, DENSITY, 100_000);
+        assertEquals(BoardEngine.Outcome.SAFE, small.reveal(0, 0));
+        assertEquals(BoardEngine.Outcome.SAFE, big.reveal(0, 0));
+
+        Random random = new Random(1);
+        for (int move = 0; move < 10_000; move++) {
+            int x = random.nextInt(2 * RADIUS) - RADIUS;
+            int y = random.nextInt(2 * RADIUS) - RADIUS;
+            if (big.isMine(x, y)) {
+                if (random.nextInt(3) == 0) assertEquals(big.toggleFlag(x, y), small.toggleFlag(x, y));
+                continue;
+            }
+            assertEquals(big.reveal(x, y), small.reveal(x, y));
+            assertEquals(big.getLastOpenedCount(), small.getLastOpenedCount());
+        }
+        assertTrue(small.getLiveChunkCount() <= 4);
+        assertTrue(small.getStoredChunkCount() > 0);
+
+        for (int y = -RADIUS; y < RADIUS; y++) {
+            for (int x = -RADIUS; x < RADIUS; x++) {
+                assertEquals(big.isMine(x, y), small.isMine(x, y));
+                assertEquals(big.isRevealed(x, y), small.isRevealed(x, y), "revealed " + x + "," + y);
+                assertEquals(big.isFlagged(x, y), small.isFlagged(x, y), "flagged " + x + "," + y);
+            }
+        }
+        assertEquals(big.getRevealedCount(), small.getRevealedCount());
+        assertEquals(big.getFlagCount(), small.getFlagCount());
+    }
+
+    @Test
+    void layoutDoesNotDependOnAccessOrder() {
+        InfiniteBoard forward = new InfiniteBoard(SEED, DENSITY);
+        InfiniteBoard backward = new InfiniteBoard(SEED, DENSITY, 2);
+        boolean[] mines = new boolean[4 * RADIUS * RADIUS];
+        int count = 0;
+        for (int y = -RADIUS; y < RADIUS; y++) {
+            for (int x = -RADIUS; x < RADIUS; x++) {
+                mines[(y + RADIUS) * 2 * RADIUS + x + RADIUS] = forward.isMine(x, y);
+            }
+        }
+        for (int y = RADIUS - 1; y >= -RADIUS; y--) {
+            for (int x = RADIUS - 1; x >= -RADIUS; x--) {
+                boolean mine = backward.isMine(x, y);
+                assertEquals(mines[(y + RADIUS) * 2 * RADIUS + x + RADIUS], mine, "mine " + x + "," + y);
+                if (mine) count++;
+            }
+        }
+        assertEquals(DENSITY, count / (double) mines.length, 0.01);
+        assertFalse(sameLayout(forward, new InfiniteBoard(SEED + 1, DENSITY)));
+    }
+
+    @Test
+    void adjacentMinesMatchNeighbours() {
+        InfiniteBoard board = new InfiniteBoard(SEED, DENSITY);
+        int[][] origins = {{0, 0}, {Integer.MAX_VALUE, Integer.MIN_VALUE}, {-InfiniteBoard.CHUNK_SIZE, 5}};
+        for (int[] origin : origins) {
+            for (int dy = -40; dy < 40; dy++) {
+                for (int dx = -40; dx < 40; dx++) {
+                    int x = origin[0] + dx;
+                    int y = origin[1] + dy;
+                    int count = 0;
+                    for (int ny = -1; ny <= 1; ny++) {
+                        for (int nx = -1; nx <= 1; nx++) {
+                            if ((nx | ny) != 0 && board.isMine(x + nx, y + ny)) count++;
+                        }
+                    }
+                    assertEquals(count, board.getAdjacentMines(x, y), "adjacent " + x + "," + y);
+                }
+            }
+        }
+    }
+
+    @Test
+    void originIsSafe() {
+        for (long seed = 0; seed < 100; seed++) {
+            InfiniteBoard board = new InfiniteBoard(seed, 0.5);
+            for (int y = -1; y <= 1; y++) {
+                for (int x = -1; x <= 1; x++) assertFalse(board.isMine(x, y));
+            }
+            assertEquals(BoardEngine.Outcome.SAFE, board.reveal(0, 0));
+        }
+    }
+
+    @Test
+    void queriesDoNotCreateChunks() {
+        InfiniteBoard board = new InfiniteBoard(SEED, DENSITY);
+        for (int i = 0; i < 1000; i++) {
+            board.isRevealed(i * 100, i * 7);
+            board.isFlagged(i, i * 1000);
+            board.isMine(i * 31, -i * 45);
+        }
+        assertEquals(0, board.getLiveChunkCount());
+
+        // After a loss every painted cell asks for its mine; panning must not create chunks.
+        int x = 0;
+        while (!board.isGameOver()) board.reveal(x += 3, 0);
+        int live = board.getLiveChunkCount();
+        for (int pan = 0; pan < 200; pan++) {
+            for (int y = 0; y < 40; y++) {
+                for (int dx = 0; dx < 60; dx++) {
+                    int cx = pan * 40 + dx;
+                    if (board.isMine(cx, y * 7)) continue;
+                    if (board.isRevealed(cx, y * 7)) board.getAdjacentMines(cx, y * 7);
+                    board.isFlagged(cx, y * 7);
+                }
+            }
+        }
+        assertEquals(live, board.getLiveChunkCount());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new InfiniteBoard(SEED, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> new InfiniteBoard(SEED, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new InfiniteBoard(SEED, DENSITY, 0));
+    }
+
+    /** Returns whether two boards have the same mines around the origin. */
+    private static boolean sameLayout(InfiniteBoard a, InfiniteBoard b) {
+        for (int y = -50; y < 50; y++) {
+            for (int x = -50; x < 50; x++) {
+                if (a.isMine(x, y) != b.isMine(x, y)) return false;
+            }
+        }
+        return true;
+    }
+}
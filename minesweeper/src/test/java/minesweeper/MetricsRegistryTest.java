@@ -0,0 +1,75 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the engine counters of the {@link MetricsRegistry} add up to the moves
+ * of the boards that record metrics, and are not touched by any other board.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class MetricsRegistryTest {
+
+    @Test
+    void countersMatchPlayedGames() {
+        long reveals = MetricsRegistry.REVEALS.get();
+        long cells = MetricsRegistry.CELLS_OPENED.get();
+        long wins = MetricsRegistry.WINS.get();
+        long losses = MetricsRegistry.LOSSES.get();
+        long placements = MetricsRegistry.MINE_PLACEMENT.getCount();
+
+        int expectedReveals = 0;
+        int expectedCells = 0;
+        int expectedWins = 0;
+        Random random = new Random(11);
+        int games = 200;
+        for (long seed = 0; seed < games; seed++) {
+            BoardEngine engine = new BoardEngine(9, 9, 10, seed);
+            engine.setMetricsEnabled(true);
+            while (!engine.isGameOver()) {
+                BoardEngine.Outcome outcome = engine.reveal(random.nextInt(engine.getCellCount()));
+                if (outcome == BoardEngine.Outcome.IGNORED) continue;
+                expectedReveals++;
+                expectedCells += engine.getLastOpenedCount();
+            }
+            if (engine.isWon()) expectedWins++;
+        }
+
+        assertEquals(reveals + expectedReveals, MetricsRegistry.REVEALS.get());
+        assertEquals(cells + expectedCells, MetricsRegistry.CELLS_OPENED.get());
+        assertEquals(wins + expectedWins, MetricsRegistry.WINS.get());
+        assertEquals(losses + games - expectedWins, MetricsRegistry.LOSSES.get());
+        // The placements of the constructors are recorded when metrics are enabled.
+        assertEquals(placements + games, MetricsRegistry.MINE_PLACEMENT.getCount());
+    }
+
+    @Test
+    void boardsWithoutMetricsAreNotRecorded() throws InterruptedException {
+        long reveals = MetricsRegistry.REVEALS.get();
+        long wins = MetricsRegistry.WINS.get();
+        long losses = MetricsRegistry.LOSSES.get();
+        long placements = MetricsRegistry.MINE_PLACEMENT.getCount();
+
+        SimulationStats stats = new SimulationRunner(16, 30, 99, 2).run(2000, 1L, MoveStrategy::solverWithGuesses);
+        assertEquals(2000, stats.getGames());
+        BoardEngine engine = new BoardEngine(9, 9, 10, 3L);
+        engine.reveal(0);
+        engine.reset(4L);
+
+        assertEquals(reveals, MetricsRegistry.REVEALS.get());
+        assertEquals(wins, MetricsRegistry.WINS.get());
+        assertEquals(losses, MetricsRegistry.LOSSES.get());
+        assertEquals(placements, MetricsRegistry.MINE_PLACEMENT.getCount());
+        assertTrue(MetricsRegistry.format().contains("engine.reveals"));
+    }
+}
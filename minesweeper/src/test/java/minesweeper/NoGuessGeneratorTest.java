@@ -0,0 +1,133 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that {@link NoGuessGenerator} returns boards a fresh {@link Solver} clears
+ * from the suggested start cell, keeps to its budget with the fallback layout, and
+ * stops its workers when a request is cancelled or the generator is shut down.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class NoGuessGeneratorTest {
+
+    /** A size on which no candidate is ever solved without guessing. */
+    private static final int DENSE_ROWS = 1000;
+    private static final int DENSE_COLS = 1000;
+    private static final int DENSE_MINES = 250_000;
+
+    @Test
+    void hardBoardsAreSolvedFromTheStartCell() {
+        NoGuessGenerator generator = new NoGuessGenerator(16, 30, 99, 4);
+        try {
+            for (long seed = 0; seed < 5; seed++) {
+                NoGuessGenerator.Result result = generator.generate(seed, 10_000);
+                assertTrue(result.isNoGuess(), "seed " + seed);
+
+                BoardEngine engine = new BoardEngine(16, 30, 99, result.getSeed());
+                int start = result.getStartCell();
+                assertFalse(engine.isMine(start));
+                assertEquals(0, engine.getAdjacentMines(start));
+                engine.reveal(start);
+                assertEquals(Solver.Result.SOLVED, new Solver(engine).solve(), "seed " + seed);
+            }
+        } finally {
+            generator.shutdown();
+        }
+    }
+
+    @Test
+    void fallbackIsReturnedWithinTheBudget() {
+        NoGuessGenerator generator = new NoGuessGenerator(DENSE_ROWS, DENSE_COLS, DENSE_MINES, 2);
+        try {
+            long start = System.nanoTime();
+            NoGuessGenerator.Result result = generator.generate(7L, 100);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            assertFalse(result.isNoGuess());
+            assertEquals(SimulationRunner.mix(7L, -1), result.getSeed());
+            BoardEngine engine = new BoardEngine(DENSE_ROWS, DENSE_COLS, DENSE_MINES, result.getSeed());
+            assertEquals(NoGuessGenerator.findStartCell(engine), result.getStartCell());
+            // The budget plus building the fallback board, never a whole candidate search.
+            assertTrue(millis < 100 + 1500, millis + " ms");
+        } finally {
+            generator.shutdown();
+        }
+    }
+
+    @Test
+    void cancellingARequestStopsItsWorkers() throws Exception {
+        NoGuessGenerator generator = new NoGuessGenerator(DENSE_ROWS, DENSE_COLS, DENSE_MINES, 2);
+        try {
+            CompletableFuture<NoGuessGenerator.Result> request = generator.generateAsync(1L, 60_000);
+            awaitWorkers(true);
+            request.cancel(true);
+            awaitWorkers(false);
+            Thread.sleep(200);
+            assertFalse(busyWorkers(), "a worker kept searching");
+        } finally {
+            generator.shutdown();
+        }
+    }
+
+    @Test
+    void shutdownCompletesPendingRequestsWithTheFallback() throws Exception {
+        NoGuessGenerator generator = new NoGuessGenerator(DENSE_ROWS, DENSE_COLS, DENSE_MINES, 2);
+        CompletableFuture<NoGuessGenerator.Result> request = generator.generateAsync(2L, 60_000);
+        awaitWorkers(true);
+        generator.shutdown();
+
+        NoGuessGenerator.Result result = request.get(10, TimeUnit.SECONDS);
+        assertFalse(result.isNoGuess());
+        awaitWorkers(false);
+    }
+
+    @Test
+    void failingWorkersCompleteTheRequestExceptionally() {
+        // More mines than cells: every worker fails to build its first candidate.
+        NoGuessGenerator generator = new NoGuessGenerator(9, 9, 100, 2);
+        try {
+            CompletableFuture<NoGuessGenerator.Result> request = generator.generateAsync(3L, 60_000);
+            ExecutionException error = assertThrows(ExecutionException.class, () -> request.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalArgumentException.class, error.getCause());
+        } finally {
+            generator.shutdown();
+        }
+    }
+
+    /**
+     * Waits until some worker thread is running a search, or until none is.
+     * Idle workers wait for tasks and are not runnable.
+     */
+    private static void awaitWorkers(boolean busy) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (busyWorkers() != busy) {
+            assertTrue(System.nanoTime() < deadline, busy ? "workers did not start" : "workers did not stop");
+            Thread.sleep(10);
+        }
+    }
+
+    private static boolean busyWorkers() {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("no-guess-generator") && thread.getState() == Thread.State.RUNNABLE) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
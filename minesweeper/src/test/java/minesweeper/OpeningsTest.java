@@ -0,0 +1,179 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the union-find labels of {@link Openings} against a breadth-first flood over
+ * the zero cells, and checks that labelling in parallel strips changes nothing.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class OpeningsTest {
+
+    @Test
+    void labelsAndMembersMatchFlood() {
+        int[][] sizes = {{9, 9, 10}, {16, 30, 99}, {60, 80, 600}, {1, 50, 3}, {50, 1, 2}, {7, 7, 48}, {5, 5, 0}};
+        for (int[] size : sizes) {
+            for (long seed = 0; seed < 50; seed++) {
+                BoardEngine engine = new BoardEngine(size[0], size[1], size[2], seed);
+                Openings openings = engine.getOpenings();
+                int cells = engine.getCellCount();
+
+                int[] flood = floodLabels(engine);
+                int count = Arrays.stream(flood).max().orElse(-1) + 1;
+                assertEquals(count, openings.count());
+                assertEquals(count, engine.getOpeningCount());
+
+                // Every flood region must carry one engine label of its own.
+                int[] label = new int[count];
+                Arrays.fill(label, -1);
+                boolean[] used = new boolean[count];
+                boolean[] covered = new boolean[cells];
+                for (int i = 0; i < cells; i++) {
+                    if (flood[i] < 0) {
+                        assertEquals(-1, openings.of(i), "cell " + i);
+                        continue;
+                    }
+                    if (label[flood[i]] < 0) {
+                        label[flood[i]] = openings.of(i);
+                        assertTrue(label[flood[i]] >= 0 && !used[label[flood[i]]], "label of cell " + i);
+                        used[label[flood[i]]] = true;
+                    }
+                    assertEquals(label[flood[i]], openings.of(i), "cell " + i);
+                }
+
+                for (int region = 0; region < count; region++) {
+                    boolean[] members = new boolean[cells];
+                    for (int i = 0; i < cells; i++) {
+                        if (flood[i] == region) markWithNeighbours(engine, i, members);
+                    }
+                    int expected = 0;
+                    for (boolean member : members) if (member) expected++;
+                    int o = label[region];
+                    assertEquals(expected, openings.end(o) - openings.start(o), "members of opening " + o);
+                    for (int m = openings.start(o); m < openings.end(o); m++) {
+                        assertTrue(members[openings.cell(m)], "member " + openings.cell(m) + " of opening " + o);
+                        if (m > openings.start(o)) assertTrue(openings.cell(m - 1) < openings.cell(m));
+                        covered[openings.cell(m)] = true;
+                    }
+                }
+                int coveredCount = 0;
+                for (boolean cell : covered) if (cell) coveredCount++;
+                assertEquals(coveredCount, openings.covered());
+            }
+        }
+    }
+
+    @Test
+    void labelsDoNotDependOnStrips() {
+        for (int t = 0; t < 20; t++) {
+            int rows = 50 + t * 13;
+            int cols = 40 + t * 7;
+            BoardEngine engine = new BoardEngine(rows, cols, rows * cols / (6 + t % 5), t);
+            long[] mines = new long[Bits.words(rows * cols)];
+            byte[] adjacent = new byte[rows * cols];
+            for (int i = 0; i < rows * cols; i++) {
+                if (engine.isMine(i)) Bits.set(mines, i);
+                adjacent[i] = (byte) engine.getAdjacentMines(i);
+            }
+
+            Openings single = new Openings(rows, cols);
+            single.build(mines, adjacent, 1);
+            for (int strips : new int[] {2, 3, 7, rows}) {
+                Openings parallel = new Openings(rows, cols);
+                parallel.build(mines, adjacent, strips);
+                assertEquals(single.count(), parallel.count());
+                assertEquals(single.covered(), parallel.covered());
+                for (int i = 0; i < rows * cols; i++) assertEquals(single.of(i), parallel.of(i));
+                for (int o = 0; o < single.count(); o++) {
+                    assertEquals(single.start(o), parallel.start(o));
+                    assertEquals(single.end(o), parallel.end(o));
+                    for (int m = single.start(o); m < single.end(o); m++) assertEquals(single.cell(m), parallel.cell(m));
+                }
+            }
+        }
+    }
+
+    @Test
+    void threeBVMatchesFlood() {
+        BoardMetrics metrics = new BoardMetrics();
+        for (long seed = 0; seed < 100; seed++) {
+            BoardEngine engine = new BoardEngine(30, 40, 150 + (int) seed * 3, seed);
+            // Half of the boards are measured in play, which must not change the result.
+            if (seed % 2 == 0) engine.reveal((int) seed);
+            int[] flood = floodLabels(engine);
+            boolean[] bordering = new boolean[engine.getCellCount()];
+            int openings = 0;
+            for (int i = 0; i < engine.getCellCount(); i++) {
+                if (flood[i] < 0) continue;
+                openings = Math.max(openings, flood[i] + 1);
+                markWithNeighbours(engine, i, bordering);
+            }
+            int expected = openings;
+            for (int i = 0; i < engine.getCellCount(); i++) {
+                if (!engine.isMine(i) && !bordering[i]) expected++;
+            }
+
+            metrics.compute(engine);
+            assertEquals(openings, metrics.getOpenings());
+            assertEquals(expected, metrics.getThreeBV(), "3BV of seed " + seed);
+        }
+    }
+
+    /**
+     * Labels the zero cells by breadth-first flood, numbering openings from zero;
+     * other cells get {@code -1}.
+     */
+    private static int[] floodLabels(BoardEngine engine) {
+        int rows = engine.getRows();
+        int cols = engine.getCols();
+        int[] labels = new int[engine.getCellCount()];
+        Arrays.fill(labels, -1);
+        int count = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i] >= 0 || !isZero(engine, i)) continue;
+            labels[i] = count;
+            queue.add(i);
+            while (!queue.isEmpty()) {
+                int cell = queue.poll();
+                for (int r = cell / cols - 1; r <= cell / cols + 1; r++) {
+                    for (int c = cell % cols - 1; c <= cell % cols + 1; c++) {
+                        if (r < 0 || r >= rows || c < 0 || c >= cols) continue;
+                        int n = r * cols + c;
+                        if (labels[n] >= 0 || !isZero(engine, n)) continue;
+                        labels[n] = count;
+                        queue.add(n);
+                    }
+                }
+            }
+            count++;
+        }
+        return labels;
+    }
+
+    private static boolean isZero(BoardEngine engine, int index) {
+        return !engine.isMine(index) && engine.getAdjacentMines(index) == 0;
+    }
+
+    /** Marks a cell and its neighbours, which are never mines around a zero cell. */
+    private static void markWithNeighbours(BoardEngine engine, int index, boolean[] marks) {
+        int cols = engine.getCols();
+        for (int r = Math.max(0, index / cols - 1); r <= Math.min(engine.getRows() - 1, index / cols + 1); r++) {
+            for (int c = Math.max(0, index % cols - 1); c <= Math.min(cols - 1, index % cols + 1); c++) {
+                marks[r * cols + c] = true;
+            }
+        }
+    }
+}
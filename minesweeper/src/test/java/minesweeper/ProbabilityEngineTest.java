@@ -0,0 +1,203 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the mine probabilities of {@link ProbabilityEngine} against a brute-force
+ * enumeration of every mine layout consistent with the revealed numbers, the reuse
+ * of solved components after a move, and the approximations of large frontiers.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class ProbabilityEngineTest {
+
+    private static final int ROWS = 5;
+    private static final int COLS = 6;
+    private static final int MINES = 7;
+
+    @Test
+    void probabilitiesMatchEnumeration() {
+        ProbabilityEngine probabilities = new ProbabilityEngine();
+        Random random = new Random(3);
+        int tested = 0;
+        for (long seed = 0; seed < 60; seed++) {
+            BoardEngine engine = new BoardEngine(ROWS, COLS, MINES, seed);
+            for (int n = 0; n < 3 && !engine.isGameOver(); n++) {
+                int index = random.nextInt(engine.getCellCount());
+                if (!engine.isMine(index)) engine.reveal(index);
+            }
+            if (engine.isGameOver()) continue;
+
+            float[] actual = probabilities.update(engine);
+            double[] expected = enumerate(engine);
+            for (int i = 0; i < engine.getCellCount(); i++) {
+                if (engine.isRevealed(i)) continue;
+                assertEquals(expected[i], actual[i], 1e-5, "seed " + seed + " cell " + i);
+                assertEquals(actual[i], probabilities.getProbability(i));
+            }
+            assertTrue(probabilities.isExact());
+            int safest = probabilities.getSafestCell();
+            assertFalse(engine.isRevealed(safest));
+            for (int i = 0; i < engine.getCellCount(); i++) {
+                if (!engine.isRevealed(i)) assertTrue(actual[safest] <= actual[i] + 1e-6);
+            }
+            tested++;
+        }
+        assertTrue(tested > 20);
+    }
+
+    @Test
+    void onlyComponentsTouchedByAMoveAreSolvedAgain() {
+        BoardEngine engine = board(
+                "##.....##",
+                "##*...*##",
+                "##.....##");
+        ProbabilityEngine probabilities = new ProbabilityEngine();
+        probabilities.update(engine);
+        assertEquals(2, probabilities.getComponentCount());
+        assertEquals(2, probabilities.getSolvedCount());
+
+        // The reveal adds a number to the left component only.
+        engine.reveal(engine.index(0, 2));
+        probabilities.update(engine);
+        assertEquals(2, probabilities.getComponentCount());
+        assertEquals(1, probabilities.getSolvedCount());
+        assertTrue(probabilities.isExact());
+
+        // Flags are not trusted, so they change no component.
+        engine.toggleFlag(engine.index(1, 6));
+        probabilities.update(engine);
+        assertEquals(0, probabilities.getSolvedCount());
+    }
+
+    @Test
+    void largeComponentsAreApproximated() {
+        // One row of numbers over a row of hidden cells forms a single long component.
+        int cols = ProbabilityEngine.MAX_COMPONENT_CELLS + 500;
+        StringBuilder numbers = new StringBuilder();
+        StringBuilder chain = new StringBuilder();
+        StringBuilder below = new StringBuilder();
+        for (int c = 0; c < cols; c++) {
+            numbers.append('#');
+            chain.append(c % 3 == 1 ? '*' : '.');
+            below.append('.');
+        }
+        BoardEngine engine = board(numbers.toString(), chain.toString(), below.toString());
+        ProbabilityEngine probabilities = new ProbabilityEngine();
+        probabilities.update(engine);
+        assertEquals(1, probabilities.getComponentCount());
+        assertFalse(probabilities.isExact());
+        assertProbabilities(engine, probabilities);
+    }
+
+    @Test
+    void largeFrontiersAreApproximated() {
+        // Opening every zero cell of a Huge board leaves a frontier far above the exact limit.
+        BoardEngine engine = new BoardEngine(1000, 1000, 150_000, 5L);
+        for (int i = 0; i < engine.getCellCount(); i++) {
+            if (!engine.isMine(i) && engine.getAdjacentMines(i) == 0) engine.reveal(i);
+        }
+        ProbabilityEngine probabilities = new ProbabilityEngine();
+        probabilities.update(engine);
+        assertTrue(probabilities.getComponentCount() > 1);
+        assertFalse(probabilities.isExact());
+        assertProbabilities(engine, probabilities);
+    }
+
+    /** Asserts that every hidden cell has a probability and every revealed cell has none. */
+    private static void assertProbabilities(BoardEngine engine, ProbabilityEngine probabilities) {
+        for (int i = 0; i < engine.getCellCount(); i++) {
+            float p = probabilities.getProbability(i);
+            if (engine.isRevealed(i)) assertEquals(-1, p);
+            else assertTrue(p >= 0 && p <= 1, "cell " + i + ": " + p);
+        }
+    }
+
+    /**
+     * Builds a board from rows of {@code *} for hidden mines, {@code .} for hidden
+     * safe cells and {@code #} for revealed cells.
+     */
+    private static BoardEngine board(String... rows) {
+        int cols = rows[0].length();
+        long[] mines = new long[Bits.words(rows.length * cols)];
+        long[] revealed = new long[mines.length];
+        int mineCount = 0;
+        for (int r = 0; r < rows.length; r++) {
+            for (int c = 0; c < cols; c++) {
+                char ch = rows[r].charAt(c);
+                if (ch == '*') {
+                    Bits.set(mines, r * cols + c);
+                    mineCount++;
+                } else if (ch == '#') {
+                    Bits.set(revealed, r * cols + c);
+                }
+            }
+        }
+        LongBuffer bits = LongBuffer.allocate(3 * mines.length).put(mines).put(revealed).rewind();
+        return BoardEngine.restore(rows.length, cols, mineCount, bits, false, false);
+    }
+
+    /**
+     * Returns the fraction of consistent layouts in which each cell holds a mine,
+     * by visiting every combination of {@link #MINES} hidden cells.
+     */
+    private static double[] enumerate(BoardEngine engine) {
+        int cells = engine.getCellCount();
+        int[] hidden = new int[cells];
+        int hiddenCount = 0;
+        for (int i = 0; i < cells; i++) {
+            if (!engine.isRevealed(i)) hidden[hiddenCount++] = i;
+        }
+
+        double[] counts = new double[cells];
+        double total = 0;
+        int[] combination = new int[MINES];
+        for (int i = 0; i < MINES; i++) combination[i] = i;
+        boolean[] mine = new boolean[cells];
+        while (true) {
+            Arrays.fill(mine, false);
+            for (int k : combination) mine[hidden[k]] = true;
+            boolean consistent = true;
+            for (int i = 0; i < cells && consistent; i++) {
+                if (engine.isRevealed(i) && countAround(mine, i) != engine.getAdjacentMines(i)) consistent = false;
+            }
+            if (consistent) {
+                total++;
+                for (int k : combination) counts[hidden[k]]++;
+            }
+
+            int k = MINES - 1;
+            while (k >= 0 && combination[k] == hiddenCount - MINES + k) k--;
+            if (k < 0) break;
+            combination[k]++;
+            for (int j = k + 1; j < MINES; j++) combination[j] = combination[j - 1] + 1;
+        }
+        for (int i = 0; i < cells; i++) counts[i] /= total;
+        return counts;
+    }
+
+    private static int countAround(boolean[] mine, int index) {
+        int row = index / COLS;
+        int col = index % COLS;
+        int count = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(ROWS - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(COLS - 1, col + 1); c++) {
+                if (mine[r * COLS + c]) count++;
+            }
+        }
+        return count;
+    }
+}
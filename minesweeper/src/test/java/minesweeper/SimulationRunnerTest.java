@@ -0,0 +1,43 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the results of {@link SimulationRunner} depend only on the base seed,
+ * not on the number of worker threads.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class SimulationRunnerTest {
+
+    @Test
+    void resultsDoNotDependOnThreadCount() throws InterruptedException {
+        assertSameResults(MoveStrategy::randomClicks, 16, 30, 99, 3000);
+        assertSameResults(MoveStrategy::solverWithGuesses, 16, 30, 99, 3000);
+        assertSameResults(MoveStrategy::solverWithGuesses, 9, 9, 10, 1001);
+    }
+
+    private static void assertSameResults(Supplier<MoveStrategy> strategy, int rows, int cols, int mines, long games)
+            throws InterruptedException {
+        SimulationStats single = new SimulationRunner(rows, cols, mines, 1).run(games, 17L, strategy);
+        SimulationStats parallel = new SimulationRunner(rows, cols, mines, 4).run(games, 17L, strategy);
+
+        assertEquals(games, single.getGames());
+        assertEquals(single.getGames(), parallel.getGames());
+        assertEquals(single.getWins(), parallel.getWins());
+        assertEquals(single.getMeanMoves(), parallel.getMeanMoves());
+        assertEquals(single.getMeanThreeBV(), parallel.getMeanThreeBV());
+        assertEquals(single.getMeanWonThreeBV(), parallel.getMeanWonThreeBV());
+        assertEquals(single.getMeanFirstOpening(), parallel.getMeanFirstOpening());
+        assertEquals(single.getMaxFirstOpening(), parallel.getMaxFirstOpening());
+    }
+}
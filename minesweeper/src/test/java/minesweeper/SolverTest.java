@@ -0,0 +1,165 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.LongBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the deductions of {@link Solver} on hand-built boards for each of its rules,
+ * and checks on many seeded games that nothing it deduces contradicts the mines.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class SolverTest {
+
+    @Test
+    void singleCellRule() {
+        // The top-left number touches one unknown cell, which must be its mine;
+        // the number below it is then satisfied, so its other neighbours are safe.
+        BoardEngine engine = board(
+                "#*....",
+                "##....",
+                "#....*");
+        Solver solver = new Solver(engine);
+        assertTrue(solver.nextSafeMove() >= 0);
+
+        assertTrue(solver.isKnownMine(engine.index(0, 1)));
+        for (int[] cell : new int[][] {{0, 2}, {1, 2}, {2, 1}, {2, 2}}) {
+            assertTrue(solver.isKnownSafe(engine.index(cell[0], cell[1])), cell[0] + "," + cell[1]);
+        }
+        for (int row = 0; row < 3; row++) {
+            int index = engine.index(row, 3);
+            assertFalse(solver.isKnownSafe(index) || solver.isKnownMine(index), "column 3 is unconstrained");
+        }
+        assertEquals(1, solver.getKnownMineCount());
+    }
+
+    @Test
+    void pairRule() {
+        // Each number alone needs one mine among two or three cells; only the pairs
+        // of neighbouring numbers place the mine and clear the cells around it.
+        BoardEngine engine = board(
+                "##....",
+                "##*...",
+                "##...*");
+        Solver solver = new Solver(engine);
+        int move = solver.nextSafeMove();
+        assertTrue(move == engine.index(0, 2) || move == engine.index(2, 2));
+
+        assertTrue(solver.isKnownSafe(engine.index(0, 2)));
+        assertTrue(solver.isKnownSafe(engine.index(2, 2)));
+        assertTrue(solver.isKnownMine(engine.index(1, 2)));
+        assertEquals(1, solver.getKnownMineCount());
+    }
+
+    @Test
+    void globalMineCountRule() {
+        // Cells 2 to 4 touch no number; they are safe only because the one mine is known.
+        Solver solver = new Solver(board("#*..."));
+        assertEquals(2, solver.nextSafeMove());
+        assertTrue(solver.isKnownSafe(4));
+        assertEquals(Solver.Result.SOLVED, solver.solve());
+
+        // With a second mine somewhere among them, the next move is a guess.
+        solver = new Solver(board("#*..*"));
+        assertEquals(-1, solver.nextSafeMove());
+        assertTrue(solver.isKnownMine(1));
+        assertEquals(3, solver.getUnknownCount());
+        assertEquals(Solver.Result.GUESS_NEEDED, solver.solve());
+
+        // A board without mines is solved from nothing.
+        assertEquals(Solver.Result.SOLVED, new Solver(new BoardEngine(4, 5, 0, 1L)).solve());
+    }
+
+    @Test
+    void deductionsNeverContradictTheMines() {
+        Random random = new Random(11);
+        for (long seed = 0; seed < 200; seed++) {
+            BoardEngine engine = new BoardEngine(16, 30, 99, seed);
+            Solver solver = new Solver(engine);
+            while (!engine.isGameOver()) {
+                Solver.Result result = solver.solve();
+                assertNotEquals(Solver.Result.LOST, result, "seed " + seed);
+                assertConsistent(engine, solver, seed);
+                if (result == Solver.Result.SOLVED) break;
+                // Guess like a player who is lucky: reveal a random unknown safe cell.
+                int guess;
+                do {
+                    guess = random.nextInt(engine.getCellCount());
+                } while (engine.isMine(guess) || solver.isKnownSafe(guess));
+                solver.reveal(guess);
+            }
+            assertTrue(engine.isWon(), "seed " + seed);
+        }
+    }
+
+    @Test
+    void attachReusesTheSolverAcrossSizes() {
+        int[][] sizes = {{9, 9, 10}, {16, 30, 99}, {9, 9, 10}, {1, 1, 0}, {30, 16, 99}, {16, 30, 99}};
+        Solver reused = null;
+        for (int n = 0; n < sizes.length; n++) {
+            int[] size = sizes[n];
+            BoardEngine first = new BoardEngine(size[0], size[1], size[2], n);
+            BoardEngine second = new BoardEngine(size[0], size[1], size[2], n);
+            int start = 0;
+            while (first.isMine(start)) start++;
+            first.reveal(start);
+            second.reveal(start);
+
+            if (reused == null) reused = new Solver(first);
+            else reused.attach(first);
+            Solver fresh = new Solver(second);
+            assertEquals(fresh.solve(), reused.solve(), "board " + n);
+            for (int i = 0; i < first.getCellCount(); i++) {
+                assertEquals(second.isRevealed(i), first.isRevealed(i), "revealed " + i + " of board " + n);
+                assertEquals(fresh.isKnownMine(i), reused.isKnownMine(i), "mine " + i + " of board " + n);
+                assertEquals(fresh.isKnownSafe(i), reused.isKnownSafe(i), "safe " + i + " of board " + n);
+            }
+            assertEquals(fresh.getUnknownCount(), reused.getUnknownCount());
+        }
+    }
+
+    /** Asserts that every cell the solver has resolved matches the board. */
+    private static void assertConsistent(BoardEngine engine, Solver solver, long seed) {
+        for (int i = 0; i < engine.getCellCount(); i++) {
+            if (solver.isKnownMine(i)) assertTrue(engine.isMine(i), "seed " + seed + " known mine " + i);
+            if (solver.isKnownSafe(i)) assertFalse(engine.isMine(i), "seed " + seed + " known safe " + i);
+        }
+    }
+
+    /**
+     * Builds a board from rows of {@code *} for hidden mines, {@code .} for hidden
+     * safe cells and {@code #} for revealed cells.
+     */
+    private static BoardEngine board(String... rows) {
+        int cols = rows[0].length();
+        int cells = rows.length * cols;
+        long[] mines = new long[Bits.words(cells)];
+        long[] revealed = new long[mines.length];
+        int mineCount = 0;
+        for (int r = 0; r < rows.length; r++) {
+            for (int c = 0; c < cols; c++) {
+                char ch = rows[r].charAt(c);
+                if (ch == '*') {
+                    Bits.set(mines, r * cols + c);
+                    mineCount++;
+                } else if (ch == '#') {
+                    Bits.set(revealed, r * cols + c);
+                }
+            }
+        }
+        LongBuffer bits = LongBuffer.allocate(3 * mines.length).put(mines).put(revealed).rewind();
+        return BoardEngine.restore(rows.length, cols, mineCount, bits, false, false);
+    }
+}
@@ -0,0 +1,163 @@
+package minesweeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the diff-based output of {@link TerminalGame}: its frames are replayed into
+ * a virtual terminal, which must show the state of the engine after every move.
+ *
+ * @author
+ *     Zoran Juras
+ * @version
+ *     1.6.0
+ * @since
+ *     2026-10-17
+ */
+class TerminalGameTest {
+
+    private static final int TERM_ROWS = 50;
+    private static final int TERM_COLS = 200;
+
+    /**
+     * A terminal that understands the cursor, erase and color sequences written by
+     * the game. Colors are ignored.
+     */
+    private static final class VirtualScreen {
+
+        final char[][] cells = new char[TERM_ROWS + 1][TERM_COLS + 1];
+        int row = 1;
+        int col = 1;
+
+        VirtualScreen() {
+            for (char[] line : cells) Arrays.fill(line, ' ');
+        }
+
+        void apply(byte[] bytes) {
+            String text = new String(bytes, StandardCharsets.UTF_8);
+            for (int i = 0; i < text.length(); i++) {
+                char ch = text.charAt(i);
+                if (ch != '\u001B') {
+                    if (row <= TERM_ROWS && col <= TERM_COLS) cells[row][col] = ch;
+                    col++;
+                    continue;
+                }
+                int end = i + 2;
+                while (!Character.isLetter(text.charAt(end))) end++;
+                String args = text.substring(i + 2, end);
+                switch (text.charAt(end)) {
+                    case 'H' -> {
+                        String[] position = args.split(";");
+                        row = Integer.parseInt(position[0]);
+                        col = Integer.parseInt(position[1]);
+                    }
+                    case 'J' -> {
+                        for (char[] line : cells) Arrays.fill(line, ' ');
+                    }
+                    case 'K' -> Arrays.fill(cells[row], ' ');
+                    case 'm' -> { }
+                    default -> throw new AssertionError("Unexpected sequence: " + text.charAt(end));
+                }
+                i = end;
+            }
+        }
+
+        /** Returns the glyph of a board cell shown at the given viewport position. */
+        char cell(int labelWidth, int viewRow, int viewCol) {
+            return cells[3 + viewRow][labelWidth + 1 + viewCol * 2];
+        }
+    }
+
+    @Test
+    void framesKeepTheScreenInStepWithTheEngine() throws Exception {
+        MineField field = new MineField(1000, 1000, 150_000, 3L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TerminalGame game = new TerminalGame(field, TERM_ROWS, TERM_COLS, out);
+        VirtualScreen screen = new VirtualScreen();
+
+        game.drawAll("start");
+        int fullFrame = game.getLastFrameBytes();
+        screen.apply(drain(out));
+        assertScreen(screen, field.getEngine(), 0, 0);
+
+        Random random = new Random(1);
+        long total = 0;
+        int moves = 0;
+        for (int n = 0; n < 300 && !field.isGameOver(); n++) {
+            int row = random.nextInt(TERM_ROWS - 3);
+            int col = random.nextInt(96);
+            if (field.isRevealed(row, col)) continue;
+            game.move(field.isMine(row, col) ? 'f' : 'r', row, col);
+            total += game.getLastFrameBytes();
+            moves++;
+            screen.apply(drain(out));
+            assertScreen(screen, field.getEngine(), 0, 0);
+        }
+        // A move costs output proportional to the cells it changed, not the whole view.
+        assertTrue(total / moves < fullFrame / 10, "mean frame " + total / moves + " of " + fullFrame);
+
+        game.scrollTo(500, 600);
+        screen.apply(drain(out));
+        assertScreen(screen, field.getEngine(), 500, 600);
+        game.move('r', 510, 610);
+        screen.apply(drain(out));
+        assertScreen(screen, field.getEngine(), 500, 600);
+    }
+
+    @Test
+    void lostGamesShowTheMines() throws Exception {
+        MineField field = new MineField(16, 30, 99, 9L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TerminalGame game = new TerminalGame(field, TERM_ROWS, TERM_COLS, out);
+        VirtualScreen screen = new VirtualScreen();
+        game.drawAll("start");
+
+        Random random = new Random(2);
+        while (!field.isGameOver()) {
+            int row = random.nextInt(16);
+            int col = random.nextInt(30);
+            game.move(random.nextInt(5) == 0 ? 'f' : random.nextInt(4) == 0 ? 'c' : 'r', row, col);
+        }
+        screen.apply(out.toByteArray());
+        assertScreen(screen, field.getEngine(), 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> game.move('r', 16, 0));
+        assertThrows(IllegalArgumentException.class, () -> game.move('x', 0, 0));
+    }
+
+    private static byte[] drain(ByteArrayOutputStream out) {
+        byte[] bytes = out.toByteArray();
+        out.reset();
+        return bytes;
+    }
+
+    /** Asserts that every cell in the viewport shows the engine's state. */
+    private static void assertScreen(VirtualScreen screen, BoardEngine engine, int top, int left) {
+        int labelWidth = Integer.toString(engine.getRows() - 1).length() + 1;
+        int viewRows = Math.min(engine.getRows(), TERM_ROWS - 3);
+        int viewCols = Math.min(engine.getCols(), (TERM_COLS - labelWidth) / 2);
+        for (int r = 0; r < viewRows; r++) {
+            for (int c = 0; c < viewCols; c++) {
+                int index = engine.index(top + r, left + c);
+                assertEquals(glyph(engine, index), screen.cell(labelWidth, r, c), "cell " + (top + r) + "," + (left + c));
+            }
+        }
+    }
+
+    private static char glyph(BoardEngine engine, int index) {
+        if (engine.isRevealed(index) && !engine.isMine(index)) {
+            int count = engine.getAdjacentMines(index);
+            return count == 0 ? ' ' : (char) ('0' + count);
+        }
+        if (engine.isGameOver() && engine.isMine(index)) return '*';
+        return engine.isFlagged(index) ? 'F' : '.';
+    }
+}
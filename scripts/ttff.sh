@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+#
+# Measures the startup of the game: the time from launching the JVM until the
+# frame is shown (time to first frame) and until the first board is shown.
+# Every configuration is started several times and the medians are reported,
+# once without and, if minesweeper/target/minesweeper.jsa exists (mvn -Pcds
+# package), once with the AppCDS archive. Without a display the script runs
+# itself under Xvfb.
+#
+# Usage: scripts/ttff.sh [runs] [limit-ms]
+#
+# With a limit, the script fails when the median time to first frame of the
+# last configuration exceeds it, so it can catch startup regressions in CI.
+
+set -euo pipefail
+
+script="$(cd "$(dirname "$0")" && pwd)/$(basename "$0")"
+cd "$(dirname "$script")/.."
+
+if [ -z "${DISPLAY:-}" ]; then
+    if ! command -v xvfb-run > /dev/null; then
+        echo "No display and no xvfb-run found" >&2
+        exit 2
+    fi
+    exec xvfb-run -a "$script" "$@"
+fi
+
+runs=${1:-10}
+limit=${2:-0}
+java="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+jar=minesweeper/target/minesweeper-1.6.0.jar
+archive=minesweeper/target/minesweeper.jsa
+
+if [ ! -f "$jar" ]; then
+    echo "Build the game first: mvn -B package" >&2
+    exit 2
+fi
+
+# Prints the median of its arguments.
+median() {
+    printf '%s\n' "$@" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+# Starts the game $runs times with the given JVM options and prints the median
+# milliseconds to the frame and to the first board.
+measure() {
+    local frames=() boards=() start out
+    for ((i = 0; i < runs; i++)); do
+        start=$(date +%s%3N)
+        out=$("$java" "$@" -Dminesweeper.startup.exit=true -jar "$jar")
+        frames+=($(($(sed -n 's/^frame //p' <<< "$out") - start)))
+        boards+=($(($(sed -n 's/^board //p' <<< "$out") - start)))
+    done
+    echo "$(median "${frames[@]}") $(median "${boards[@]}")"
+}
+
+# One unmeasured start brings the JDK and the jar into the file cache.
+"$java" -Dminesweeper.startup.exit=true -jar "$jar" > /dev/null
+
+read -r frame board < <(measure)
+echo "default:     first frame ${frame} ms, first board ${board} ms (median of ${runs})"
+
+if [ -f "$archive" ]; then
+    read -r frame board < <(measure -XX:SharedArchiveFile="$archive")
+    echo "AppCDS:      first frame ${frame} ms, first board ${board} ms (median of ${runs})"
+fi
+
+if [ "$limit" -gt 0 ] && [ "$frame" -gt "$limit" ]; then
+    echo "Time to first frame of ${frame} ms exceeds the limit of ${limit} ms" >&2
+    exit 1
+fi
@@ -1,6 +0,0 @@
-public class App {
-
-    public static void main(String[] args) {
-        new Minesweeper();
-    }
-}